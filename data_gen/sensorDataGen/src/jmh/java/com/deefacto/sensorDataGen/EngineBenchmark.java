@@ -0,0 +1,63 @@
+package com.deefacto.sensorDataGen;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 엔진 전체 처리량: 5개 센서 타입 x zones개 zone x zone당 센서 4개를 10분(시뮬레이션 시간)씩 생성
+// 결과의 rows 항목이 초당 생성 행 수 (출력 비용 제외, NullSink)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EngineBenchmark {
+    private static final int SECONDS = 600;
+    private static final int SENSORS_PER_ZONE = 4;
+
+    @Param({"10", "100", "1000"})
+    public int zones;
+
+    private SensorSimulationEngine engine;
+    private List<SensorGenerator> generators;
+
+    // 반복(iteration)마다 생성한 행 수
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Rows {
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        generators = SensorSimulationEngine.generators(SensorFleet.synthetic(zones, SENSORS_PER_ZONE), RandomSource.of(42));
+        engine = new SensorSimulationEngine(generators, Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        engine.close();
+    }
+
+    @Benchmark
+    public void generate(Rows rows) throws IOException {
+        engine.run(new SimulationClock(LocalDateTime.of(2025, 7, 15, 9, 32, 0), SECONDS), new NullSink());
+        rows.rows += (long) SECONDS * 5 * zones * SENSORS_PER_ZONE;
+    }
+}
@@ -0,0 +1,63 @@
+package com.deefacto.sensorDataGen;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+// 센서 타입별 zone 1초 갱신(tickZone) 비용: 결과 단위는 zone-tick/s (zone당 센서 4개)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ZoneTickBenchmark {
+    private static final int ZONES = 256;
+    private static final int SENSORS_PER_ZONE = 4;
+    private static final LocalDateTime START = LocalDateTime.of(2025, 7, 15, 9, 32, 0);
+
+    @Param({"temperature", "humidity", "esd", "windDir", "particle"})
+    public String sensorType;
+
+    @Param({"false", "true"})
+    public boolean skipAhead;
+
+    private AnomalySensorGenerator generator;
+    private long second;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SensorFleet fleet = SensorFleet.builder()
+                .add(sensorType, "S-0001..S-" + String.format("%04d", ZONES * SENSORS_PER_ZONE),
+                        "Z001..Z" + String.format("%03d", ZONES))
+                .build();
+        generator = (AnomalySensorGenerator) SensorSimulationEngine.generators(fleet, RandomSource.of(42)).get(0);
+        generator.skipAhead(skipAhead);
+        generator.open(START, new NullSink());
+        second = START.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        generator.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ZONES)
+    public void tickAllZones() throws IOException {
+        long t = second++;
+        for (int z = 0; z < ZONES; z++) {
+            generator.tickZone(z, t);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.deefacto.sensorDataGen.join;
+
+import com.deefacto.sensorDataGen.Sensor;
+import com.deefacto.sensorDataGen.output.FileChannelSink;
+import com.deefacto.sensorDataGen.output.ZoneWriter;
+import com.deefacto.sensorDataGen.particle.ParticleCsvGenerator;
+import com.deefacto.sensorDataGen.temperature.TempCsvGenerator;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// 센서 CSV 읽기 처리량: Data/<type>/<센서>.csv 파일 하나(하루치 86,400행)를 처음부터 끝까지 파싱
+// - generic: BufferedReader + split + Instant.parse + Double.parseDouble (필드마다 String 생성)
+// - mapped: SensorCsvReader (memory-map, byte 단위 파싱, 기본형 배열)
+// 결과의 bytes 항목이 초당 읽은 byte 수 (파일은 page cache에 올라간 상태)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SensorCsvReaderBenchmark {
+    private static final int ROWS = 86_400;
+    private static final long T0 = 1752571920L; // 2025-07-15T09:32:00Z
+
+    @Param({"temperature", "particle"})
+    public String sensorType;
+
+    private Path dir;
+    private Path file;
+    private long fileBytes;
+
+    // 반복(iteration)마다 읽은 byte 수
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("csv-bench");
+        SplittableRandom random = new SplittableRandom(42);
+        try (FileChannelSink sink = new FileChannelSink(dir)) {
+            if (sensorType.equals("particle")) {
+                ZoneWriter writer = sink.openZone(ParticleCsvGenerator.SPEC, List.of(new Sensor("particle", "LPM-001", "A")));
+                for (int i = 0; i < ROWS; i++) {
+                    writer.write(0, T0 + i, random.nextInt(1000), random.nextInt(1000), random.nextInt(1000));
+                }
+                file = dir.resolve("particle/LPM-001.csv");
+            } else {
+                ZoneWriter writer = sink.openZone(TempCsvGenerator.SPEC, List.of(new Sensor("temperature", "TEMP-001", "A")));
+                for (int i = 0; i < ROWS; i++) writer.write(0, T0 + i, 1500 + random.nextInt(1500));
+                file = dir.resolve("temperature/TEMP-001.csv");
+            }
+        }
+        fileBytes = Files.size(file);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> walk = Files.walk(dir)) {
+            walk.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public double generic(Bytes counter) throws IOException {
+        double sum = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(",");
+                sum += Instant.parse(fields[0]).getEpochSecond();
+                for (int c = 4; c < fields.length; c++) sum += Double.parseDouble(fields[c]);
+            }
+        }
+        counter.bytes += fileBytes;
+        return sum;
+    }
+
+    @Benchmark
+    public double mapped(Bytes counter) throws IOException {
+        SensorCsvReader.Series series = SensorCsvReader.read(file);
+        counter.bytes += fileBytes;
+        return series.epochSeconds[series.size - 1] + series.values[series.values.length - 1];
+    }
+}
@@ -0,0 +1,67 @@
+package com.deefacto.sensorDataGen.mes;
+
+import com.deefacto.sensorDataGen.RandomSource;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// MES 스케줄러 처리량: 기본 공정(A 18대, B 24대, C 7대)의 장비 수를 scale배로 늘리고 제품도 같은 비율로 늘려
+// 공장 부하(장비당 대기 제품 수)를 유지한 채 배치 하나를 시뮬레이션 (출력 비용 제외)
+// 결과의 records 항목이 초당 작업 기록 수: 장비 수가 늘어도 거의 일정해야 한다 (장비 조회 O(log 장비 수))
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MesSchedulerBenchmark {
+    private static final int PRODUCTS_PER_SCALE = 2000;
+
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    private MesSimulator simulator;
+    private int products;
+
+    // 반복(iteration)마다 만든 작업 기록 수
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Records {
+        public long records;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            records = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<ProcessStage> stages = new ArrayList<>();
+        for (ProcessStage stage : ProcessStage.defaults()) {
+            List<String> machines = new ArrayList<>();
+            for (int i = 0; i < stage.machineCount() * scale; i++) {
+                machines.add(String.format("%s-%05d", stage.name, i));
+            }
+            stages.add(new ProcessStage(stage.name, stage.process, machines, stage.minMicros, stage.maxMicros,
+                    stage.good, stage.bad, stage.rework));
+        }
+        products = PRODUCTS_PER_SCALE * scale;
+        simulator = new MesSimulator(stages, RandomSource.of(42), products);
+    }
+
+    @Benchmark
+    public MesBatch simulate(Records records) {
+        MesBatch batch = simulator.simulate(0, 0, products);
+        records.records += batch.records();
+        return batch;
+    }
+}
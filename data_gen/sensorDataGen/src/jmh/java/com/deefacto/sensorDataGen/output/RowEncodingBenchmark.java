@@ -0,0 +1,86 @@
+package com.deefacto.sensorDataGen.output;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+// CSV 한 행 인코딩 비용 (온도 센서 행, 4개 센서가 같은 초를 공유)
+// - stringFormat: 처음 생성기의 String.format + DateTimeFormatter 경로
+// - stringBuilder: DateTimeFormatter 결과를 초마다 캐시하고 StringBuilder로 조립
+// - rowEncoder: CsvRowEncoder (byte 버퍼에 직접 인코딩)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RowEncodingBenchmark {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+    private static final String[] SENSOR_IDS = {"TEMP-001", "TEMP-002", "TEMP-003", "TEMP-004"};
+    private static final long START = LocalDateTime.of(2025, 7, 15, 9, 32, 0).toEpochSecond(ZoneOffset.UTC);
+
+    private final CsvRowEncoder encoder = new CsvRowEncoder();
+    private final byte[][] fields = new byte[SENSOR_IDS.length][];
+    private final StringBuilder line = new StringBuilder(64);
+    private long row;
+    private long cachedSecond = Long.MIN_VALUE;
+    private String cachedTimestamp;
+
+    public RowEncodingBenchmark() {
+        for (int i = 0; i < SENSOR_IDS.length; i++) {
+            fields[i] = CsvRowEncoder.fields("temperature", SENSOR_IDS[i], "°C");
+        }
+    }
+
+    // 다음 행의 (초, 센서, 값): 센서 4개마다 1초 진행, 값은 20.00 ~ 22.00
+    private long second() {
+        return START + row / SENSOR_IDS.length;
+    }
+
+    private long value() {
+        return 2000 + (row * 25) % 200;
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        long t = second();
+        int sensor = (int) (row % SENSOR_IDS.length);
+        double v = value() / 100.0;
+        row++;
+        return String.format("%s,temperature,%s,°C,%.2f\n",
+                LocalDateTime.ofEpochSecond(t, 0, ZoneOffset.UTC).format(FORMATTER), SENSOR_IDS[sensor], v);
+    }
+
+    @Benchmark
+    public int stringBuilder() {
+        long t = second();
+        int sensor = (int) (row % SENSOR_IDS.length);
+        long v = value();
+        row++;
+        if (t != cachedSecond) {
+            cachedTimestamp = LocalDateTime.ofEpochSecond(t, 0, ZoneOffset.UTC).format(FORMATTER);
+            cachedSecond = t;
+        }
+        line.setLength(0);
+        line.append(cachedTimestamp).append(",temperature,").append(SENSOR_IDS[sensor]).append(",°C,")
+                .append(v / 100).append('.');
+        long frac = v % 100;
+        if (frac < 10) line.append('0');
+        line.append(frac).append('\n');
+        return line.length();
+    }
+
+    @Benchmark
+    public int rowEncoder() {
+        long t = second();
+        int sensor = (int) (row % SENSOR_IDS.length);
+        long v = value();
+        row++;
+        return encoder.encode(t, fields[sensor], v, 2);
+    }
+}
@@ -0,0 +1,173 @@
+package com.deefacto.sensorDataGen.output;
+
+import com.deefacto.sensorDataGen.Sensor;
+import com.deefacto.sensorDataGen.SensorSpec;
+import com.deefacto.sensorDataGen.particle.ParticleCsvGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// 출력 처리량: zone 10개 x 센서 4개의 1시간치 행(144,000행)을 새 디렉토리에 쓰고 닫기까지, 결과 단위는 행/s
+// - fileWriter: 처음 생성기 방식 (센서별 FileWriter + String.format)
+// - rolling: RollingFileSink (CSV, 백그라운드 I/O)
+// - fileChannel: FileChannelSink (CSV, direct ByteBuffer)
+// - columnar: ColumnarFileSink (.scol)
+// 행 모양(shape): temperature (값 1개), particle (미세먼지 값 3개)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SinkBenchmark {
+    private static final int ZONES = 10;
+    private static final int SENSORS_PER_ZONE = 4;
+    private static final int SECONDS = 3600;
+    private static final int ROWS = ZONES * SENSORS_PER_ZONE * SECONDS;
+    private static final SensorSpec SPEC = new SensorSpec("temperature", "°C", 2, "temperature", "temp_data",
+            "sensor_temp_stream", "val");
+    private static final SensorSpec PARTICLE = ParticleCsvGenerator.SPEC;
+    private static final long START = LocalDateTime.of(2025, 7, 15, 9, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    @Param({"fileWriter", "rolling", "fileChannel", "columnar"})
+    public String sink;
+
+    @Param({"temperature", "particle"})
+    public String shape;
+
+    private SensorSpec spec;
+    private List<Sensor> sensors;
+    private Path dir;
+
+    @Setup
+    public void selectShape() {
+        spec = shape.equals("particle") ? PARTICLE : SPEC;
+        sensors = shape.equals("particle")
+                ? Sensor.grid("particle", "LPM", ZONES, SENSORS_PER_ZONE)
+                : Sensor.grid("temperature", "TEMP", ZONES, SENSORS_PER_ZONE);
+    }
+
+    @Setup(Level.Invocation)
+    public void createDir() throws IOException {
+        dir = Files.createTempDirectory("sink-bench");
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteDir() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path p : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(p);
+            }
+        }
+    }
+
+    private SensorSink open() {
+        switch (sink) {
+            case "fileWriter":
+                return new FileWriterSink(dir);
+            case "rolling":
+                return new RollingFileSink(dir);
+            case "fileChannel":
+                return new FileChannelSink(dir);
+            case "columnar":
+                return new ColumnarFileSink(dir);
+            default:
+                throw new IllegalArgumentException(sink);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void writeHour() throws IOException {
+        try (SensorSink out = open()) {
+            ZoneWriter[] writers = new ZoneWriter[ZONES];
+            for (int z = 0; z < ZONES; z++) {
+                writers[z] = out.openZone(spec, sensors.subList(z * SENSORS_PER_ZONE, (z + 1) * SENSORS_PER_ZONE));
+            }
+            for (int i = 0; i < SECONDS; i++) {
+                for (int z = 0; z < ZONES; z++) {
+                    for (int s = 0; s < SENSORS_PER_ZONE; s++) {
+                        long v = 2000 + ((i + s) * 25) % 200;
+                        if (spec.channels() == 1) {
+                            writers[z].write(s, START + i, v);
+                        } else {
+                            writers[z].write(s, START + i, v, v / 2, v / 4);
+                        }
+                    }
+                }
+            }
+            for (ZoneWriter writer : writers) writer.close();
+        }
+    }
+
+    // 처음 생성기의 출력 방식: 센서별 FileWriter에 String.format 행
+    static final class FileWriterSink implements SensorSink {
+        private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+        private final Path dir;
+
+        FileWriterSink(Path dir) {
+            this.dir = dir;
+        }
+
+        @Override
+        public ZoneWriter openZone(SensorSpec spec, List<Sensor> sensors) throws IOException {
+            FileWriter[] writers = new FileWriter[sensors.size()];
+            for (int i = 0; i < writers.length; i++) {
+                writers[i] = new FileWriter(dir.resolve(sensors.get(i).sensorId + ".csv").toFile());
+                writers[i].write(spec.header());
+            }
+            // 값은 scale 자리 소수로 (예: scale 2 -> %.2f)
+            String number = "%." + spec.scale + "f";
+            String single = "%s,%s,%s,%s," + number + "\n";
+            String triple = "%s,%s,%s,%s," + number + "," + number + "," + number + "\n";
+            double divisor = Math.pow(10, spec.scale);
+            return new ZoneWriter() {
+                @Override
+                public void write(int sensor, long epochSecond, long value) throws IOException {
+                    writers[sensor].write(String.format(single,
+                            LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC).format(FORMATTER),
+                            spec.sensorType, sensors.get(sensor).sensorId, spec.unit, value / divisor));
+                }
+
+                @Override
+                public void write(int sensor, long epochSecond, long v0, long v1, long v2) throws IOException {
+                    writers[sensor].write(String.format(triple,
+                            LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC).format(FORMATTER),
+                            spec.sensorType, sensors.get(sensor).sensorId, spec.unit,
+                            v0 / divisor, v1 / divisor, v2 / divisor));
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    for (FileWriter w : writers) w.flush();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    for (FileWriter w : writers) w.close();
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.deefacto.sensorDataGen;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 센서 타입별 이상치 상태 머신 파라미터 (AnomalySensorGenerator가 사용)
+// NORMAL: 정상 범위 안에서 랜덤 변화 (walkTowardProb 확률로 정상값 쪽으로), outProb 확률로 스파이크 시작
+// SPIKING: curve를 따라 spikeDuration step 동안 목표값으로 이동
+// HOLDING: 목표값을 holdDuration step 유지 (0이면 건너뜀)
+// OUT_OF_RANGE: 범위 밖 채널만 recoverTowardProb 확률로 정상값 쪽, 나머지는 반대쪽으로 이동, 모든 채널이 범위 안이면 NORMAL
+// 값 범위는 모두 양 끝 포함. 채널별 값은 Channel로 지정
+public final class AnomalyProfile {
+    final int channels;
+    final boolean integer; // 정수 값 센서 (랜덤 변화량/목표값을 정수로 뽑고 곡선 값은 버림)
+    final double quantum; // 실수 값 센서의 출력 단위 (예: 0.25 -> 21.25, 21.5)
+    final double walkTowardProb;
+    final double outProb;
+    final int spikeDuration;
+    final int holdDuration;
+    final SpikeCurve curve;
+    final double[] spikeFractions; // curve.table(spikeDuration): step별 진행 비율
+    final boolean bidirectional; // 스파이크 방향(상승/하강)을 랜덤으로 정함 (모든 채널에 spikeLow가 있을 때)
+    final double recoverTowardProb;
+    final boolean clampReadings; // 센서 값이 min 아래면 min, NORMAL 상태에서 max 위면 overflowTo로 보정
+    // 채널별 값
+    final double[] normal, min, max, initial, overflowTo;
+    final double[] walkMin, walkMax;
+    final double[] spikeLowMin, spikeLowMax, spikeHighMin, spikeHighMax;
+    final double[] towardMin, towardMax, awayMin, awayMax;
+    final double[] noiseMin, noiseMax;
+
+    private AnomalyProfile(Builder b) {
+        List<Channel> cs = b.channels;
+        if (cs.size() != 1 && cs.size() != 3) {
+            throw new IllegalArgumentException("profile needs 1 or 3 channels: " + cs.size());
+        }
+        if (!b.integer && !(b.quantum > 0)) {
+            throw new IllegalArgumentException("quantum must be > 0 for decimal sensors: " + b.quantum);
+        }
+        probability("walkTowardProb", b.walkTowardProb);
+        probability("outProb", b.outProb);
+        probability("recoverTowardProb", b.recoverTowardProb);
+        if (b.spikeDuration < 1 || b.holdDuration < 0) {
+            throw new IllegalArgumentException("spikeDuration must be >= 1 and holdDuration >= 0: "
+                    + b.spikeDuration + ", " + b.holdDuration);
+        }
+        int n = cs.size();
+        this.channels = n;
+        this.integer = b.integer;
+        this.quantum = b.quantum;
+        this.walkTowardProb = b.walkTowardProb;
+        this.outProb = b.outProb;
+        this.spikeDuration = b.spikeDuration;
+        this.holdDuration = b.holdDuration;
+        this.curve = b.curve;
+        this.spikeFractions = b.curve.table(b.spikeDuration);
+        this.recoverTowardProb = b.recoverTowardProb;
+        this.clampReadings = b.clampReadings;
+        normal = new double[n];
+        min = new double[n];
+        max = new double[n];
+        initial = new double[n];
+        overflowTo = new double[n];
+        walkMin = new double[n];
+        walkMax = new double[n];
+        spikeLowMin = new double[n];
+        spikeLowMax = new double[n];
+        spikeHighMin = new double[n];
+        spikeHighMax = new double[n];
+        towardMin = new double[n];
+        towardMax = new double[n];
+        awayMin = new double[n];
+        awayMax = new double[n];
+        noiseMin = new double[n];
+        noiseMax = new double[n];
+        boolean low = true;
+        for (int c = 0; c < n; c++) {
+            Channel ch = cs.get(c);
+            if (ch.min > ch.normal || ch.normal > ch.max) {
+                throw new IllegalArgumentException("channel " + c + " must satisfy min <= normal <= max");
+            }
+            normal[c] = ch.normal;
+            min[c] = ch.min;
+            max[c] = ch.max;
+            initial[c] = ch.initial;
+            overflowTo[c] = Double.isNaN(ch.overflowTo) ? ch.max : ch.overflowTo;
+            walkMin[c] = ch.walkMin;
+            walkMax[c] = ch.walkMax;
+            spikeLowMin[c] = ch.spikeLowMin;
+            spikeLowMax[c] = ch.spikeLowMax;
+            spikeHighMin[c] = ch.spikeHighMin;
+            spikeHighMax[c] = ch.spikeHighMax;
+            towardMin[c] = ch.towardMin;
+            towardMax[c] = ch.towardMax;
+            awayMin[c] = ch.awayMin;
+            awayMax[c] = ch.awayMax;
+            noiseMin[c] = ch.noiseMin;
+            noiseMax[c] = ch.noiseMax;
+            low &= ch.hasLow;
+        }
+        this.bidirectional = low;
+    }
+
+    private static void probability(String name, double p) {
+        if (!(p >= 0 && p <= 1)) throw new IllegalArgumentException(name + " must be in [0, 1]: " + p);
+    }
+
+    public int channels() {
+        return channels;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // 채널 하나의 정상값과 허용 범위 [min, max]
+    public static Channel channel(double normal, double min, double max) {
+        return new Channel(normal, min, max);
+    }
+
+    public static final class Builder {
+        private final List<Channel> channels = new ArrayList<>();
+        private boolean integer;
+        private double quantum;
+        private double walkTowardProb;
+        private double outProb;
+        private int spikeDuration = 10;
+        private int holdDuration = 25;
+        private SpikeCurve curve = SpikeCurve.EXPONENTIAL;
+        private double recoverTowardProb = 1;
+        private boolean clampReadings;
+
+        private Builder() {
+        }
+
+        public Builder integer() {
+            this.integer = true;
+            return this;
+        }
+
+        // 실수 값 센서, 출력 값을 quantum 단위로 반올림
+        public Builder decimal(double quantum) {
+            this.integer = false;
+            this.quantum = quantum;
+            return this;
+        }
+
+        public Builder walk(double towardProb) {
+            this.walkTowardProb = towardProb;
+            return this;
+        }
+
+        public Builder spike(double outProb, int duration, int hold, SpikeCurve curve) {
+            this.outProb = outProb;
+            this.spikeDuration = duration;
+            this.holdDuration = hold;
+            this.curve = curve;
+            return this;
+        }
+
+        public Builder recover(double towardProb) {
+            this.recoverTowardProb = towardProb;
+            return this;
+        }
+
+        public Builder clampReadings() {
+            this.clampReadings = true;
+            return this;
+        }
+
+        public Builder channel(Channel channel) {
+            channels.add(channel);
+            return this;
+        }
+
+        public AnomalyProfile build() {
+            return new AnomalyProfile(this);
+        }
+    }
+
+    public static final class Channel {
+        private final double normal, min, max;
+        private double initial; // 시작 값: normal ± initial
+        private double overflowTo = Double.NaN; // NORMAL에서 max를 넘었을 때 보정 값 (기본 max)
+        private double walkMin, walkMax; // NORMAL 상태 1 step 변화량
+        private boolean hasLow;
+        private double spikeLowMin, spikeLowMax; // 하강 스파이크 목표값
+        private double spikeHighMin, spikeHighMax; // 상승 스파이크 목표값
+        private double towardMin, towardMax; // OUT_OF_RANGE에서 정상값 쪽 이동량
+        private double awayMin, awayMax; // OUT_OF_RANGE에서 반대쪽 이동량
+        private double noiseMin, noiseMax; // 센서별 노이즈
+
+        private Channel(double normal, double min, double max) {
+            this.normal = normal;
+            this.min = min;
+            this.max = max;
+            this.spikeHighMin = max;
+            this.spikeHighMax = max;
+        }
+
+        public Channel initial(double range) {
+            this.initial = range;
+            return this;
+        }
+
+        public Channel overflowTo(double value) {
+            this.overflowTo = value;
+            return this;
+        }
+
+        public Channel walkStep(double min, double max) {
+            this.walkMin = min;
+            this.walkMax = max;
+            return this;
+        }
+
+        public Channel spikeLow(double min, double max) {
+            this.hasLow = true;
+            this.spikeLowMin = min;
+            this.spikeLowMax = max;
+            return this;
+        }
+
+        public Channel spikeHigh(double min, double max) {
+            this.spikeHighMin = min;
+            this.spikeHighMax = max;
+            return this;
+        }
+
+        public Channel recoverStep(double towardMin, double towardMax, double awayMin, double awayMax) {
+            this.towardMin = towardMin;
+            this.towardMax = towardMax;
+            this.awayMin = awayMin;
+            this.awayMax = awayMax;
+            return this;
+        }
+
+        public Channel noise(double min, double max) {
+            this.noiseMin = min;
+            this.noiseMax = max;
+            return this;
+        }
+    }
+}
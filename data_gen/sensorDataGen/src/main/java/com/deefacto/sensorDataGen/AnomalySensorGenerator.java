@@ -0,0 +1,327 @@
+package com.deefacto.sensorDataGen;
+
+import com.deefacto.sensorDataGen.output.SensorSink;
+import com.deefacto.sensorDataGen.output.ZoneWriter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.random.RandomGenerator;
+
+import static com.deefacto.sensorDataGen.ZoneStateStore.HOLDING;
+import static com.deefacto.sensorDataGen.ZoneStateStore.NORMAL;
+import static com.deefacto.sensorDataGen.ZoneStateStore.OUT_OF_RANGE;
+import static com.deefacto.sensorDataGen.ZoneStateStore.SPIKING;
+
+// 모든 센서 타입 공용 생성기: zone 상태 머신(NORMAL -> SPIKING -> HOLDING -> OUT_OF_RANGE)을 AnomalyProfile 값으로 실행
+// - 센서 타입은 SensorSpec(출력 형식)과 AnomalyProfile(파라미터)만 정의하면 된다
+// - tickZone은 하나의 구현만 있고 안쪽 루프에 가상 호출이 없다 (타입별 차이는 모두 profile 배열 값)
+// - zone 상태는 zone 스트림, 센서 노이즈는 센서 스트림(RandomSource)을 쓰므로 스레드 수, 다른 zone/센서 구성과 무관하게
+//   seed별 결과 동일
+// - skipAhead: NORMAL 상태에서 매 step 스파이크 확률을 뽑는 대신, 다음 스파이크까지의 step 수를 기하 분포로 한 번 뽑아
+//   zone별 카운트다운으로 기다린다 (분포는 같고 zone당 step마다 난수 1개가 줄어든다, 결과 값은 기본 방식과 다름)
+// - triggerSpike: 다른 스레드(제어 API)에서 zone에 스파이크를 요청하면 그 zone의 다음 NORMAL step에서 시작
+public class AnomalySensorGenerator implements SensorGenerator {
+    private final SensorSpec spec;
+    private final AnomalyProfile profile;
+    private final List<Sensor> sensors;
+    private final List<List<Sensor>> byZone; // zone ID 순서로 묶은 센서
+    private final String[] zoneIds;
+    private final RandomSource random; // 이 센서 타입의 난수 출처
+    private final boolean integer;
+    private final double inverseQuantum; // 1 / quantum
+    private final long fixedQuantum; // quantum의 고정소수점 값 (예: 0.25, scale 2 -> 25)
+    private final double[] noiseSpan; // 채널별 노이즈 폭 (noiseMax - noiseMin)
+    private final double logNoSpike; // ln(1 - outProb), 기하 분포 샘플링용
+    private boolean skipAhead;
+    // zone별 상태 - zone 인덱스로 접근
+    private ZoneStateStore zones;
+    private RandomGenerator[] rands = new RandomGenerator[0]; // zone 상태 난수 스트림
+    private RandomGenerator[] sensorRands = new RandomGenerator[0]; // 센서별 노이즈 스트림 (zone 순서대로)
+    private int[] firstSensor = new int[0]; // zone의 첫 센서 위치 (sensorRands 기준)
+    private ZoneWriter[] outs = new ZoneWriter[0]; // zone 센서 출력
+    private int[] zoneSensors = new int[0]; // zone별 센서 수
+    private final AtomicIntegerArray triggers; // zone별 스파이크 요청 (1 = 대기 중)
+
+    public AnomalySensorGenerator(SensorSpec spec, AnomalyProfile profile, List<Sensor> sensors, long seed) {
+        this(spec, profile, sensors, RandomSource.of(seed));
+    }
+
+    // 센서 타입 이름으로 random에서 하위 출처를 만들어 쓴다 (여러 타입에 같은 출처를 넘겨도 스트림이 겹치지 않음)
+    public AnomalySensorGenerator(SensorSpec spec, AnomalyProfile profile, List<Sensor> sensors, RandomSource random) {
+        if (spec.channels() != profile.channels) {
+            throw new IllegalArgumentException(spec.sensorType + " has " + spec.channels()
+                    + " value columns but profile has " + profile.channels + " channels");
+        }
+        this.spec = spec;
+        this.profile = profile;
+        this.sensors = new ArrayList<>(sensors);
+        this.byZone = ZoneStateStore.groupByZone(this.sensors);
+        this.zoneIds = new String[byZone.size()];
+        for (int z = 0; z < zoneIds.length; z++) zoneIds[z] = byZone.get(z).get(0).zoneId;
+        this.triggers = new AtomicIntegerArray(zoneIds.length);
+        this.random = random.derive(spec.sensorType);
+        this.integer = profile.integer;
+        this.inverseQuantum = profile.integer ? 1 : 1 / profile.quantum;
+        this.fixedQuantum = profile.integer ? 1 : Math.round(profile.quantum * Math.pow(10, spec.scale));
+        this.noiseSpan = new double[profile.channels];
+        for (int c = 0; c < profile.channels; c++) noiseSpan[c] = profile.noiseMax[c] - profile.noiseMin[c];
+        this.logNoSpike = Math.log1p(-profile.outProb);
+        this.zones = new ZoneStateStore(0, profile.channels);
+    }
+
+    // 스파이크 발생 시점을 기하 분포로 미리 뽑을지 (open 전에 설정)
+    public AnomalySensorGenerator skipAhead(boolean enabled) {
+        this.skipAhead = enabled;
+        return this;
+    }
+
+    @Override
+    public String sensorType() {
+        return spec.sensorType;
+    }
+
+    @Override
+    public void open(LocalDateTime start, SensorSink sink) throws IOException {
+        int n = byZone.size();
+        AnomalyProfile p = profile;
+
+        // zone/센서 ID별 난수 스트림 (zone 간, 센서 간 결과가 섞이지 않도록)
+        zones = new ZoneStateStore(n, p.channels);
+        rands = new RandomGenerator[n];
+        sensorRands = new RandomGenerator[sensors.size()];
+        firstSensor = new int[n];
+        outs = new ZoneWriter[n];
+        zoneSensors = new int[n];
+        int next = 0;
+        for (int z = 0; z < n; z++) {
+            List<Sensor> zoneList = byZone.get(z);
+            RandomGenerator rand = random.zone(zoneIds[z]);
+            // zone별 초기값을 정상값 ± initial 범위에서 랜덤하게 설정
+            for (int c = 0; c < p.channels; c++) {
+                zones.init(z, c, p.normal[c] + draw(rand, -p.initial[c], p.initial[c]));
+            }
+            if (skipAhead) zones.spikeCountdown[z] = stepsUntilSpike(rand);
+            rands[z] = rand;
+            zoneSensors[z] = zoneList.size();
+            firstSensor[z] = next;
+            for (Sensor sensor : zoneList) sensorRands[next++] = random.sensor(sensor.sensorId);
+        }
+
+        // zone별 출력 준비
+        for (int z = 0; z < n; z++) {
+            outs[z] = sink.openZone(spec, byZone.get(z));
+        }
+    }
+
+    @Override
+    public int zoneCount() {
+        return zoneIds.length;
+    }
+
+    @Override
+    public int sensorCount() {
+        return sensors.size();
+    }
+
+    @Override
+    public int sensorCount(int zone) {
+        return byZone.get(zone).size();
+    }
+
+    @Override
+    public long rowsEmitted() {
+        ZoneStateStore st = zones;
+        long rows = 0;
+        for (int z = 0; z < st.zones; z++) {
+            rows += st.steps[z] * byZone.get(z).size();
+        }
+        return rows;
+    }
+
+    // zone에 스파이크 요청 (어느 스레드에서나 호출 가능, open 전에 요청하면 첫 step에서 발생)
+    // zone이 이미 이상 상태면 NORMAL로 돌아온 다음 step에서 시작, 요청이 여러 번 쌓여도 한 번만 발생
+    public void triggerSpike(int zone) {
+        if (zone < 0 || zone >= zoneIds.length) {
+            throw new IndexOutOfBoundsException("zone " + zone + " of " + zoneIds.length);
+        }
+        triggers.set(zone, 1);
+    }
+
+    // zone ID -> zone 인덱스 (없으면 -1)
+    public int zoneIndex(String zoneId) {
+        int z = Arrays.binarySearch(zoneIds, zoneId);
+        return z >= 0 ? z : -1;
+    }
+
+    // 현재 zone 상태 (상태 조회용)
+    public ZoneMode zoneMode(int zone) {
+        return zones.mode(zone);
+    }
+
+    // zone이 mode 상태로 들어간 횟수 (지표용, open 전에는 0)
+    public long transitions(int zone, ZoneMode mode) {
+        ZoneStateStore st = zones;
+        return zone < st.zones ? st.transitions(zone, mode) : 0;
+    }
+
+    public String zoneId(int zone) {
+        return zoneIds[zone];
+    }
+
+    @Override
+    public final void tickZone(int zone, long epochSecond) throws IOException {
+        AnomalyProfile p = profile;
+        ZoneStateStore st = zones;
+        RandomGenerator rand = rands[zone];
+        int channels = p.channels;
+        int base = zone * channels;
+        double[] value = st.value;
+
+        // zone 상태 업데이트
+        switch (st.state[zone]) {
+            case NORMAL:
+                // 정상 상태: 요청이 있거나 확률적으로 스파이크(이상치) 발생
+                if (triggered(zone) || (skipAhead ? --st.spikeCountdown[zone] <= 0 : rand.nextDouble() < p.outProb)) {
+                    // 이상치 방향(상승/하강) 랜덤 결정
+                    boolean low = p.bidirectional && rand.nextBoolean();
+                    for (int c = 0; c < channels; c++) {
+                        st.spikeTarget[base + c] = low
+                                ? draw(rand, p.spikeLowMin[c], p.spikeLowMax[c])
+                                : draw(rand, p.spikeHighMin[c], p.spikeHighMax[c]);
+                    }
+                    st.startSpike(zone, p.spikeDuration, p.holdDuration);
+                } else {
+                    // 정상값으로 복원하려는 경향 + 랜덤 변화, 정상 범위 밖으로 벗어나지 않도록 보정
+                    boolean towardNormal = rand.nextDouble() < p.walkTowardProb;
+                    for (int c = 0; c < channels; c++) {
+                        double delta = draw(rand, p.walkMin[c], p.walkMax[c]);
+                        double v = value[base + c];
+                        if (!towardNormal) {
+                            v += delta;
+                        } else if (v < p.normal[c]) {
+                            v += Math.abs(delta);
+                        } else if (v > p.normal[c]) {
+                            v -= Math.abs(delta);
+                        }
+                        if (v < p.min[c]) v = p.min[c];
+                        if (v > p.max[c]) v = p.overflowTo[c];
+                        value[base + c] = v;
+                    }
+                }
+                break;
+            case SPIKING: {
+                // 스파이크(이상치) 상태: 곡선을 따라 목표값으로 이동
+                int step = ++st.spikeStep[zone];
+                double[] fractions = p.spikeFractions;
+                double f = step < fractions.length ? fractions[step] : 1;
+                for (int c = base; c < base + channels; c++) {
+                    double v = st.spikeStart[c] + (st.spikeTarget[c] - st.spikeStart[c]) * f;
+                    value[c] = p.integer ? (long) v : v;
+                }
+                if (step >= st.spikeDuration[zone]) {
+                    st.holdStep[zone] = 0;
+                    st.enter(zone, st.holdDuration[zone] > 0 ? HOLDING : OUT_OF_RANGE);
+                }
+                break;
+            }
+            case HOLDING:
+                // HOLDING: 스파이크 목표값을 일정 시간 유지
+                System.arraycopy(st.spikeTarget, base, value, base, channels);
+                if (++st.holdStep[zone] >= st.holdDuration[zone]) {
+                    st.enter(zone, OUT_OF_RANGE);
+                }
+                break;
+            case OUT_OF_RANGE: {
+                // OUT_OF_RANGE: 범위 밖 채널을 정상 범위로 복귀, 모두 복귀하면 NORMAL
+                boolean inRange = true;
+                for (int c = 0; c < channels; c++) {
+                    double v = value[base + c];
+                    if (v < p.min[c] || v > p.max[c]) {
+                        boolean towardNormal = rand.nextDouble() < p.recoverTowardProb;
+                        double sign = v < p.normal[c] ? 1 : -1;
+                        v += towardNormal
+                                ? sign * draw(rand, p.towardMin[c], p.towardMax[c])
+                                : -sign * draw(rand, p.awayMin[c], p.awayMax[c]);
+                        value[base + c] = v;
+                        if (v < p.min[c] || v > p.max[c]) inRange = false;
+                    }
+                }
+                if (inRange) {
+                    st.enter(zone, NORMAL);
+                    if (skipAhead) st.spikeCountdown[zone] = stepsUntilSpike(rand);
+                }
+                break;
+            }
+        }
+
+        st.steps[zone]++;
+
+        // 센서별 데이터 기록 (zone 상태 + 센서 노이즈 적용)
+        ZoneWriter out = outs[zone];
+        RandomGenerator[] noise = sensorRands;
+        int first = firstSensor[zone];
+        boolean normal = st.state[zone] == NORMAL;
+        if (channels == 1) {
+            double v = value[base];
+            for (int s = 0, n = zoneSensors[zone]; s < n; s++) {
+                out.write(s, epochSecond, reading(noise[first + s], 0, v, normal));
+            }
+        } else {
+            double v0 = value[base], v1 = value[base + 1], v2 = value[base + 2];
+            for (int s = 0, n = zoneSensors[zone]; s < n; s++) {
+                RandomGenerator sensorRand = noise[first + s];
+                long r0 = reading(sensorRand, 0, v0, normal);
+                long r1 = reading(sensorRand, 1, v1, normal);
+                long r2 = reading(sensorRand, 2, v2, normal);
+                out.write(s, epochSecond, r0, r1, r2);
+            }
+        }
+    }
+
+    // 스파이크 요청을 꺼내기 (요청이 없을 때는 volatile 읽기 한 번)
+    private boolean triggered(int zone) {
+        return triggers.get(zone) != 0 && triggers.getAndSet(zone, 0) != 0;
+    }
+
+    // zone 값 + 센서 노이즈 -> 출력 고정소수점 값 (실수 값은 quantum 단위로 반올림: 21.25 -> 2125)
+    private long reading(RandomGenerator rand, int c, double v, boolean normal) {
+        AnomalyProfile p = profile;
+        double r = v + p.noiseMin[c];
+        double span = noiseSpan[c];
+        if (span > 0) r += integer ? rand.nextInt((int) span + 1) : rand.nextDouble() * span;
+        if (p.clampReadings) {
+            if (r < p.min[c]) r = p.min[c];
+            else if (normal && r > p.max[c]) r = p.overflowTo[c];
+        }
+        return integer ? (long) r : Math.round(r * inverseQuantum) * fixedQuantum;
+    }
+
+    // NORMAL step마다 outProb 확률로 스파이크가 날 때 첫 스파이크가 나는 step 번호 (1부터, 기하 분포)
+    private int stepsUntilSpike(RandomGenerator rand) {
+        if (profile.outProb >= 1) return 1;
+        if (profile.outProb <= 0) return Integer.MAX_VALUE;
+        double u = 1 - rand.nextDouble(); // (0, 1]
+        double steps = Math.floor(Math.log(u) / logNoSpike) + 1;
+        return steps >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) steps;
+    }
+
+    // [min, max] 균등 분포 (정수 센서는 정수만)
+    private double draw(RandomGenerator rand, double min, double max) {
+        if (min >= max) return min;
+        if (integer) return min + rand.nextInt((int) (max - min) + 1);
+        return min + rand.nextDouble() * (max - min);
+    }
+
+    @Override
+    public void close() throws IOException {
+        // 파일 닫기
+        for (int z = 0; z < outs.length; z++) {
+            if (outs[z] != null) outs[z].close();
+            outs[z] = null;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.deefacto.sensorDataGen;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+// 센서 배치 설정 (application.properties / YAML의 sensor.fleet.*)
+// 우선순위: groups -> synthetic -> file -> 기본 배치(fleet.csv)
+//   sensor.fleet.groups[0].type=temperature
+//   sensor.fleet.groups[0].sensors=TEMP-001..TEMP-5000
+//   sensor.fleet.groups[0].zones=Z001..Z200
+//   sensor.fleet.synthetic.zones=200, sensor.fleet.synthetic.sensors-per-zone=10
+//   sensor.fleet.file=/path/fleet.csv
+@ConfigurationProperties(prefix = "sensor.fleet")
+public class FleetProperties {
+    private String file;
+    private List<Group> groups = new ArrayList<>();
+    private Synthetic synthetic = new Synthetic();
+
+    public SensorFleet toFleet() throws IOException {
+        if (!groups.isEmpty()) {
+            SensorFleet.Builder builder = SensorFleet.builder();
+            for (Group group : groups) builder.add(group.type, group.sensors, group.zones);
+            return builder.build();
+        }
+        if (synthetic.zones > 0) {
+            return SensorFleet.synthetic(synthetic.zones, synthetic.sensorsPerZone);
+        }
+        if (file != null && !file.isBlank()) {
+            return SensorFleet.load(Paths.get(file));
+        }
+        return SensorFleet.defaultFleet();
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public List<Group> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(List<Group> groups) {
+        this.groups = groups;
+    }
+
+    public Synthetic getSynthetic() {
+        return synthetic;
+    }
+
+    public void setSynthetic(Synthetic synthetic) {
+        this.synthetic = synthetic;
+    }
+
+    // 센서 타입 하나의 센서 ID 목록을 zone 목록에 나눠 배치 (SensorFleet.expand 문법)
+    public static class Group {
+        private String type;
+        private String sensors;
+        private String zones;
+
+        public String getType() {
+            return type;
+        }
+
+        public void setType(String type) {
+            this.type = type;
+        }
+
+        public String getSensors() {
+            return sensors;
+        }
+
+        public void setSensors(String sensors) {
+            this.sensors = sensors;
+        }
+
+        public String getZones() {
+            return zones;
+        }
+
+        public void setZones(String zones) {
+            this.zones = zones;
+        }
+    }
+
+    // 부하 테스트용 배치: 기본 5개 타입마다 zones개 zone, zone당 sensorsPerZone개 센서 (zones가 0이면 사용 안 함)
+    public static class Synthetic {
+        private int zones;
+        private int sensorsPerZone = 4;
+
+        public int getZones() {
+            return zones;
+        }
+
+        public void setZones(int zones) {
+            this.zones = zones;
+        }
+
+        public int getSensorsPerZone() {
+            return sensorsPerZone;
+        }
+
+        public void setSensorsPerZone(int sensorsPerZone) {
+            this.sensorsPerZone = sensorsPerZone;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.deefacto.sensorDataGen;
+
+import java.util.Arrays;
+
+// 지연 시간 분포 기록 (µs 단위, 로그-선형 구간)
+// - 2의 거듭제곱 구간마다 32개 하위 구간으로 나누므로 백분위 값의 상대 오차는 1/32 이내
+// - 기록 시 할당 없음, 고정 크기 배열 하나
+public class LatencyHistogram {
+    private static final int SUB_BITS = 5; // 2의 거듭제곱 구간당 하위 구간 2^5 = 32개
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS) * SUB_COUNT;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long max;
+
+    // 음수(예정 시각보다 이르게 실행)는 0으로 기록
+    public synchronized void recordNanos(long nanos) {
+        long micros = Math.max(0, nanos / 1000);
+        counts[bucket(micros)]++;
+        count++;
+        if (micros > max) max = micros;
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getMaxMicros() {
+        return max;
+    }
+
+    // percentile: 0 ~ 100, 해당 백분위가 속한 구간의 상한값 (µs)
+    public synchronized long percentileMicros(double percentile) {
+        if (count == 0) return 0;
+        long rank = (long) Math.ceil(count * Math.min(100.0, Math.max(0.0, percentile)) / 100.0);
+        if (rank < 1) rank = 1;
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(upperBound(i), max);
+        }
+        return max;
+    }
+
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        max = 0;
+    }
+
+    static int bucket(long v) {
+        if (v < SUB_COUNT) return (int) v;
+        int shift = 63 - Long.numberOfLeadingZeros(v) - SUB_BITS;
+        return ((shift + 1) << SUB_BITS) + (int) ((v >>> shift) - SUB_COUNT);
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < SUB_COUNT) return bucket;
+        int shift = (bucket >> SUB_BITS) - 1;
+        long mantissa = (bucket & (SUB_COUNT - 1)) + SUB_COUNT;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
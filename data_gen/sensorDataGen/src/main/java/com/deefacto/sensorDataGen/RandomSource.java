@@ -0,0 +1,87 @@
+package com.deefacto.sensorDataGen;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+// 시뮬레이션 난수 출처: 전역 seed 하나에서 이름(센서 타입, zone, 센서)별 난수 스트림을 만든다
+// - 스트림 seed는 (상위 seed, 이름)의 해시라서 다른 zone/센서가 추가·삭제되어도 같은 이름의 스트림은 그대로
+// - 스트림은 동기화 없는 JDK 17 RandomGenerator (기본 SplittableRandom), 한 스트림은 한 스레드에서만 사용
+// - 전역 seed: -Dsensor.seed, 알고리즘: -Dsensor.random (예: L64X128MixRandom, Xoshiro256PlusPlus)
+public final class RandomSource {
+    public static final String SEED_PROPERTY = "sensor.seed";
+    public static final String ALGORITHM_PROPERTY = "sensor.random";
+    public static final String DEFAULT_ALGORITHM = "SplittableRandom";
+
+    private final long seed;
+    private final String algorithm;
+    private final RandomGeneratorFactory<RandomGenerator> factory;
+
+    private RandomSource(long seed, String algorithm) {
+        this.seed = seed;
+        this.algorithm = algorithm;
+        this.factory = RandomGeneratorFactory.of(algorithm); // 없는 알고리즘이면 IllegalArgumentException
+    }
+
+    public static RandomSource of(long seed) {
+        return new RandomSource(seed, DEFAULT_ALGORITHM);
+    }
+
+    public static RandomSource of(long seed, String algorithm) {
+        return new RandomSource(seed, algorithm);
+    }
+
+    // 시스템 속성의 seed/알고리즘 (seed가 없으면 임의 seed)
+    public static RandomSource fromSystemProperties() {
+        return new RandomSource(defaultSeed(), System.getProperty(ALGORITHM_PROPERTY, DEFAULT_ALGORITHM));
+    }
+
+    // -Dsensor.seed 값, 없으면 임의 seed (재현하려면 출력된 seed를 다시 지정)
+    public static long defaultSeed() {
+        String value = System.getProperty(SEED_PROPERTY);
+        return value != null ? Long.parseLong(value.trim()) : ThreadLocalRandom.current().nextLong();
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public String algorithm() {
+        return algorithm;
+    }
+
+    // 이름으로 구분되는 하위 출처 (예: 센서 타입별)
+    public RandomSource derive(String name) {
+        return new RandomSource(mix(seed, name), algorithm);
+    }
+
+    public RandomGenerator zone(String zoneId) {
+        return stream("zone/" + zoneId);
+    }
+
+    public RandomGenerator sensor(String sensorId) {
+        return stream("sensor/" + sensorId);
+    }
+
+    public RandomGenerator stream(String name) {
+        return factory.create(mix(seed, name));
+    }
+
+    // seed와 이름의 64비트 FNV-1a 해시를 섞은 뒤 SplitMix64 마무리 함수로 비트를 고르게 분산
+    static long mix(long seed, String name) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+            h = (h ^ (b & 0xFF)) * 0x100000001b3L;
+        }
+        long z = seed + h * 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public String toString() {
+        return "seed=" + seed + " random=" + algorithm;
+    }
+}
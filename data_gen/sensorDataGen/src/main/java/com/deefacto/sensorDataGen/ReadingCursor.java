@@ -0,0 +1,333 @@
+package com.deefacto.sensorDataGen;
+
+import com.deefacto.sensorDataGen.output.SensorSink;
+import com.deefacto.sensorDataGen.output.ZoneWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// 파일 없이 같은 JVM에서 센서 값을 끌어다 쓰는 커서 (필요할 때 1초씩 생성)
+// - next()로 한 행씩 진행하고 epochSecond()/sensorIndex()/fixedValue(c) 등으로 읽는다 (행마다 객체를 만들지 않음)
+// - 1초 분량을 생성기로 미리 배열에 채워 두고 꺼내 쓴다: 시간 순서, 같은 초 안에서는 생성기(센서 타입) -> zone -> 센서 순서
+// - 센서 필터: 선택된 센서가 없는 zone은 아예 생성하지 않는다 (zone 스트림이 독립이라 값은 전체를 생성할 때와 같다)
+// - 구간: [from, to) 행만 내보낸다. simulationStart가 from보다 이르면 그 사이는 생성만 하고 버린다
+//   (같은 seed/시작 시각의 파일 출력과 같은 값을 얻으려면 파일 생성 시작 시각을 simulationStart로 준다)
+// - 한 스레드에서만 사용
+public final class ReadingCursor implements AutoCloseable {
+    private static final double[] POW10 = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000};
+
+    private final SensorFleet fleet;
+    private final List<SensorGenerator> generators;
+    private final boolean[][] activeZones; // [생성기][zone] 선택된 센서가 있는 zone
+    private final long fromSecond;
+    private final long toSecond;
+    private final long total; // 내보낼 전체 행 수
+    private long nextSecond; // 다음에 생성할 초
+
+    // 1초 분량 버퍼 (행 위치별)
+    private final int[] sensorIndex;
+    private final SensorSpec[] specs;
+    private final long[] values; // [행 * 3 + channel]
+    private int count;
+    private int position = -1;
+    private long epochSecond;
+
+    private ReadingCursor(Builder b) throws IOException {
+        this.fleet = b.fleet;
+        this.fromSecond = b.from.toEpochSecond(ZoneOffset.UTC);
+        this.toSecond = b.to.toEpochSecond(ZoneOffset.UTC);
+        LocalDateTime start = b.simulationStart != null ? b.simulationStart : b.from;
+        this.nextSecond = start.toEpochSecond(ZoneOffset.UTC);
+        if (toSecond < fromSecond || nextSecond > fromSecond) {
+            throw new IllegalArgumentException("expected simulationStart <= from <= to: " + start + ", " + b.from + ", " + b.to);
+        }
+
+        int selected = 0;
+        boolean[] chosen = new boolean[fleet.size()];
+        for (int s = 0; s < chosen.length; s++) {
+            chosen[s] = b.filter.test(fleet.sensor(s));
+            if (chosen[s]) selected++;
+        }
+        this.total = selected * (toSecond - fromSecond);
+        this.sensorIndex = new int[selected];
+        this.specs = new SensorSpec[selected];
+        this.values = new long[selected * 3];
+
+        this.generators = SensorSimulationEngine.generators(fleet, b.random);
+        this.activeZones = new boolean[generators.size()][];
+        LocalDateTime time = LocalDateTime.ofEpochSecond(nextSecond, 0, ZoneOffset.UTC);
+        for (int g = 0; g < generators.size(); g++) {
+            SensorGenerator generator = generators.get(g);
+            CaptureSink sink = new CaptureSink(chosen);
+            generator.open(time, sink);
+            // 생성기는 zone 순서대로 openZone을 호출한다 (개수가 다르면 모든 zone 생성)
+            boolean[] active = new boolean[generator.zoneCount()];
+            for (int z = 0; z < active.length; z++) {
+                active[z] = sink.writers.size() != active.length || sink.writers.get(z).selected;
+            }
+            activeZones[g] = active;
+        }
+    }
+
+    public static Builder builder(SensorFleet fleet, RandomSource random) {
+        return new Builder(fleet, random);
+    }
+
+    // 다음 행으로 이동 (없으면 false)
+    public boolean next() {
+        if (++position < count) return true;
+        while (nextSecond < toSecond) {
+            fill(nextSecond++);
+            if (count > 0) {
+                position = 0;
+                return true;
+            }
+        }
+        count = 0;
+        position = 0;
+        return false;
+    }
+
+    // 생성기들을 1초 진행해 선택된 센서 값을 버퍼에 채운다
+    private void fill(long second) {
+        count = 0;
+        epochSecond = second;
+        try {
+            for (int g = 0; g < generators.size(); g++) {
+                SensorGenerator generator = generators.get(g);
+                boolean[] active = activeZones[g];
+                for (int z = 0; z < active.length; z++) {
+                    if (active[z]) generator.tickZone(z, second);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long epochSecond() {
+        return epochSecond;
+    }
+
+    // 행을 새로 만든다 (행마다 객체 생성)
+    public LocalDateTime time() {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    // fleet 안의 센서 정수 ID
+    public int sensorIndex() {
+        return sensorIndex[position];
+    }
+
+    public Sensor sensor() {
+        return fleet.sensor(sensorIndex[position]);
+    }
+
+    public SensorSpec spec() {
+        return specs[position];
+    }
+
+    public int channels() {
+        return specs[position].channels();
+    }
+
+    // 고정소수점 값 (SensorSpec.scale 자리, 예: 21.25°C -> 2125)
+    public long fixedValue(int channel) {
+        return values[position * 3 + channel];
+    }
+
+    public double value(int channel) {
+        return decimal(values[position * 3 + channel], specs[position].scale);
+    }
+
+    // 현재 행 복사본
+    public SensorReading reading() {
+        int base = position * 3;
+        SensorSpec spec = specs[position];
+        long[] v = spec.channels() == 1 ? new long[]{values[base]} : Arrays.copyOfRange(values, base, base + 3);
+        return new SensorReading(sensor(), epochSecond, spec, v);
+    }
+
+    // 내보낼 전체 행 수 (선택된 센서 수 * 구간 초)
+    public long size() {
+        return total;
+    }
+
+    // 행마다 SensorReading을 만드는 순차 스트림 (스트림을 닫으면 커서도 닫힌다)
+    public Stream<SensorReading> stream() {
+        Spliterator<SensorReading> spliterator = new Spliterators.AbstractSpliterator<>(total,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE | Spliterator.SIZED) {
+            @Override
+            public boolean tryAdvance(Consumer<? super SensorReading> action) {
+                if (!next()) return false;
+                action.accept(reading());
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    static double decimal(long fixed, int scale) {
+        return scale < POW10.length ? fixed / POW10[scale] : fixed / Math.pow(10, scale);
+    }
+
+    @Override
+    public void close() {
+        for (SensorGenerator generator : generators) {
+            try {
+                generator.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public static final class Builder {
+        private final SensorFleet fleet;
+        private final RandomSource random;
+        private LocalDateTime from;
+        private LocalDateTime to;
+        private LocalDateTime simulationStart;
+        private Predicate<Sensor> filter = s -> true;
+
+        private Builder(SensorFleet fleet, RandomSource random) {
+            this.fleet = fleet;
+            this.random = random;
+        }
+
+        // 내보낼 구간 [from, to) (UTC)
+        public Builder range(LocalDateTime from, LocalDateTime to) {
+            this.from = from;
+            this.to = to;
+            return this;
+        }
+
+        public Builder range(LocalDateTime from, long seconds) {
+            return range(from, from.plusSeconds(seconds));
+        }
+
+        // 시뮬레이션 시작 시각 (기본 from)
+        public Builder simulationStart(LocalDateTime start) {
+            this.simulationStart = start;
+            return this;
+        }
+
+        // 센서 필터 (여러 번 호출하면 모두 만족하는 센서만)
+        public Builder filter(Predicate<Sensor> filter) {
+            this.filter = this.filter.and(filter);
+            return this;
+        }
+
+        public Builder sensorTypes(String... sensorTypes) {
+            Set<String> types = new HashSet<>(Arrays.asList(sensorTypes));
+            return filter(s -> types.contains(s.sensorType));
+        }
+
+        public Builder sensorIds(String... sensorIds) {
+            Set<String> ids = new HashSet<>(Arrays.asList(sensorIds));
+            return filter(s -> ids.contains(s.sensorId));
+        }
+
+        public Builder zones(String... zoneIds) {
+            Set<String> zones = new HashSet<>(Arrays.asList(zoneIds));
+            return filter(s -> zones.contains(s.zoneId));
+        }
+
+        public ReadingCursor open() {
+            if (from == null || to == null) throw new IllegalStateException("range is not set");
+            try {
+                return new ReadingCursor(this);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        public Stream<SensorReading> stream() {
+            return open().stream();
+        }
+    }
+
+    // 생성기 출력을 커서 버퍼로 모으는 sink (선택된 센서만)
+    private final class CaptureSink implements SensorSink {
+        private final boolean[] chosen;
+        final List<CaptureWriter> writers = new ArrayList<>();
+
+        CaptureSink(boolean[] chosen) {
+            this.chosen = chosen;
+        }
+
+        @Override
+        public ZoneWriter openZone(SensorSpec spec, List<Sensor> sensors) {
+            int[] index = new int[sensors.size()];
+            boolean any = false;
+            for (int s = 0; s < index.length; s++) {
+                int id = fleet.sensorIndex(sensors.get(s).sensorId);
+                index[s] = id >= 0 && chosen[id] ? id : -1;
+                any |= index[s] >= 0;
+            }
+            CaptureWriter writer = new CaptureWriter(spec, index, any);
+            writers.add(writer);
+            return writer;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    // zone 하나의 출력: 선택된 센서 값을 커서 버퍼 끝에 추가 (구간 전 값은 버림)
+    private final class CaptureWriter implements ZoneWriter {
+        private final SensorSpec spec;
+        private final int[] index; // zone 안 센서 -> fleet 센서 정수 ID (선택 안 됨 -1)
+        final boolean selected;
+
+        CaptureWriter(SensorSpec spec, int[] index, boolean selected) {
+            this.spec = spec;
+            this.index = index;
+            this.selected = selected;
+        }
+
+        @Override
+        public void write(int sensor, long epochSecond, long value) {
+            int id = index[sensor];
+            if (id < 0 || epochSecond < fromSecond) return;
+            int row = count++;
+            sensorIndex[row] = id;
+            specs[row] = spec;
+            values[row * 3] = value;
+        }
+
+        @Override
+        public void write(int sensor, long epochSecond, long v0, long v1, long v2) {
+            int id = index[sensor];
+            if (id < 0 || epochSecond < fromSecond) return;
+            int row = count++;
+            sensorIndex[row] = id;
+            specs[row] = spec;
+            values[row * 3] = v0;
+            values[row * 3 + 1] = v1;
+            values[row * 3 + 2] = v2;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.deefacto.sensorDataGen;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 센서 정보 클래스 (타입, ID, 구역)
+public class Sensor {
+    public final String sensorType;
+    public final String sensorId;
+    public final String zoneId;
+
+    public Sensor(String sensorType, String sensorId, String zoneId) {
+        this.sensorType = sensorType;
+        this.sensorId = sensorId;
+        this.zoneId = zoneId;
+    }
+
+    // 부하 테스트용 센서 배치 생성 (zone Z001~, 센서 ID PREFIX-001~ 순서대로 배치)
+    public static List<Sensor> grid(String sensorType, String idPrefix, int zoneCount, int sensorsPerZone) {
+        if (zoneCount < 1 || sensorsPerZone < 1) {
+            throw new IllegalArgumentException("zoneCount and sensorsPerZone must be >= 1");
+        }
+        List<Sensor> sensors = new ArrayList<>(zoneCount * sensorsPerZone);
+        int seq = 1;
+        for (int z = 1; z <= zoneCount; z++) {
+            String zoneId = String.format("Z%03d", z);
+            for (int s = 0; s < sensorsPerZone; s++) {
+                sensors.add(new Sensor(sensorType, String.format("%s-%03d", idPrefix, seq++), zoneId));
+            }
+        }
+        return sensors;
+    }
+}
@@ -1,13 +1,31 @@
 package com.deefacto.sensorDataGen;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import java.io.IOException;
 
 @SpringBootApplication
+@EnableConfigurationProperties({FleetProperties.class, SimulationProperties.class})
 public class SensorDataGenApplication {
 
 	public static void main(String[] args) {
 		SpringApplication.run(SensorDataGenApplication.class, args);
 	}
 
+	// 센서 배치 (sensor.fleet.* 설정)
+	@Bean
+	public SensorFleet sensorFleet(FleetProperties properties) throws IOException {
+		return properties.toFleet();
+	}
+
+	// 실행 지표 (/actuator/metrics/sensor.*)
+	@Bean
+	public SimulationMetrics simulationMetrics(MeterRegistry registry) {
+		return new SimulationMetrics(registry);
+	}
+
 }
@@ -0,0 +1,240 @@
+package com.deefacto.sensorDataGen;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+// 센서 배치(fleet) 등록부: 센서 타입별 센서 목록 + 센서/zone의 정수 ID
+// - 그룹 단위로 등록: (센서 타입, 센서 ID 목록, zone 목록), 센서는 zone 목록 순서대로 연속해서 고르게 나눠 배치
+//   (나머지는 앞 zone부터 1개씩 더, 예: TEMP-001..TEMP-010을 A,B,C에 -> 4/3/3)
+// - ID 목록 문법: "TEMP-001..TEMP-5000" (끝 숫자 범위, 자릿수 유지), "A,B,C" (쉼표 목록), 둘을 섞어도 된다
+// - 정수 ID: 센서는 등록 순서(0부터), zone은 zone ID 정렬 순서(0부터)
+// - fleet 파일(CSV): 한 줄에 "센서 타입,센서 ID 목록,zone 목록" (목록 안 쉼표는 ';'로), '#' 뒤는 주석
+public final class SensorFleet {
+    // 기본 센서 배치 (zone A/B/C)
+    public static final String DEFAULT_RESOURCE = "/fleet.csv";
+    // 기본 센서 타입별 센서 ID 접두어 (synthetic fleet)
+    private static final Map<String, String> PREFIXES = new LinkedHashMap<>();
+
+    static {
+        PREFIXES.put("temperature", "TEMP");
+        PREFIXES.put("humidity", "HUM");
+        PREFIXES.put("esd", "ESD");
+        PREFIXES.put("windDir", "WD");
+        PREFIXES.put("particle", "LPM");
+    }
+
+    private static volatile SensorFleet defaultFleet;
+
+    private final List<Sensor> sensors;
+    private final Map<String, List<Sensor>> byType;
+    private final List<String> zoneIds;
+    private final Map<String, Integer> sensorIndex;
+    private final Map<String, Integer> zoneIndex;
+    private final int[] sensorZone; // 센서 정수 ID -> zone 정수 ID
+
+    private SensorFleet(List<Sensor> sensors) {
+        this.sensors = Collections.unmodifiableList(new ArrayList<>(sensors));
+        Map<String, List<Sensor>> types = new LinkedHashMap<>();
+        Map<String, Integer> zones = new TreeMap<>();
+        Map<String, Integer> ids = new HashMap<>();
+        for (Sensor sensor : sensors) {
+            types.computeIfAbsent(sensor.sensorType, k -> new ArrayList<>()).add(sensor);
+            zones.put(sensor.zoneId, 0);
+            if (ids.putIfAbsent(sensor.sensorId, ids.size()) != null) {
+                throw new IllegalArgumentException("duplicate sensor id: " + sensor.sensorId);
+            }
+        }
+        types.replaceAll((k, v) -> Collections.unmodifiableList(v));
+        this.byType = Collections.unmodifiableMap(types);
+        this.zoneIds = List.copyOf(zones.keySet());
+        for (int z = 0; z < zoneIds.size(); z++) zones.put(zoneIds.get(z), z);
+        this.zoneIndex = zones;
+        this.sensorIndex = ids;
+        this.sensorZone = new int[sensors.size()];
+        for (int s = 0; s < sensorZone.length; s++) sensorZone[s] = zones.get(sensors.get(s).zoneId);
+    }
+
+    // classpath의 기본 센서 배치 (한 번만 읽음)
+    public static SensorFleet defaultFleet() {
+        SensorFleet fleet = defaultFleet;
+        if (fleet == null) {
+            try (InputStream in = SensorFleet.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+                if (in == null) throw new IllegalStateException("missing fleet resource: " + DEFAULT_RESOURCE);
+                fleet = parse(new InputStreamReader(in, StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            defaultFleet = fleet;
+        }
+        return fleet;
+    }
+
+    public static SensorFleet load(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        }
+    }
+
+    public static SensorFleet parse(Reader reader) throws IOException {
+        Builder builder = builder();
+        BufferedReader in = new BufferedReader(reader);
+        String line;
+        int lineNo = 0;
+        while ((line = in.readLine()) != null) {
+            lineNo++;
+            int comment = line.indexOf('#');
+            if (comment >= 0) line = line.substring(0, comment);
+            if (line.isBlank()) continue;
+            String[] fields = line.split(",");
+            if (fields.length != 3) {
+                throw new IllegalArgumentException("fleet line " + lineNo + ": expected type,sensors,zones: " + line);
+            }
+            builder.add(fields[0].trim(), fields[1].replace(';', ','), fields[2].replace(';', ','));
+        }
+        return builder.build();
+    }
+
+    // 부하 테스트용: 기본 5개 센서 타입마다 zone Z001~ zoneCount개, zone당 sensorsPerZone개 (Sensor.grid 배치)
+    public static SensorFleet synthetic(int zoneCount, int sensorsPerZone) {
+        List<Sensor> sensors = new ArrayList<>();
+        for (Map.Entry<String, String> type : PREFIXES.entrySet()) {
+            sensors.addAll(Sensor.grid(type.getKey(), type.getValue(), zoneCount, sensorsPerZone));
+        }
+        return new SensorFleet(sensors);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<Sensor> sensors() {
+        return sensors;
+    }
+
+    // 센서 타입의 센서 목록 (없으면 빈 목록)
+    public List<Sensor> sensors(String sensorType) {
+        return byType.getOrDefault(sensorType, List.of());
+    }
+
+    public Set<String> sensorTypes() {
+        return byType.keySet();
+    }
+
+    public int size() {
+        return sensors.size();
+    }
+
+    public int zoneCount() {
+        return zoneIds.size();
+    }
+
+    public List<String> zoneIds() {
+        return zoneIds;
+    }
+
+    public String zoneId(int zone) {
+        return zoneIds.get(zone);
+    }
+
+    public Sensor sensor(int id) {
+        return sensors.get(id);
+    }
+
+    // 센서/zone 문자열 ID -> 정수 ID (없으면 -1)
+    public int sensorIndex(String sensorId) {
+        return sensorIndex.getOrDefault(sensorId, -1);
+    }
+
+    public int zoneIndex(String zoneId) {
+        return zoneIndex.getOrDefault(zoneId, -1);
+    }
+
+    public int zoneOf(int sensor) {
+        return sensorZone[sensor];
+    }
+
+    // ID 목록 펼치기: "TEMP-001..TEMP-012" -> TEMP-001, ..., TEMP-012 / "A,B" -> A, B
+    public static List<String> expand(String spec) {
+        List<String> ids = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            part = part.trim();
+            if (part.isEmpty()) continue;
+            int dots = part.indexOf("..");
+            if (dots < 0) {
+                ids.add(part);
+                continue;
+            }
+            String from = part.substring(0, dots).trim();
+            String to = part.substring(dots + 2).trim();
+            int fromDigits = digitsStart(from);
+            int toDigits = digitsStart(to);
+            String prefix = from.substring(0, fromDigits);
+            if (fromDigits == from.length() || toDigits == to.length() || !prefix.equals(to.substring(0, toDigits))) {
+                throw new IllegalArgumentException("range must be <prefix><number>..<prefix><number>: " + part);
+            }
+            int width = from.length() - fromDigits;
+            long first = Long.parseLong(from.substring(fromDigits));
+            long last = Long.parseLong(to.substring(toDigits));
+            if (last < first) throw new IllegalArgumentException("empty range: " + part);
+            for (long n = first; n <= last; n++) {
+                ids.add(prefix + String.format("%0" + width + "d", n));
+            }
+        }
+        return ids;
+    }
+
+    // 끝 숫자 부분의 시작 위치
+    private static int digitsStart(String id) {
+        int i = id.length();
+        while (i > 0 && Character.isDigit(id.charAt(i - 1))) i--;
+        return i;
+    }
+
+    public static final class Builder {
+        private final List<Sensor> sensors = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        // sensorIds 센서를 zoneIds zone에 연속해서 고르게 나눠 배치
+        public Builder add(String sensorType, String sensorIds, String zoneIds) {
+            List<String> ids = expand(sensorIds);
+            List<String> zones = expand(zoneIds);
+            if (ids.isEmpty() || zones.isEmpty()) {
+                throw new IllegalArgumentException("fleet group needs sensors and zones: " + sensorIds + " / " + zoneIds);
+            }
+            int i = 0;
+            for (int z = 0; z < zones.size(); z++) {
+                int count = ids.size() / zones.size() + (z < ids.size() % zones.size() ? 1 : 0);
+                for (int k = 0; k < count; k++) {
+                    sensors.add(new Sensor(sensorType, ids.get(i++), zones.get(z)));
+                }
+            }
+            return this;
+        }
+
+        public Builder add(Sensor sensor) {
+            sensors.add(sensor);
+            return this;
+        }
+
+        public SensorFleet build() {
+            return new SensorFleet(sensors);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.deefacto.sensorDataGen;
+
+import com.deefacto.sensorDataGen.output.SensorSink;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+// 센서 타입별 생성기 공통 인터페이스 (1초 단위로 zone 상태 업데이트 후 센서별 기록)
+// - zone끼리는 상태/난수/출력 파일을 공유하지 않으므로 서로 다른 zone은 동시에 tickZone 가능
+// - 같은 zone은 한 번에 한 스레드에서만, 시간 순서대로 호출해야 한다
+public interface SensorGenerator extends Closeable {
+
+    // 센서 타입 이름 (temperature, humidity, esd, windDir, particle)
+    String sensorType();
+
+    // 시뮬레이션 시작 전 zone 상태 초기화 및 zone별 출력 준비
+    void open(LocalDateTime start, SensorSink sink) throws IOException;
+
+    // open 이후 zone 개수
+    int zoneCount();
+
+    // 전체 센서 수 (1초 tick마다 기록되는 행 수)
+    int sensorCount();
+
+    // zone 하나의 센서 수
+    int sensorCount(int zone);
+
+    // 지금까지 기록한 행 수 (지표용, 다른 스레드에서는 근사값으로 읽음)
+    long rowsEmitted();
+
+    // zone 하나의 시뮬레이션 시간 1초 진행 (zone 상태 업데이트 + 해당 zone 센서 데이터 기록)
+    // epochSecond: UTC 기준 epoch 초 (행마다 LocalDateTime을 만들지 않도록 초 단위로 전달)
+    void tickZone(int zone, long epochSecond) throws IOException;
+
+    // 모든 zone을 순서대로 1초 진행
+    default void tick(long epochSecond) throws IOException {
+        for (int z = 0; z < zoneCount(); z++) {
+            tickZone(z, epochSecond);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.deefacto.sensorDataGen;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+// 센서 값 하나 (ReadingCursor.stream()의 원소)
+// values: SensorSpec.scale 자리 고정소수점 정수 (값 1개 또는 미세먼지 3개), value(c)는 실수 값
+public class SensorReading {
+    public final Sensor sensor;
+    public final long epochSecond; // UTC epoch 초
+    public final int scale;
+    private final long[] values;
+
+    public SensorReading(Sensor sensor, long epochSecond, int scale, long... values) {
+        this.sensor = sensor;
+        this.epochSecond = epochSecond;
+        this.scale = scale;
+        this.values = values.clone();
+    }
+
+    // ReadingCursor용: 커서가 새로 만든 values 배열을 복사하지 않고 넘겨받는다
+    SensorReading(Sensor sensor, long epochSecond, SensorSpec spec, long[] values) {
+        this.sensor = sensor;
+        this.epochSecond = epochSecond;
+        this.scale = spec.scale;
+        this.values = values;
+    }
+
+    public LocalDateTime time() {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    public int channels() {
+        return values.length;
+    }
+
+    // 고정소수점 값 (예: 21.25°C, scale 2 -> 2125)
+    public long fixedValue(int channel) {
+        return values[channel];
+    }
+
+    public double value(int channel) {
+        return ReadingCursor.decimal(values[channel], scale);
+    }
+
+    @Override
+    public String toString() {
+        return time() + " " + sensor.sensorType + " " + sensor.sensorId + " " + Arrays.toString(values);
+    }
+}
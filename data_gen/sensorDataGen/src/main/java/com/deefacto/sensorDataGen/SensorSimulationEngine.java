@@ -0,0 +1,579 @@
+package com.deefacto.sensorDataGen;
+
+import com.deefacto.sensorDataGen.output.ColumnarFileSink;
+import com.deefacto.sensorDataGen.output.JdbcSink;
+import com.deefacto.sensorDataGen.output.OpenSearchSink;
+import com.deefacto.sensorDataGen.output.RollingFileSink;
+import com.deefacto.sensorDataGen.output.SensorSink;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// 모든 센서 타입 생성기를 하나의 시뮬레이션 시계로 병렬 실행하는 엔진
+// - 전체 구간을 epoch(기본 1시간) 단위로 나누고, epoch마다 (생성기, zone) 단위 작업을 fork-join pool에서 실행
+// - zone은 상태/난수 스트림/출력 파일을 공유하지 않으므로 epoch 구간을 zone별로 독립 진행할 수 있다
+// - 모든 zone이 epoch를 끝내야 시계가 진행되므로 타입/zone 간 시간이 어긋나지 않는다
+// - 재생 모드(replay)는 같은 방식으로 짧은 구간을 벽시계에 맞춰 실행한다 (1배속 = 실시간 모드 runLive)
+// - 실행 중 제어 (다른 스레드에서 호출, 다음 tick/epoch부터 적용): setSpeed(재생 배속), pause/resume,
+//   setActiveZones(생성기마다 앞에서부터 n개 zone만 생성 -> 센서 수/데이터 양 조절)
+public class SensorSimulationEngine implements AutoCloseable {
+    public static final int DEFAULT_EPOCH_SECONDS = 3600; // epoch 길이(초)
+    private static final int SPLIT_THRESHOLD = 4; // 한 작업이 직접 처리할 최대 zone 수
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long MIN_TICK_NANOS = 10_000_000L; // 고속 재생 시 tick 간격 하한 (10ms)
+    private static final long PAUSE_POLL_NANOS = 10_000_000L; // 일시 정지 중 재개 확인 간격
+    public static final double AS_FAST_AS_POSSIBLE = Double.POSITIVE_INFINITY; // 속도 제한 없는 재생
+
+    private final List<SensorGenerator> generators;
+    private final ForkJoinPool pool;
+    private final int epochSeconds;
+    private volatile double speed = Double.NaN; // 재생 배속 (replay 시작 시 설정, setSpeed로 변경)
+    private volatile boolean paused;
+    private volatile int activeZones = Integer.MAX_VALUE; // 생성기별로 생성하는 zone 수
+    private volatile boolean stopping; // requestStop 호출됨
+    private volatile PacedTicker pacer; // 실행 중인 재생 모드 tick 작업
+
+    public SensorSimulationEngine(List<SensorGenerator> generators, int workerCount) {
+        this(generators, workerCount, DEFAULT_EPOCH_SECONDS);
+    }
+
+    public SensorSimulationEngine(List<SensorGenerator> generators, int workerCount, int epochSeconds) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("workerCount must be >= 1: " + workerCount);
+        }
+        if (epochSeconds < 1) {
+            throw new IllegalArgumentException("epochSeconds must be >= 1: " + epochSeconds);
+        }
+        this.generators = new ArrayList<>(generators);
+        this.epochSeconds = epochSeconds;
+        this.pool = new ForkJoinPool(workerCount);
+    }
+
+    // 재생 배속 변경 (replay 실행 중이면 다음 tick부터 새 배속 기준으로 다시 맞춘다, 일괄 생성 모드에는 영향 없음)
+    public void setSpeed(double speed) {
+        if (!(speed > 0) || Double.isInfinite(speed)) {
+            throw new IllegalArgumentException("speed must be > 0 and finite: " + speed);
+        }
+        this.speed = speed;
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    // 일시 정지: 진행 중인 tick/epoch는 끝까지 실행하고 다음 것부터 멈춘다 (시뮬레이션 시계도 멈춤)
+    public void pause() {
+        paused = true;
+    }
+
+    // 재개: 멈췄던 시각부터 이어서 진행 (재생 모드는 재개 시점을 새 기준 시각으로 삼아 밀린 tick을 따라잡지 않는다)
+    public void resume() {
+        paused = false;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    // 중단 요청: 진행 중인 tick/epoch는 끝까지 기록하고 다음 것부터 멈춘다 (run/replay는 InterruptedIOException으로 끝난다)
+    // 스레드 interrupt와 달리 기록 중인 FileChannel이 닫히지 않아 버퍼에 남은 행도 close에서 모두 기록된다
+    public void requestStop() {
+        stopping = true;
+        PacedTicker p = pacer;
+        if (p != null) p.stop();
+    }
+
+    // 생성기마다 zone 순서로 앞에서부터 zones개만 생성 (나머지 zone은 상태와 출력이 그대로 멈춰 있다가 다시 늘리면 이어서 생성)
+    public void setActiveZones(int zones) {
+        if (zones < 0) {
+            throw new IllegalArgumentException("active zones must be >= 0: " + zones);
+        }
+        this.activeZones = zones;
+    }
+
+    public int getActiveZones() {
+        return activeZones;
+    }
+
+    // 현재 zone 제한으로 1초마다 기록되는 행 수
+    public long activeSensorCount() {
+        return rowsPerSecond(activeZones);
+    }
+
+    // 기본 5개 센서 타입 생성기 (기본 센서 배치 fleet.csv, zone A/B/C)
+    // 모든 생성기가 같은 전역 seed를 쓰고, 센서 타입/zone/센서별 스트림은 RandomSource가 나눈다
+    public static List<SensorGenerator> defaultGenerators() {
+        return defaultGenerators(RandomSource.fromSystemProperties());
+    }
+
+    public static List<SensorGenerator> defaultGenerators(long seed) {
+        return defaultGenerators(RandomSource.of(seed));
+    }
+
+    public static List<SensorGenerator> defaultGenerators(RandomSource random) {
+        return generators(SensorFleet.defaultFleet(), random);
+    }
+
+    // 부하 테스트용: 타입별로 zoneCount개 zone에 zone당 sensorsPerZone개 센서 배치
+    public static List<SensorGenerator> gridGenerators(int zoneCount, int sensorsPerZone, long seed) {
+        return gridGenerators(zoneCount, sensorsPerZone, RandomSource.of(seed));
+    }
+
+    public static List<SensorGenerator> gridGenerators(int zoneCount, int sensorsPerZone, RandomSource random) {
+        return generators(SensorFleet.synthetic(zoneCount, sensorsPerZone), random);
+    }
+
+    // fleet의 센서 타입마다 생성기 하나 (fleet 등록 순서, 타입별 spec/profile은 SensorTypes)
+    public static List<SensorGenerator> generators(SensorFleet fleet, RandomSource random) {
+        List<SensorGenerator> generators = new ArrayList<>();
+        for (String type : fleet.sensorTypes()) {
+            generators.add(SensorTypes.generator(type, fleet.sensors(type), random));
+        }
+        return generators;
+    }
+
+    // 일괄 생성 모드: 가능한 한 빠르게 전체 구간 생성 (requestStop 또는 스레드 interrupt 시 epoch 사이에서 InterruptedIOException으로 중단)
+    public void run(SimulationClock clock, SensorSink sink) throws IOException {
+        run(clock, sink, new TickStats());
+    }
+
+    public void run(SimulationClock clock, SensorSink sink, TickStats stats) throws IOException {
+        List<ZoneUnit> units = open(clock, sink);
+        try {
+            while (!clock.isFinished()) {
+                awaitResume();
+                int limit = activeZones;
+                long from = clock.getElapsed();
+                long to = Math.min(clock.getTotalSeconds(), from + epochSeconds);
+                runEpoch(units, limit, clock, from, to);
+                clock.advance(to - from);
+                stats.advance(to - from, (to - from) * rowsPerSecond(limit));
+            }
+        } finally {
+            closeGenerators();
+        }
+    }
+
+    // 일괄 생성 모드의 epoch 사이: 일시 정지 중이면 대기, 중단 요청이나 interrupt가 오면 중단
+    private void awaitResume() throws InterruptedIOException {
+        while (true) {
+            if (stopping) {
+                throw new InterruptedIOException("simulation stopped");
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("simulation interrupted");
+            }
+            if (!paused) return;
+            LockSupport.parkNanos(PAUSE_POLL_NANOS);
+        }
+    }
+
+    // 실시간 모드: 시뮬레이션 1초를 벽시계 1초마다 실행 (1배속 재생)
+    // 시작 시각이 현재보다 미래면 그 시각에 첫 tick (시작 시각을 다음 정각 초로 주면 벽시계 초에 맞춰 tick)
+    public void runLive(SimulationClock clock, SensorSink sink, TickStats stats) throws IOException, InterruptedException {
+        replay(clock, sink, 1.0, stats);
+    }
+
+    // 재생 모드: 시뮬레이션 시간을 벽시계의 speed배로 진행 (1 = 실시간, 288 = 하루를 5분에, AS_FAST_AS_POSSIBLE = 일괄 생성)
+    // - tick 예정 시각은 고정된 기준 시각 + n * 주기로 계산하므로 지연이 누적(drift)되지 않는다
+    // - 배속이 높으면 tick 간격이 10ms 이상이 되도록 tick 하나에 여러 초를 묶어 실행
+    // - tick 안에서 sink에 동기적으로 기록하고 flush하므로, sink가 느리면 대기열이 쌓이는 대신 tick이 늦어진다 (backpressure)
+    // - 실행 중 setSpeed/pause/resume 가능 (배속이 바뀌거나 재개하면 그 tick부터 기준 시각을 다시 잡는다)
+    public void replay(SimulationClock clock, SensorSink sink, double speed, TickStats stats)
+            throws IOException, InterruptedException {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("speed must be > 0: " + speed);
+        }
+        if (Double.isInfinite(speed)) {
+            run(clock, sink, stats);
+            return;
+        }
+        this.speed = speed;
+        List<ZoneUnit> units = open(clock, sink);
+        ScheduledThreadPoolExecutor ticker = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "sim-ticker");
+            t.setDaemon(true);
+            return t;
+        });
+        // 종료 후에는 예약만 된 다음 tick을 실행하지 않는다
+        ticker.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        try {
+            long initialDelay = Math.max(0L,
+                    TimeUnit.MILLISECONDS.toNanos(clock.epochSecondAt(clock.getElapsed()) * 1000 - System.currentTimeMillis()));
+            PacedTicker task = new PacedTicker(units, clock, sink, stats, ticker);
+            pacer = task;
+            task.start(initialDelay);
+            task.await();
+        } finally {
+            pacer = null;
+            // 진행 중인 tick은 interrupt하지 않고 끝까지 기록하게 둔 뒤 생성기를 닫는다
+            // (FileChannel은 InterruptibleChannel이라 기록 중 interrupt되면 채널이 닫혀 버퍼의 행을 잃는다)
+            drain(ticker);
+            closeGenerators();
+        }
+    }
+
+    // ticker 종료: 진행 중인 tick이 끝날 때까지 기다리고, 1분 안에 끝나지 않을 때만 interrupt
+    // 호출한 스레드가 interrupt되어도 기다린 뒤 interrupt 상태를 되돌려 놓는다
+    private static void drain(ExecutorService ticker) {
+        ticker.shutdown();
+        boolean interrupted = false;
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+        try {
+            while (true) {
+                try {
+                    if (!ticker.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                        ticker.shutdownNow();
+                    }
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<ZoneUnit> open(SimulationClock clock, SensorSink sink) throws IOException {
+        for (SensorGenerator gen : generators) {
+            gen.open(clock.getStart(), sink);
+        }
+        List<ZoneUnit> units = new ArrayList<>();
+        for (SensorGenerator gen : generators) {
+            for (int z = 0; z < gen.zoneCount(); z++) {
+                units.add(new ZoneUnit(gen, z));
+            }
+        }
+        sink.prepare(clock.epochSecondAt(clock.getElapsed()));
+        return units;
+    }
+
+    // zone 제한이 limit일 때 1초마다 기록되는 행 수
+    private long rowsPerSecond(int limit) {
+        long rows = 0;
+        for (SensorGenerator gen : generators) {
+            if (limit >= gen.zoneCount()) {
+                rows += gen.sensorCount();
+                continue;
+            }
+            for (int z = 0; z < limit; z++) {
+                rows += gen.sensorCount(z);
+            }
+        }
+        return rows;
+    }
+
+    // 구간 [from, to)를 zone별로 병렬 실행
+    private void runEpoch(List<ZoneUnit> units, int limit, SimulationClock clock, long from, long to) throws IOException {
+        try {
+            pool.invoke(new EpochTask(units, 0, units.size(), limit, clock, from, to));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void closeGenerators() throws IOException {
+        IOException failure = null;
+        for (SensorGenerator gen : generators) {
+            try {
+                gen.close();
+            } catch (IOException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        if (failure != null) throw failure;
+    }
+
+    // 재생 모드 tick 작업: 매 tick 끝에 다음 tick을 기준 시각 + (k+1) * 주기에 예약
+    // 늦어진 tick은 지연 0으로 바로 예약되어 따라잡는다
+    // 배속이 바뀌거나 일시 정지에서 재개하면 그 시각을 새 기준 시각으로 tick 주기를 다시 계산한다
+    private class PacedTicker implements Runnable {
+        private final List<ZoneUnit> units;
+        private final SimulationClock clock;
+        private final SensorSink sink;
+        private final TickStats stats;
+        private final ScheduledExecutorService ticker;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private double pacedSpeed; // 현재 기준 시각을 잡을 때의 배속
+        private long secondsPerTick; // tick 하나에 진행할 시뮬레이션 초
+        private long periodNanos; // tick 주기 (벽시계)
+        private long origin; // 기준 시각: 기준 이후 첫 tick 예정 시각 (nanoTime)
+        private long tick; // 기준 시각 이후 실행한 tick 수
+        private boolean waiting; // 일시 정지로 대기 중
+
+        PacedTicker(List<ZoneUnit> units, SimulationClock clock, SensorSink sink, TickStats stats,
+                    ScheduledExecutorService ticker) {
+            this.units = units;
+            this.clock = clock;
+            this.sink = sink;
+            this.stats = stats;
+            this.ticker = ticker;
+        }
+
+        void start(long initialDelayNanos) {
+            if (stopping) {
+                stop();
+                return;
+            }
+            if (clock.isFinished()) {
+                done.complete(null);
+                return;
+            }
+            rebase(speed, System.nanoTime() + initialDelayNanos);
+            ticker.schedule(this, initialDelayNanos, TimeUnit.NANOSECONDS);
+        }
+
+        // 배속 s로 at부터 다시 tick 계산 (배속이 높으면 tick 간격이 10ms 이상이 되도록 tick 하나에 여러 초)
+        private void rebase(double s, long at) {
+            pacedSpeed = s;
+            secondsPerTick = Math.max(1L, Math.min(epochSeconds, (long) Math.ceil(s * MIN_TICK_NANOS / NANOS_PER_SECOND)));
+            periodNanos = Math.round(secondsPerTick * NANOS_PER_SECOND / s);
+            origin = at;
+            tick = 0;
+        }
+
+        // await를 바로 끝낸다 (진행 중인 tick은 replay의 drain이 끝까지 기다린다)
+        void stop() {
+            done.completeExceptionally(new InterruptedIOException("simulation stopped"));
+        }
+
+        void await() throws IOException, InterruptedException {
+            try {
+                done.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) throw (IOException) cause;
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw new IllegalStateException(cause);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (paused) {
+                    waiting = true;
+                    if (!ticker.isShutdown()) ticker.schedule(this, PAUSE_POLL_NANOS, TimeUnit.NANOSECONDS);
+                    return;
+                }
+                long begin = System.nanoTime();
+                double s = speed;
+                if (waiting || s != pacedSpeed) {
+                    waiting = false;
+                    rebase(s, begin);
+                }
+                long deadline = origin + tick * periodNanos;
+                int limit = activeZones;
+                long from = clock.getElapsed();
+                long to = Math.min(clock.getTotalSeconds(), from + secondsPerTick);
+                runEpoch(units, limit, clock, from, to);
+                sink.flush();
+                stats.record(begin - deadline, System.nanoTime() - deadline, periodNanos);
+                clock.advance(to - from);
+                stats.advance(to - from, (to - from) * rowsPerSecond(limit));
+                tick++;
+                if (clock.isFinished()) {
+                    done.complete(null);
+                    return;
+                }
+                if (!ticker.isShutdown()) {
+                    ticker.schedule(this, deadline + periodNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+                }
+            } catch (Throwable e) {
+                done.completeExceptionally(e);
+            }
+        }
+    }
+
+    // (생성기, zone) 작업 단위
+    private static class ZoneUnit {
+        final SensorGenerator generator;
+        final int zone;
+
+        ZoneUnit(SensorGenerator generator, int zone) {
+            this.generator = generator;
+            this.zone = zone;
+        }
+    }
+
+    // zone 목록을 반으로 나눠가며 epoch 구간 [from, to)를 실행하는 fork-join 작업
+    private static class EpochTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<ZoneUnit> units;
+        private final int lo;
+        private final int hi;
+        private final int limit; // 생성기별 zone 제한 (zone 인덱스가 limit 이상이면 건너뜀)
+        private final SimulationClock clock;
+        private final long from;
+        private final long to;
+
+        EpochTask(List<ZoneUnit> units, int lo, int hi, int limit, SimulationClock clock, long from, long to) {
+            this.units = units;
+            this.lo = lo;
+            this.hi = hi;
+            this.limit = limit;
+            this.clock = clock;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > SPLIT_THRESHOLD) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new EpochTask(units, lo, mid, limit, clock, from, to),
+                        new EpochTask(units, mid, hi, limit, clock, from, to));
+                return;
+            }
+            try {
+                for (int u = lo; u < hi; u++) {
+                    ZoneUnit unit = units.get(u);
+                    if (unit.zone >= limit) continue;
+                    long end = clock.epochSecondAt(to);
+                    for (long t = clock.epochSecondAt(from); t < end; t++) {
+                        unit.generator.tickZone(unit.zone, t);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    // 진행 상황 출력 (시뮬레이션 시각, 누적 행 수, 직전 출력 이후 rows/s 와 실제 배속, tick 통계)
+    private static class ProgressReport implements Runnable {
+        private final SimulationClock clock;
+        private final TickStats stats;
+        private long lastNanos = System.nanoTime();
+        private long lastRows;
+        private long lastSeconds;
+
+        ProgressReport(SimulationClock clock, TickStats stats) {
+            this.clock = clock;
+            this.stats = stats;
+        }
+
+        @Override
+        public void run() {
+            long now = System.nanoTime();
+            long rows = stats.getRows();
+            long seconds = stats.getSimulatedSeconds();
+            double wall = (now - lastNanos) / (double) NANOS_PER_SECOND;
+            System.out.printf("sim=%s rows/s=%.0f speed=%.1fx %s%n", clock.timeAt(clock.getElapsed()),
+                    (rows - lastRows) / wall, (seconds - lastSeconds) / wall, stats);
+            lastNanos = now;
+            lastRows = rows;
+            lastSeconds = seconds;
+        }
+    }
+
+    // 출력 대상
+    // - -Djdbc.url=jdbc:mysql://... : MySQL 테이블 (-Djdbc.user, -Djdbc.password, -Djdbc.batch)
+    // - -Dopensearch.url=http://localhost:9200 : OpenSearch 인덱스 (-Dopensearch.user, -Dopensearch.password)
+    // - -Doutput=columnar : Data/ 아래 센서별 1시간 단위 컬럼 바이너리 파일 (.scol, ColumnarFormat.read로 읽기)
+    // - 모두 없으면 Data/ 아래 센서 타입 공통 1시간 단위 CSV
+    private static SensorSink openSink() {
+        String jdbcUrl = System.getProperty("jdbc.url");
+        if (jdbcUrl != null) {
+            return JdbcSink.connect(jdbcUrl, System.getProperty("jdbc.user"), System.getProperty("jdbc.password"),
+                    Integer.getInteger("jdbc.batch", JdbcSink.DEFAULT_BATCH_ROWS), 4);
+        }
+        String openSearchUrl = System.getProperty("opensearch.url");
+        if (openSearchUrl != null) {
+            return new OpenSearchSink(URI.create(openSearchUrl), System.getProperty("opensearch.user"),
+                    System.getProperty("opensearch.password"), OpenSearchSink.DEFAULT_BATCH_DOCS,
+                    OpenSearchSink.DEFAULT_MAX_IN_FLIGHT);
+        }
+        if ("columnar".equals(System.getProperty("output"))) {
+            return new ColumnarFileSink(Paths.get("Data"));
+        }
+        return new RollingFileSink(Paths.get("Data"));
+    }
+
+    // 사용법: SensorSimulationEngine [days] [workers] [seed] [zones] [sensorsPerZone]
+    //         SensorSimulationEngine live [seconds] [workers] [seed] [zones] [sensorsPerZone]
+    //         SensorSimulationEngine replay <speed|max> [days] [workers] [seed] [zones] [sensorsPerZone]
+    // zones를 지정하지 않으면 -Dfleet=<fleet CSV 파일>, 그것도 없으면 기본 센서 배치(fleet.csv, zone A/B/C)를 사용한다
+    // live: 현재 시각(UTC)부터 seconds초 동안 1초마다 실시간 생성
+    // replay: 2025-07-15T09:32부터 speed배속으로 생성 (max = 속도 제한 없음, 예: 288 = 하루를 5분에)
+    // seed를 지정하지 않으면 -Dsensor.seed, 그것도 없으면 임의 seed (시작 시 출력), 난수 알고리즘은 -Dsensor.random
+    // 10초마다 진행 상황(rows/s, 실제 배속, tick 통계) 출력
+    // -Danomaly.skipAhead=true : 스파이크 발생 시점을 기하 분포로 미리 뽑아 NORMAL 상태의 step별 난수를 생략
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String mode = args.length > 0 && (args[0].equals("live") || args[0].equals("replay")) ? args[0] : "batch";
+        double speed = AS_FAST_AS_POSSIBLE;
+        if (mode.equals("live")) {
+            speed = 1.0;
+            args = Arrays.copyOfRange(args, 1, args.length);
+        } else if (mode.equals("replay")) {
+            speed = args.length > 1 && !args[1].equals("max") ? Double.parseDouble(args[1]) : AS_FAST_AS_POSSIBLE;
+            args = Arrays.copyOfRange(args, Math.min(2, args.length), args.length);
+        }
+        boolean live = mode.equals("live");
+        long seconds = args.length > 0 ? Long.parseLong(args[0]) * (live ? 1 : 86400L) : (live ? 3600 : 86400L);
+        int workerCount = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        RandomSource random = args.length > 2
+                ? RandomSource.of(Long.parseLong(args[2]),
+                        System.getProperty(RandomSource.ALGORITHM_PROPERTY, RandomSource.DEFAULT_ALGORITHM))
+                : RandomSource.fromSystemProperties();
+        System.out.println("random: " + random); // 같은 데이터를 다시 만들 때 쓸 seed
+        String fleetFile = System.getProperty("fleet");
+        SensorFleet fleet = args.length > 3
+                ? SensorFleet.synthetic(Integer.parseInt(args[3]), args.length > 4 ? Integer.parseInt(args[4]) : 4)
+                : fleetFile != null ? SensorFleet.load(Paths.get(fleetFile)) : SensorFleet.defaultFleet();
+        System.out.println("fleet: " + fleet.size() + " sensors, " + fleet.zoneCount() + " zones");
+        List<SensorGenerator> generators = generators(fleet, random);
+        if (Boolean.getBoolean("anomaly.skipAhead")) {
+            for (SensorGenerator generator : generators) {
+                if (generator instanceof AnomalySensorGenerator) ((AnomalySensorGenerator) generator).skipAhead(true);
+            }
+        }
+        LocalDateTime start = live
+                ? LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS).plusSeconds(1)
+                : LocalDateTime.of(2025, 7, 15, 9, 32, 0);
+        SimulationClock clock = new SimulationClock(start, seconds);
+        TickStats stats = new TickStats();
+        ProgressReport progress = new ProgressReport(clock, stats);
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "sim-report");
+            t.setDaemon(true);
+            return t;
+        });
+        reporter.scheduleAtFixedRate(progress, 10, 10, TimeUnit.SECONDS);
+        try (SensorSink sink = openSink();
+             SensorSimulationEngine engine = new SensorSimulationEngine(generators, workerCount)) {
+            engine.replay(clock, sink, speed, stats);
+        } finally {
+            reporter.shutdownNow();
+            progress.run();
+        }
+    }
+}
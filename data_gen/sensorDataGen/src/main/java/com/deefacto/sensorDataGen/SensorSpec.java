@@ -0,0 +1,44 @@
+package com.deefacto.sensorDataGen;
+
+// 센서 타입별 출력 형식 정보 (CSV sensor_type/unit 컬럼, 값 컬럼, 고정소수점 자릿수, 출력 디렉토리, DB 테이블, OpenSearch 인덱스)
+public class SensorSpec {
+    public final String sensorType; // CSV sensor_type 컬럼 값 (temperature, humidity, esd, windDir, particle)
+    public final String unit; // CSV unit 컬럼 값 (°C, %RH, V, deg, PPM)
+    public final int scale; // 값 소수 자릿수 (값은 10^scale 배 정수로 전달, 예: 21.25°C -> 2125)
+    public final String[] valueColumns; // 값 컬럼명 (val 또는 val_0.1µm, val_0.3µm, val_0.5µm)
+    public final String dataDir; // Data/ 하위 출력 디렉토리
+    public final String table; // MySQL 테이블명 (temp_data, hum_data, wind_data, esd_data, lpm_data)
+    public final String index; // OpenSearch 인덱스명 (sensor_temp_stream, ..., sensor_particle_stream)
+
+    public SensorSpec(String sensorType, String unit, int scale, String dataDir, String table, String index,
+                      String... valueColumns) {
+        if (valueColumns.length != 1 && valueColumns.length != 3) {
+            throw new IllegalArgumentException("value column count must be 1 or 3: " + valueColumns.length);
+        }
+        this.sensorType = sensorType;
+        this.unit = unit;
+        this.scale = scale;
+        this.valueColumns = valueColumns.clone();
+        this.dataDir = dataDir;
+        this.table = table;
+        this.index = index;
+    }
+
+    public int channels() {
+        return valueColumns.length;
+    }
+
+    // CSV 헤더 행
+    public String header() {
+        return "timestamp,sensor_type,sensor_id,unit," + String.join(",", valueColumns) + "\n";
+    }
+
+    // DB / OpenSearch 값 필드명 (val_0.1µm -> val_0_1um)
+    public String[] dbColumns() {
+        String[] columns = new String[valueColumns.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = valueColumns[i].replace('.', '_').replace('µ', 'u');
+        }
+        return columns;
+    }
+}
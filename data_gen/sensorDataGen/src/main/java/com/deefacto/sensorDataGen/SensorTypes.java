@@ -0,0 +1,66 @@
+package com.deefacto.sensorDataGen;
+
+import com.deefacto.sensorDataGen.esd.EsdCsvGenerator;
+import com.deefacto.sensorDataGen.humidity.HumidityCsvGenerator;
+import com.deefacto.sensorDataGen.particle.ParticleCsvGenerator;
+import com.deefacto.sensorDataGen.temperature.TempCsvGenerator;
+import com.deefacto.sensorDataGen.wind.WindDirCsvGenerator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 센서 타입 레지스트리: 센서 타입 -> 출력 형식(SensorSpec) + 이상치 모델(AnomalyProfile)
+// - 기본 5개 타입은 여기서 한 번에 등록한다 (값은 타입별 생성기 클래스의 SPEC/PROFILE)
+// - 생성기는 타입과 관계없이 AnomalySensorGenerator 하나로 만든다: 새 타입은 register만 하면 된다
+public final class SensorTypes {
+    private static final Map<String, Type> TYPES = new ConcurrentHashMap<>();
+
+    static {
+        register(TempCsvGenerator.SPEC, TempCsvGenerator.PROFILE);
+        register(HumidityCsvGenerator.SPEC, HumidityCsvGenerator.PROFILE);
+        register(EsdCsvGenerator.SPEC, EsdCsvGenerator.PROFILE);
+        register(WindDirCsvGenerator.SPEC, WindDirCsvGenerator.PROFILE);
+        register(ParticleCsvGenerator.SPEC, ParticleCsvGenerator.PROFILE);
+    }
+
+    private SensorTypes() {
+    }
+
+    // 등록된 타입 하나
+    public static final class Type {
+        public final SensorSpec spec;
+        public final AnomalyProfile profile;
+
+        private Type(SensorSpec spec, AnomalyProfile profile) {
+            this.spec = spec;
+            this.profile = profile;
+        }
+    }
+
+    // spec.sensorType으로 등록 (같은 타입이 이미 있으면 교체)
+    public static void register(SensorSpec spec, AnomalyProfile profile) {
+        if (spec.channels() != profile.channels()) {
+            throw new IllegalArgumentException(spec.sensorType + " has " + spec.channels()
+                    + " value columns but profile has " + profile.channels() + " channels");
+        }
+        TYPES.put(spec.sensorType, new Type(spec, profile));
+    }
+
+    public static Type get(String sensorType) {
+        Type type = TYPES.get(sensorType);
+        if (type == null) throw new IllegalArgumentException("unknown sensor type: " + sensorType);
+        return type;
+    }
+
+    public static Set<String> names() {
+        return Set.copyOf(TYPES.keySet());
+    }
+
+    // 등록된 spec/profile로 sensorType 생성기 만들기
+    public static AnomalySensorGenerator generator(String sensorType, List<Sensor> sensors, RandomSource random) {
+        Type type = get(sensorType);
+        return new AnomalySensorGenerator(type.spec, type.profile, sensors, random);
+    }
+}
@@ -0,0 +1,56 @@
+package com.deefacto.sensorDataGen;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// 모든 생성기가 공유하는 시뮬레이션 시계 (시작 시각 + 경과 초)
+public class SimulationClock {
+    private final LocalDateTime start; // 시뮬레이션 시작 시각
+    private final long startEpochSecond; // 시작 시각 (UTC epoch 초)
+    private final long totalSeconds; // 전체 시뮬레이션 길이(초)
+    private volatile long elapsed; // 현재까지 진행된 초
+
+    public SimulationClock(LocalDateTime start, long totalSeconds) {
+        if (totalSeconds < 0) {
+            throw new IllegalArgumentException("totalSeconds must be >= 0: " + totalSeconds);
+        }
+        this.start = start;
+        this.startEpochSecond = start.toEpochSecond(ZoneOffset.UTC);
+        this.totalSeconds = totalSeconds;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public long getTotalSeconds() {
+        return totalSeconds;
+    }
+
+    public long getElapsed() {
+        return elapsed;
+    }
+
+    public long getRemaining() {
+        return totalSeconds - elapsed;
+    }
+
+    public boolean isFinished() {
+        return elapsed >= totalSeconds;
+    }
+
+    // 시작 시각 기준 i초 후의 시각
+    public LocalDateTime timeAt(long i) {
+        return start.plusSeconds(i);
+    }
+
+    // 시작 시각 기준 i초 후의 UTC epoch 초
+    public long epochSecondAt(long i) {
+        return startEpochSecond + i;
+    }
+
+    // 모든 생성기가 해당 구간을 끝낸 후에만 호출 (엔진 단일 스레드)
+    void advance(long seconds) {
+        elapsed = Math.min(totalSeconds, elapsed + seconds);
+    }
+}
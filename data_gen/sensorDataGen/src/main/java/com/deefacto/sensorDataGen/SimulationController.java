@@ -0,0 +1,89 @@
+package com.deefacto.sensorDataGen;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+// 시뮬레이션 제어 API (모든 응답은 변경 후 상태)
+//   GET  /api/simulation/status
+//   POST /api/simulation/start                 본문(선택): SimulationScenario JSON
+//   POST /api/simulation/stop | pause | resume
+//   PUT  /api/simulation/speed?value=288       재생 배속 변경
+//   PUT  /api/simulation/zones?active=100      타입별 생성 zone 수 변경 (센서 수/데이터 양 조절)
+//   POST /api/simulation/anomalies/{sensorType}/{zoneId}   zone에 스파이크 발생
+// 실행 중이 아닐 때 제어하면 409, 잘못된 값은 400
+@RestController
+@RequestMapping("/api/simulation")
+public class SimulationController {
+    private final SimulationService service;
+
+    public SimulationController(SimulationService service) {
+        this.service = service;
+    }
+
+    @GetMapping("/status")
+    public SimulationStatus status() {
+        return service.status();
+    }
+
+    @PostMapping("/start")
+    public SimulationStatus start(@RequestBody(required = false) SimulationScenario scenario) {
+        return service.start(scenario != null ? scenario : new SimulationScenario());
+    }
+
+    @PostMapping("/stop")
+    public SimulationStatus stop() throws InterruptedException {
+        service.stop();
+        return service.status();
+    }
+
+    @PostMapping("/pause")
+    public SimulationStatus pause() {
+        service.pause();
+        return service.status();
+    }
+
+    @PostMapping("/resume")
+    public SimulationStatus resume() {
+        service.resume();
+        return service.status();
+    }
+
+    @PutMapping("/speed")
+    public SimulationStatus speed(@RequestParam double value) {
+        service.setSpeed(value);
+        return service.status();
+    }
+
+    @PutMapping("/zones")
+    public SimulationStatus zones(@RequestParam int active) {
+        service.setActiveZones(active);
+        return service.status();
+    }
+
+    @PostMapping("/anomalies/{sensorType}/{zoneId}")
+    public SimulationStatus anomaly(@PathVariable String sensorType, @PathVariable String zoneId) {
+        service.triggerAnomaly(sensorType, zoneId);
+        return service.status();
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<Map<String, String>> conflict(IllegalStateException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+}
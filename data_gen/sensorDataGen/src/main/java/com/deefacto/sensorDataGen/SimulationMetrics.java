@@ -0,0 +1,176 @@
+package com.deefacto.sensorDataGen;
+
+import com.deefacto.sensorDataGen.output.SensorSink;
+import com.deefacto.sensorDataGen.output.ZoneWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+// 시뮬레이션 실행 지표 (Micrometer, Actuator /actuator/metrics/<이름>으로 조회)
+// - sensor.sim.ticks / sensor.sim.seconds / sensor.sim.ticks.late: tick 수, 진행한 시뮬레이션 초, 늦게 시작한 tick 수
+// - sensor.sim.tick.lag: 직전 tick이 예정 시각보다 늦은 시간, sensor.sim.tick.jitter / sensor.sim.emit.latency: 분포 (quantile 태그)
+// - sensor.rows: 센서 타입별 생성 행 수 (sensor.type 태그)
+// - sensor.sink.bytes / sensor.sink.flush: 출력 byte 수, flush 지연 분포 (sink 태그)
+// - sensor.zone.transitions: zone별 상태 진입 횟수 (sensor.type, zone, state 태그, 예: state=SPIKING이면 NORMAL->SPIKING)
+// 모든 값은 기존 통계(TickStats, ZoneStateStore, sink 카운터)를 조회할 때 읽으므로 생성 경로에 비용을 거의 더하지 않는다
+// (zone step마다 카운터 하나 증가)
+public class SimulationMetrics {
+    // 생성기 하나의 zone이 이보다 많으면 zone별 상태 전환 지표 대신 타입 합계(zone=all)만 등록 (태그 수 제한)
+    public static final int MAX_ZONE_METERS = 1000;
+
+    private final MeterRegistry registry;
+
+    public SimulationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    // flush 지연을 기록하는 sink (ZoneWriter는 감싸지 않으므로 행 기록 비용은 그대로)
+    public SensorSink instrument(SensorSink sink) {
+        return new MeteredSink(sink, Timer.builder("sensor.sink.flush")
+                .description("sink flush latency")
+                .tag("sink", sinkName(sink))
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    // 실행 하나의 지표 등록, 실행이 끝나면 Binding.close()로 해제
+    public Binding bind(List<SensorGenerator> generators, SensorSink sink, TickStats stats) {
+        Binding binding = new Binding();
+        binding.add(FunctionCounter.builder("sensor.sim.ticks", stats, TickStats::getTicks)
+                .description("paced ticks executed").register(registry));
+        binding.add(FunctionCounter.builder("sensor.sim.seconds", stats, TickStats::getSimulatedSeconds)
+                .description("simulated seconds generated").baseUnit("seconds").register(registry));
+        binding.add(FunctionCounter.builder("sensor.sim.ticks.late", stats, TickStats::getLateTicks)
+                .description("ticks started a full period or more behind schedule").register(registry));
+        binding.add(TimeGauge.builder("sensor.sim.tick.lag", stats, TimeUnit.NANOSECONDS, TickStats::getLastJitterNanos)
+                .description("how far the last tick started behind schedule").register(registry));
+        histogram(binding, "sensor.sim.tick.jitter", stats.getJitter());
+        histogram(binding, "sensor.sim.emit.latency", stats.getEmitLatency());
+
+        for (SensorGenerator generator : generators) {
+            binding.add(FunctionCounter.builder("sensor.rows", generator, g -> (double) g.rowsEmitted())
+                    .description("rows emitted").tag("sensor.type", generator.sensorType()).register(registry));
+            if (generator instanceof AnomalySensorGenerator) {
+                transitions(binding, (AnomalySensorGenerator) generator);
+            }
+        }
+
+        SensorSink target = sink instanceof MeteredSink ? ((MeteredSink) sink).delegate : sink;
+        if (target.bytesWritten() >= 0) {
+            binding.add(FunctionCounter.builder("sensor.sink.bytes", target, SensorSink::bytesWritten)
+                    .description("bytes written by the sink").baseUnit("bytes").tag("sink", sinkName(target))
+                    .register(registry));
+        }
+        return binding;
+    }
+
+    private void histogram(Binding binding, String name, LatencyHistogram histogram) {
+        quantile(binding, name, "0.5", histogram, h -> h.percentileMicros(50));
+        quantile(binding, name, "0.99", histogram, h -> h.percentileMicros(99));
+        quantile(binding, name, "max", histogram, LatencyHistogram::getMaxMicros);
+    }
+
+    private void quantile(Binding binding, String name, String quantile, LatencyHistogram histogram,
+                          ToDoubleFunction<LatencyHistogram> micros) {
+        binding.add(TimeGauge.builder(name, histogram, TimeUnit.MICROSECONDS, micros)
+                .tag("quantile", quantile).register(registry));
+    }
+
+    private void transitions(Binding binding, AnomalySensorGenerator generator) {
+        String type = generator.sensorType();
+        int zones = generator.zoneCount();
+        for (ZoneMode mode : ZoneMode.values()) {
+            if (zones > MAX_ZONE_METERS) {
+                binding.add(FunctionCounter.builder("sensor.zone.transitions", generator, g -> {
+                    long total = 0;
+                    for (int z = 0; z < g.zoneCount(); z++) total += g.transitions(z, mode);
+                    return total;
+                }).tag("sensor.type", type).tag("zone", "all").tag("state", mode.name()).register(registry));
+                continue;
+            }
+            for (int z = 0; z < zones; z++) {
+                int zone = z;
+                binding.add(FunctionCounter.builder("sensor.zone.transitions", generator, g -> g.transitions(zone, mode))
+                        .tag("sensor.type", type).tag("zone", generator.zoneId(zone)).tag("state", mode.name())
+                        .register(registry));
+            }
+        }
+    }
+
+    private static String sinkName(SensorSink sink) {
+        return sink.getClass().getSimpleName();
+    }
+
+    // 실행 하나에 등록한 지표 (close 시 registry에서 제거)
+    public class Binding implements AutoCloseable {
+        private final List<Meter> meters = new ArrayList<>();
+
+        private void add(Meter meter) {
+            meters.add(meter);
+        }
+
+        public int size() {
+            return meters.size();
+        }
+
+        @Override
+        public void close() {
+            for (Meter meter : meters) registry.remove(meter);
+            meters.clear();
+        }
+    }
+
+    // flush 시간 측정 (나머지는 그대로 전달)
+    private static final class MeteredSink implements SensorSink {
+        private final SensorSink delegate;
+        private final Timer flushTimer;
+
+        MeteredSink(SensorSink delegate, Timer flushTimer) {
+            this.delegate = delegate;
+            this.flushTimer = flushTimer;
+        }
+
+        @Override
+        public ZoneWriter openZone(SensorSpec spec, List<Sensor> sensors) throws IOException {
+            return delegate.openZone(spec, sensors);
+        }
+
+        @Override
+        public void prepare(long epochSecond) throws IOException {
+            delegate.prepare(epochSecond);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            long start = System.nanoTime();
+            try {
+                delegate.flush();
+            } finally {
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        public long bytesWritten() {
+            return delegate.bytesWritten();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.deefacto.sensorDataGen;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDateTime;
+
+// 서비스 모드 시뮬레이션 설정 (sensor.simulation.*)
+//   sensor.simulation.autostart=true : 애플리케이션 시작 시 바로 생성 시작
+//   sensor.simulation.speed=1 : 재생 배속 (1 = 실시간, 0 = 속도 제한 없음)
+//   sensor.simulation.seconds=86400 : 생성할 시뮬레이션 시간(초)
+//   sensor.simulation.start=2025-07-15T09:32:00 : 시작 시각 (UTC, 없으면 현재 시각 다음 초)
+//   sensor.simulation.workers=4 : 생성 스레드 수 (0 = CPU 수)
+//   sensor.simulation.seed=42 : 전역 seed (없으면 -Dsensor.seed 또는 임의 seed)
+//   sensor.simulation.output=csv|columnar, sensor.simulation.data-dir=Data
+@ConfigurationProperties(prefix = "sensor.simulation")
+public class SimulationProperties {
+    private boolean autostart;
+    private double speed = 1.0;
+    private long seconds = 86400;
+    private LocalDateTime start;
+    private int workers;
+    private Long seed;
+    private String output = "csv";
+    private String dataDir = "Data";
+
+    public boolean isAutostart() {
+        return autostart;
+    }
+
+    public void setAutostart(boolean autostart) {
+        this.autostart = autostart;
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public void setSpeed(double speed) {
+        this.speed = speed;
+    }
+
+    public long getSeconds() {
+        return seconds;
+    }
+
+    public void setSeconds(long seconds) {
+        this.seconds = seconds;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public void setStart(LocalDateTime start) {
+        this.start = start;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    public String getOutput() {
+        return output;
+    }
+
+    public void setOutput(String output) {
+        this.output = output;
+    }
+
+    public String getDataDir() {
+        return dataDir;
+    }
+
+    public void setDataDir(String dataDir) {
+        this.dataDir = dataDir;
+    }
+}
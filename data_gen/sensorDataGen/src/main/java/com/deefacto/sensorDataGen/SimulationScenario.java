@@ -0,0 +1,75 @@
+package com.deefacto.sensorDataGen;
+
+import java.time.LocalDateTime;
+
+// 제어 API로 시작하는 시나리오 (POST /api/simulation/start 본문)
+// 비어 있는 값은 sensor.simulation.* / sensor.fleet.* 설정을 따른다
+//   speed: 재생 배속 (0 = 속도 제한 없음), seconds: 생성할 시뮬레이션 시간(초), start: 시작 시각 (UTC)
+//   seed: 전역 seed
+//   zones, sensorsPerZone: 부하 테스트용 synthetic fleet (타입별 zone 수, zone당 센서 수, 기본 4)
+//   activeZones: 처음에 생성할 타입별 zone 수 (나중에 PUT /api/simulation/zones로 늘리거나 줄임)
+public class SimulationScenario {
+    private Double speed;
+    private Long seconds;
+    private LocalDateTime start;
+    private Long seed;
+    private Integer zones;
+    private Integer sensorsPerZone;
+    private Integer activeZones;
+
+    public Double getSpeed() {
+        return speed;
+    }
+
+    public void setSpeed(Double speed) {
+        this.speed = speed;
+    }
+
+    public Long getSeconds() {
+        return seconds;
+    }
+
+    public void setSeconds(Long seconds) {
+        this.seconds = seconds;
+    }
+
+    public LocalDateTime getStart() {
+        return start;
+    }
+
+    public void setStart(LocalDateTime start) {
+        this.start = start;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    public Integer getZones() {
+        return zones;
+    }
+
+    public void setZones(Integer zones) {
+        this.zones = zones;
+    }
+
+    public Integer getSensorsPerZone() {
+        return sensorsPerZone;
+    }
+
+    public void setSensorsPerZone(Integer sensorsPerZone) {
+        this.sensorsPerZone = sensorsPerZone;
+    }
+
+    public Integer getActiveZones() {
+        return activeZones;
+    }
+
+    public void setActiveZones(Integer activeZones) {
+        this.activeZones = activeZones;
+    }
+}
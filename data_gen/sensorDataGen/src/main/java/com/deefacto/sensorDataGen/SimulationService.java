@@ -0,0 +1,250 @@
+package com.deefacto.sensorDataGen;
+
+import com.deefacto.sensorDataGen.output.ColumnarFileSink;
+import com.deefacto.sensorDataGen.output.RollingFileSink;
+import com.deefacto.sensorDataGen.output.SensorSink;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.InterruptedIOException;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+// 서비스 모드: 시나리오(fleet, seed, 배속, 구간)로 시뮬레이션 엔진을 백그라운드 스레드에서 실행 (한 번에 하나)
+// - 실행이 끝나거나 멈춘 뒤 같은 JVM에서 다른 시나리오를 다시 시작할 수 있다 (JIT 워밍업 유지)
+// - 실행 중 제어: 배속 변경, 일시 정지/재개, 타입별 활성 zone 수 조절, zone 스파이크 발생 (SimulationController)
+// 실행 중 지표는 SimulationMetrics로 Actuator에 노출된다
+@Service
+public class SimulationService {
+    private static final Logger log = LoggerFactory.getLogger(SimulationService.class);
+
+    private final SensorFleet fleet;
+    private final SimulationProperties properties;
+    private final SimulationMetrics metrics;
+    private volatile Run current;
+
+    public SimulationService(SensorFleet fleet, SimulationProperties properties, SimulationMetrics metrics) {
+        this.fleet = fleet;
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void autostart() {
+        if (properties.isAutostart()) start();
+    }
+
+    // 설정값 그대로 시작
+    public void start() {
+        start(new SimulationScenario());
+    }
+
+    public synchronized SimulationStatus start(SimulationScenario scenario) {
+        if (isRunning()) throw new IllegalStateException("simulation is already running");
+        SensorFleet runFleet = fleet;
+        if (scenario.getZones() != null) {
+            runFleet = SensorFleet.synthetic(scenario.getZones(),
+                    scenario.getSensorsPerZone() != null ? scenario.getSensorsPerZone() : 4);
+        } else if (scenario.getSensorsPerZone() != null) {
+            throw new IllegalArgumentException("sensorsPerZone needs zones");
+        }
+        Long seed = scenario.getSeed() != null ? scenario.getSeed() : properties.getSeed();
+        RandomSource random = seed != null
+                ? RandomSource.of(seed, System.getProperty(RandomSource.ALGORITHM_PROPERTY, RandomSource.DEFAULT_ALGORITHM))
+                : RandomSource.fromSystemProperties();
+        double speed = scenario.getSpeed() != null ? scenario.getSpeed() : properties.getSpeed();
+        if (!Double.isFinite(speed) || speed < 0) throw new IllegalArgumentException("speed must be finite and >= 0: " + speed);
+        long seconds = scenario.getSeconds() != null ? scenario.getSeconds() : properties.getSeconds();
+        if (seconds < 0) throw new IllegalArgumentException("seconds must be >= 0: " + seconds);
+        LocalDateTime start = scenario.getStart() != null ? scenario.getStart()
+                : properties.getStart() != null ? properties.getStart()
+                : LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+        if (scenario.getActiveZones() != null && scenario.getActiveZones() < 0) {
+            throw new IllegalArgumentException("active zones must be >= 0: " + scenario.getActiveZones());
+        }
+        int workers = properties.getWorkers() > 0 ? properties.getWorkers() : Runtime.getRuntime().availableProcessors();
+
+        // 여기부터는 실패하지 않는다 (엔진은 worker 스레드 풀을 만들므로 검증이 모두 끝난 뒤에 생성)
+        SimulationClock clock = new SimulationClock(start, seconds);
+        List<SensorGenerator> generators = SensorSimulationEngine.generators(runFleet, random);
+        SensorSimulationEngine engine = new SensorSimulationEngine(generators, workers);
+        if (speed > 0) engine.setSpeed(speed);
+        if (scenario.getActiveZones() != null) engine.setActiveZones(scenario.getActiveZones());
+        Run run = new Run(runFleet, random, generators, engine, clock,
+                speed > 0 ? speed : SensorSimulationEngine.AS_FAST_AS_POSSIBLE);
+        log.info("starting simulation: {} sensors, {} zones, {}, start={} speed={}x",
+                runFleet.size(), runFleet.zoneCount(), random, start, speed);
+        run.thread = new Thread(() -> run(run), "sim-runner");
+        run.thread.setDaemon(true);
+        current = run;
+        run.thread.start();
+        return status();
+    }
+
+    private void run(Run run) {
+        try (SensorSimulationEngine engine = run.engine;
+             SensorSink sink = metrics.instrument(openSink())) {
+            SimulationMetrics.Binding binding = metrics.bind(run.generators, sink, run.stats);
+            try {
+                engine.replay(run.clock, sink, run.speed, run.stats);
+            } finally {
+                binding.close();
+            }
+            log.info("simulation finished: {}", run.stats);
+        } catch (InterruptedException | InterruptedIOException e) {
+            run.stopped = true;
+            log.info("simulation stopped: {}", run.stats);
+        } catch (Exception e) {
+            run.failure = e;
+            log.error("simulation failed", e);
+        }
+    }
+
+    private SensorSink openSink() {
+        switch (properties.getOutput()) {
+            case "csv":
+                return new RollingFileSink(Paths.get(properties.getDataDir()));
+            case "columnar":
+                return new ColumnarFileSink(Paths.get(properties.getDataDir()));
+            default:
+                throw new IllegalArgumentException("unknown output: " + properties.getOutput());
+        }
+    }
+
+    // 실행 중이면 중단하고 끝날 때까지 대기
+    // interrupt 대신 엔진에 중단을 요청해 진행 중인 tick이 기록을 마치고 sink가 정상적으로 닫히게 한다
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        Run run = current;
+        if (run == null) return;
+        run.engine.requestStop();
+        run.thread.join();
+    }
+
+    // 재생 배속 변경 (다음 tick부터)
+    public void setSpeed(double speed) {
+        Run run = running();
+        if (Double.isInfinite(run.speed)) {
+            throw new IllegalStateException("simulation runs without a speed limit; restart it with a speed");
+        }
+        run.engine.setSpeed(speed);
+    }
+
+    public void pause() {
+        running().engine.pause();
+    }
+
+    public void resume() {
+        running().engine.resume();
+    }
+
+    // 타입별로 생성할 zone 수 (fleet의 zone 수보다 크면 전체)
+    public void setActiveZones(int zones) {
+        running().engine.setActiveZones(zones);
+    }
+
+    // sensorType 생성기의 zoneId zone에 스파이크 발생 (zone의 다음 NORMAL step)
+    public void triggerAnomaly(String sensorType, String zoneId) {
+        Run run = running();
+        for (SensorGenerator generator : run.generators) {
+            if (!generator.sensorType().equals(sensorType)) continue;
+            if (!(generator instanceof AnomalySensorGenerator)) {
+                throw new IllegalArgumentException(sensorType + " generator does not support anomalies");
+            }
+            AnomalySensorGenerator anomalies = (AnomalySensorGenerator) generator;
+            int zone = anomalies.zoneIndex(zoneId);
+            if (zone < 0) throw new IllegalArgumentException("unknown zone for " + sensorType + ": " + zoneId);
+            anomalies.triggerSpike(zone);
+            log.info("anomaly triggered: {} zone {}", sensorType, zoneId);
+            return;
+        }
+        throw new IllegalArgumentException("unknown sensor type: " + sensorType);
+    }
+
+    private Run running() {
+        Run run = current;
+        if (run == null || !run.thread.isAlive()) throw new IllegalStateException("simulation is not running");
+        return run;
+    }
+
+    public SimulationStatus status() {
+        Run run = current;
+        if (run == null) {
+            return new SimulationStatus(SimulationStatus.State.IDLE, null, null, null, 0, new TickStats(),
+                    fleet.size(), 0, 0, 0, List.of(), null);
+        }
+        SimulationStatus.State state;
+        if (run.thread.isAlive()) {
+            state = run.engine.isPaused() ? SimulationStatus.State.PAUSED : SimulationStatus.State.RUNNING;
+        } else if (run.failure != null) {
+            state = SimulationStatus.State.FAILED;
+        } else {
+            state = run.stopped ? SimulationStatus.State.STOPPED : SimulationStatus.State.FINISHED;
+        }
+        int zones = 0;
+        List<SimulationStatus.GeneratorStatus> generators = new ArrayList<>();
+        for (SensorGenerator generator : run.generators) {
+            zones = Math.max(zones, generator.zoneCount());
+            generators.add(new SimulationStatus.GeneratorStatus(generator));
+        }
+        SimulationClock clock = run.clock;
+        return new SimulationStatus(state, run.random.seed(),
+                Double.isInfinite(run.speed) ? null : run.engine.getSpeed(),
+                clock.timeAt(clock.getElapsed()), clock.getTotalSeconds(), run.stats,
+                run.fleet.size(), zones, Math.min(zones, run.engine.getActiveZones()), run.engine.activeSensorCount(),
+                generators, run.failure != null ? String.valueOf(run.failure) : null);
+    }
+
+    public boolean isRunning() {
+        Run run = current;
+        return run != null && run.thread.isAlive();
+    }
+
+    public TickStats getStats() {
+        Run run = current;
+        return run != null ? run.stats : new TickStats();
+    }
+
+    public SimulationClock getClock() {
+        Run run = current;
+        return run != null ? run.clock : null;
+    }
+
+    // 마지막 실행이 오류로 끝났으면 그 원인
+    public Throwable getFailure() {
+        Run run = current;
+        return run != null ? run.failure : null;
+    }
+
+    // 시나리오 실행 하나 (생성기와 엔진은 실행마다 새로 만든다)
+    private static final class Run {
+        final SensorFleet fleet;
+        final RandomSource random;
+        final List<SensorGenerator> generators;
+        final SensorSimulationEngine engine;
+        final SimulationClock clock;
+        final double speed; // 시작 배속 (AS_FAST_AS_POSSIBLE = 일괄 생성)
+        final TickStats stats = new TickStats();
+        Thread thread;
+        volatile Throwable failure;
+        volatile boolean stopped;
+
+        Run(SensorFleet fleet, RandomSource random, List<SensorGenerator> generators, SensorSimulationEngine engine,
+            SimulationClock clock, double speed) {
+            this.fleet = fleet;
+            this.random = random;
+            this.generators = generators;
+            this.engine = engine;
+            this.clock = clock;
+            this.speed = speed;
+        }
+    }
+}
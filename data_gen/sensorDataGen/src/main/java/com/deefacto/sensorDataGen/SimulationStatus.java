@@ -0,0 +1,60 @@
+package com.deefacto.sensorDataGen;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 시뮬레이션 상태 (GET /api/simulation/status 응답)
+public class SimulationStatus {
+    public enum State { IDLE, RUNNING, PAUSED, FINISHED, STOPPED, FAILED }
+
+    public final State state;
+    public final Long seed;
+    public final Double speed; // 재생 배속 (속도 제한 없음이면 null)
+    public final LocalDateTime simulatedTime; // 현재 시뮬레이션 시각
+    public final long simulatedSeconds;
+    public final long totalSeconds;
+    public final long rows;
+    public final long ticks;
+    public final long lateTicks;
+    public final int sensors;
+    public final int zones; // 타입별 최대 zone 수
+    public final int activeZones; // 타입별로 생성 중인 zone 수
+    public final long activeSensors; // 1초마다 기록되는 행 수
+    public final List<GeneratorStatus> generators;
+    public final String failure;
+
+    SimulationStatus(State state, Long seed, Double speed, LocalDateTime simulatedTime, long totalSeconds, TickStats stats,
+                     int sensors, int zones, int activeZones, long activeSensors, List<GeneratorStatus> generators,
+                     String failure) {
+        this.state = state;
+        this.seed = seed;
+        this.speed = speed;
+        this.simulatedTime = simulatedTime;
+        this.simulatedSeconds = stats.getSimulatedSeconds();
+        this.totalSeconds = totalSeconds;
+        this.rows = stats.getRows();
+        this.ticks = stats.getTicks();
+        this.lateTicks = stats.getLateTicks();
+        this.sensors = sensors;
+        this.zones = zones;
+        this.activeZones = activeZones;
+        this.activeSensors = activeSensors;
+        this.generators = generators;
+        this.failure = failure;
+    }
+
+    // 센서 타입별 생성기 상태
+    public static class GeneratorStatus {
+        public final String sensorType;
+        public final int zones;
+        public final int sensors;
+        public final long rows;
+
+        GeneratorStatus(SensorGenerator generator) {
+            this.sensorType = generator.sensorType();
+            this.zones = generator.zoneCount();
+            this.sensors = generator.sensorCount();
+            this.rows = generator.rowsEmitted();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.deefacto.sensorDataGen;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 스파이크 진행 곡선: step / duration 지점에서 시작값 -> 목표값 사이 진행 비율 (0 ~ 1)
+// SPIKING 상태는 매 step 곡선 값을 계산하지 않고 table(duration)의 값을 step 번째로 읽는다
+public enum SpikeCurve {
+    EXPONENTIAL, // 1 - e^(-3t) 곡선으로 초반에 빠르게 이동
+    LINEAR, // 일정한 속도로 이동
+    SIGMOID, // 로지스틱 곡선: 천천히 시작해 중간에 빠르게, 끝에서 다시 천천히
+    STEP; // 시작값 유지 후 마지막 step에서 목표값으로 점프
+
+    private static final double EXP_NORM = 1 - Math.exp(-3);
+    private static final double SIGMOID_K = 10; // 로지스틱 곡선 기울기
+    private static final double SIGMOID_LOW = logistic(0);
+    private static final double SIGMOID_NORM = logistic(1) - SIGMOID_LOW;
+
+    // duration별 곡선 값 테이블 (같은 곡선/기간의 프로파일끼리 공유)
+    private final Map<Integer, double[]> tables = new ConcurrentHashMap<>();
+
+    public double fraction(int step, int duration) {
+        if (step >= duration) return 1;
+        if (step <= 0) return 0;
+        double t = (double) step / duration;
+        switch (this) {
+            case EXPONENTIAL:
+                return (1 - Math.exp(-3 * t)) / EXP_NORM;
+            case LINEAR:
+                return t;
+            case SIGMOID:
+                return (logistic(t) - SIGMOID_LOW) / SIGMOID_NORM;
+            default:
+                return 0;
+        }
+    }
+
+    // step 0 ~ duration의 fraction 값 (길이 duration + 1, 호출한 쪽에서 수정하지 않는다)
+    double[] table(int duration) {
+        if (duration < 1) throw new IllegalArgumentException("duration must be >= 1: " + duration);
+        return tables.computeIfAbsent(duration, d -> {
+            double[] table = new double[d + 1];
+            for (int step = 0; step <= d; step++) table[step] = fraction(step, d);
+            return table;
+        });
+    }
+
+    private static double logistic(double t) {
+        return 1 / (1 + Math.exp(-SIGMOID_K * (t - 0.5)));
+    }
+}
@@ -0,0 +1,66 @@
+package com.deefacto.sensorDataGen;
+
+// 시뮬레이션 실행 통계 (진행량 + 속도 제어 모드의 tick 통계)
+// - rows / simulatedSeconds: 지금까지 생성한 행 수와 시뮬레이션 초 (실행 중 다른 스레드에서 읽어 처리량 계산)
+// - jitter: 예정 시각 대비 tick 시작이 늦어진 시간
+// - emit latency: 예정 시각부터 해당 초의 모든 센서 행이 sink로 내보내질(flush) 때까지 걸린 시간
+// - late: tick 주기 이상 늦게 시작한 tick 수 (밀린 tick은 건너뛰지 않고 바로 따라잡는다)
+public class TickStats {
+    private final LatencyHistogram jitter = new LatencyHistogram();
+    private final LatencyHistogram emitLatency = new LatencyHistogram();
+    private volatile long lateTicks;
+    private volatile long lastJitterNanos; // 직전 tick이 예정 시각보다 늦게 시작한 시간
+    private volatile long rows;
+    private volatile long simulatedSeconds;
+
+    // 엔진 스레드 하나에서만 호출
+    void advance(long seconds, long rowCount) {
+        simulatedSeconds += seconds;
+        rows += rowCount;
+    }
+
+    // tick 스레드 하나에서만 호출
+    void record(long jitterNanos, long emitNanos, long periodNanos) {
+        jitter.recordNanos(jitterNanos);
+        lastJitterNanos = Math.max(0, jitterNanos);
+        emitLatency.recordNanos(emitNanos);
+        if (jitterNanos >= periodNanos) lateTicks++;
+    }
+
+    public LatencyHistogram getJitter() {
+        return jitter;
+    }
+
+    public LatencyHistogram getEmitLatency() {
+        return emitLatency;
+    }
+
+    public long getTicks() {
+        return emitLatency.getCount();
+    }
+
+    public long getLastJitterNanos() {
+        return lastJitterNanos;
+    }
+
+    public long getLateTicks() {
+        return lateTicks;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getSimulatedSeconds() {
+        return simulatedSeconds;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("rows=%d simulated=%ds ticks=%d late=%d jitter(p50/p99/max)=%.3f/%.3f/%.3fms emit(p50/p99/max)=%.3f/%.3f/%.3fms",
+                rows, simulatedSeconds, getTicks(), lateTicks,
+                jitter.percentileMicros(50) / 1000.0, jitter.percentileMicros(99) / 1000.0, jitter.getMaxMicros() / 1000.0,
+                emitLatency.percentileMicros(50) / 1000.0, emitLatency.percentileMicros(99) / 1000.0,
+                emitLatency.getMaxMicros() / 1000.0);
+    }
+}
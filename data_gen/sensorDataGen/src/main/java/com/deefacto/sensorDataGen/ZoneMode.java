@@ -0,0 +1,15 @@
+package com.deefacto.sensorDataGen;
+
+// zone 상태 (ZoneStateStore.state에는 ordinal을 byte로 저장)
+public enum ZoneMode {
+    NORMAL, // 정상 범위 내 랜덤 변화
+    SPIKING, // 이상치 목표값으로 이동 중
+    HOLDING, // 이상치 목표값 유지
+    OUT_OF_RANGE; // 정상 범위로 복귀 중
+
+    private static final ZoneMode[] VALUES = values();
+
+    public static ZoneMode of(byte code) {
+        return VALUES[code];
+    }
+}
@@ -0,0 +1,100 @@
+package com.deefacto.sensorDataGen;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 생성기 zone 상태를 zone 인덱스(int)로 접근하는 기본형 배열에 보관 (struct-of-arrays)
+// - zone 객체, 문자열 상태, HashMap 조회 없이 zone 수만큼의 배열 몇 개로 수만 개 zone까지 유지
+// - 값 채널이 여러 개(미세먼지 0.1/0.3/0.5µm)면 zone * channels + channel 위치에 저장
+// - 정수 값 센서도 double로 저장 (int 범위는 정확히 표현되므로 생성기에서 int로 바꿔 쓴다)
+// - 서로 다른 zone의 칸은 겹치지 않으므로 zone별로 동시에 갱신 가능
+public final class ZoneStateStore {
+    // state 값 (ZoneMode ordinal, switch case에 쓰기 위한 상수)
+    public static final byte NORMAL = 0;
+    public static final byte SPIKING = 1;
+    public static final byte HOLDING = 2;
+    public static final byte OUT_OF_RANGE = 3;
+    public static final int STATES = 4;
+
+    public final int zones;
+    public final int channels;
+    public final double[] value; // 현재 값 [zone * channels + channel]
+    public final double[] spikeStart; // 스파이크 시작 시 값
+    public final double[] spikeTarget; // 스파이크 목표 값
+    public final byte[] state; // 현재 상태 [zone]
+    public final int[] spikeStep; // 스파이크 단계(진행 중인 step)
+    public final int[] spikeDuration; // 스파이크가 지속되는 총 step 수
+    public final int[] holdStep; // HOLDING 상태에서 경과한 step
+    public final int[] holdDuration; // HOLDING 상태에서 유지할 step 수
+    public final int[] spikeCountdown; // 다음 스파이크까지 남은 NORMAL step 수 (미리 뽑아 두는 방식일 때만 사용)
+    public final long[] transitions; // 상태별 진입 횟수 [zone * STATES + state] (지표용, 다른 스레드에서는 근사값으로 읽음)
+    public final long[] steps; // zone별 진행한 step 수 (지표용)
+
+    public ZoneStateStore(int zones, int channels) {
+        if (zones < 0 || channels < 1) {
+            throw new IllegalArgumentException("zones must be >= 0 and channels >= 1: " + zones + ", " + channels);
+        }
+        this.zones = zones;
+        this.channels = channels;
+        this.value = new double[zones * channels];
+        this.spikeStart = new double[zones * channels];
+        this.spikeTarget = new double[zones * channels];
+        this.state = new byte[zones];
+        this.spikeStep = new int[zones];
+        this.spikeDuration = new int[zones];
+        this.holdStep = new int[zones];
+        this.holdDuration = new int[zones];
+        this.spikeCountdown = new int[zones];
+        this.transitions = new long[zones * STATES];
+        this.steps = new long[zones];
+        Arrays.fill(spikeDuration, 10);
+        Arrays.fill(holdDuration, 25);
+    }
+
+    // zone 초기값 설정 (NORMAL 상태)
+    public void init(int zone, int channel, double v) {
+        int i = zone * channels + channel;
+        value[i] = v;
+        spikeStart[i] = v;
+        spikeTarget[i] = v;
+        state[zone] = NORMAL;
+    }
+
+    // 현재 값에서 spikeTarget으로 스파이크 시작 (spikeTarget은 호출 전에 채널별로 설정)
+    public void startSpike(int zone, int duration, int hold) {
+        int base = zone * channels;
+        System.arraycopy(value, base, spikeStart, base, channels);
+        spikeStep[zone] = 0;
+        spikeDuration[zone] = duration;
+        holdStep[zone] = 0;
+        holdDuration[zone] = hold;
+        enter(zone, SPIKING);
+    }
+
+    // 상태 전환 (진입 횟수 기록)
+    public void enter(int zone, byte next) {
+        state[zone] = next;
+        transitions[zone * STATES + next]++;
+    }
+
+    // zone이 mode 상태로 들어간 횟수 (init 제외)
+    public long transitions(int zone, ZoneMode mode) {
+        return transitions[zone * STATES + mode.ordinal()];
+    }
+
+    public ZoneMode mode(int zone) {
+        return ZoneMode.of(state[zone]);
+    }
+
+    // 센서를 zone ID 순서로 묶기 (zone 안에서는 원래 센서 순서 유지)
+    public static List<List<Sensor>> groupByZone(List<Sensor> sensors) {
+        Map<String, List<Sensor>> byZone = new TreeMap<>();
+        for (Sensor sensor : sensors) {
+            byZone.computeIfAbsent(sensor.zoneId, k -> new ArrayList<>()).add(sensor);
+        }
+        return new ArrayList<>(byZone.values());
+    }
+}
@@ -0,0 +1,191 @@
+package com.deefacto.sensorDataGen.join;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 센서 CSV 디렉토리를 시간 순서로 읽는 입력 (timestamp,sensor_type,sensor_id,unit,값... 레이아웃)
+// - 디렉토리 아래 모든 .csv를 시계열(파일명의 '_' 앞: 센서 ID)별로 묶는다
+//   Data/<type>/<sensorId>.csv (기존 생성기), <dataDir>/<yyyy-MM-dd>/<sensorId>_HH:mm~HH:mm.csv (RollingFileSink) 모두 가능
+// - 시계열 안의 파일은 경로 순서(날짜 디렉토리, 시간 구간)로 이어 읽고, 시계열끼리는 heap으로 시간 순서 병합
+// - 열려 있는 파일은 시계열마다 하나뿐이고 한 줄씩 읽으므로 힙보다 큰 데이터도 읽을 수 있다
+// - 파일 안의 행은 시간 순서여야 한다 (zone 단위 파일 PER_ZONE은 센서별로 묶어 쓰므로 지원하지 않음)
+public class CsvReadingSource implements ReadingSource {
+    private final PriorityQueue<Series> heap = new PriorityQueue<>(
+            Comparator.comparingLong((Series s) -> s.epochSecond).thenComparingInt(s -> s.order));
+    private Series current;
+
+    private CsvReadingSource(List<List<Path>> series) throws IOException {
+        try {
+            for (int i = 0; i < series.size(); i++) {
+                Series s = new Series(series.get(i), i);
+                if (s.advance()) heap.add(s);
+                else s.close();
+            }
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    public static CsvReadingSource open(Path dir) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(dir)) {
+            files = walk.filter(p -> p.getFileName().toString().endsWith(".csv")).sorted().collect(Collectors.toList());
+        }
+        Map<String, List<Path>> series = new TreeMap<>();
+        for (Path file : files) {
+            series.computeIfAbsent(seriesKey(file), k -> new ArrayList<>()).add(file);
+        }
+        return new CsvReadingSource(new ArrayList<>(series.values()));
+    }
+
+    // 파일명에서 시계열 키 (TEMP-001_09:00~10:00_1.csv -> TEMP-001)
+    static String seriesKey(Path file) {
+        String name = file.getFileName().toString();
+        name = name.substring(0, name.length() - ".csv".length());
+        int sep = name.indexOf('_');
+        return sep < 0 ? name : name.substring(0, sep);
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        if (current != null) {
+            if (current.advance()) heap.add(current);
+            else current.close();
+        }
+        current = heap.poll();
+        return current != null;
+    }
+
+    @Override
+    public long epochSecond() {
+        return current.epochSecond;
+    }
+
+    @Override
+    public String sensorId() {
+        return current.sensorId;
+    }
+
+    @Override
+    public int channels() {
+        return current.columns.length;
+    }
+
+    @Override
+    public double value(int channel) {
+        return current.values[channel];
+    }
+
+    @Override
+    public String column(int channel) {
+        return current.columns[channel];
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        List<Series> open = new ArrayList<>(heap);
+        if (current != null) open.add(current);
+        heap.clear();
+        current = null;
+        for (Series s : open) {
+            try {
+                s.close();
+            } catch (IOException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        if (failure != null) throw failure;
+    }
+
+    // 시계열 하나 (파일 여러 개를 이어 읽음)
+    private static final class Series {
+        private final List<Path> files;
+        final int order;
+        private int nextFile;
+        private BufferedReader reader;
+        private Path file;
+        String[] columns = new String[0];
+        final double[] values = new double[3];
+        long epochSecond = Long.MIN_VALUE;
+        String sensorId;
+
+        Series(List<Path> files, int order) {
+            this.files = files;
+            this.order = order;
+        }
+
+        // 다음 행 읽기 (없으면 false)
+        boolean advance() throws IOException {
+            while (true) {
+                if (reader == null) {
+                    if (nextFile == files.size()) return false;
+                    file = files.get(nextFile++);
+                    reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+                    String header = reader.readLine();
+                    if (header == null) {
+                        close();
+                        continue;
+                    }
+                    String[] fields = header.split(",");
+                    if (fields.length != 5 && fields.length != 7) {
+                        throw new IOException(file + ": expected timestamp,sensor_type,sensor_id,unit,values header: " + header);
+                    }
+                    columns = Arrays.copyOfRange(fields, 4, fields.length);
+                }
+                String line = reader.readLine();
+                if (line == null) {
+                    close();
+                    continue;
+                }
+                if (line.isEmpty()) continue;
+                parse(line);
+                return true;
+            }
+        }
+
+        private void parse(String line) throws IOException {
+            int c1 = line.indexOf(',');
+            int c2 = line.indexOf(',', c1 + 1);
+            int c3 = line.indexOf(',', c2 + 1);
+            int c4 = line.indexOf(',', c3 + 1);
+            if (c4 < 0) throw new IOException(file + ": bad row: " + line);
+            long second = Math.floorDiv(CsvTime.epochMicros(line, 0, c1), 1_000_000L);
+            if (second < epochSecond) {
+                throw new IOException(file + ": rows are not in time order at " + line.substring(0, c1));
+            }
+            epochSecond = second;
+            String id = line.substring(c2 + 1, c3);
+            if (!id.equals(sensorId)) sensorId = id;
+            int from = c4 + 1;
+            for (int c = 0; c < columns.length; c++) {
+                int to = line.indexOf(',', from);
+                if (to < 0) to = line.length();
+                values[c] = Double.parseDouble(line.substring(from, to));
+                from = to + 1;
+            }
+        }
+
+        void close() throws IOException {
+            if (reader != null) {
+                BufferedReader r = reader;
+                reader = null;
+                r.close();
+            }
+        }
+    }
+}
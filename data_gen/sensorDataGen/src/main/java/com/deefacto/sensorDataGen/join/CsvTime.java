@@ -0,0 +1,62 @@
+package com.deefacto.sensorDataGen.join;
+
+// CSV 시각 문자열 -> UTC epoch µs (객체 생성 없이 고정 위치 숫자를 직접 읽음)
+// 형식: yyyy-MM-dd[T| ]HH:mm:ss[.f~ffffff][Z]
+//   센서 CSV: 2025-07-15T09:32:00Z, MES CSV: 2025-01-01 08:00:00.000000
+public final class CsvTime {
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private CsvTime() {
+    }
+
+    public static long epochMicros(CharSequence s) {
+        return epochMicros(s, 0, s.length());
+    }
+
+    // s[from, to)
+    public static long epochMicros(CharSequence s, int from, int to) {
+        if (to - from < 19 || s.charAt(from + 4) != '-' || s.charAt(from + 7) != '-'
+                || s.charAt(from + 13) != ':' || s.charAt(from + 16) != ':') {
+            throw new IllegalArgumentException("bad timestamp: " + s.subSequence(from, to));
+        }
+        int year = digits(s, from, 4);
+        int month = digits(s, from + 5, 2);
+        int day = digits(s, from + 8, 2);
+        long seconds = epochDay(year, month, day) * 86_400L
+                + digits(s, from + 11, 2) * 3600L + digits(s, from + 14, 2) * 60L + digits(s, from + 17, 2);
+        long micros = 0;
+        int i = from + 19;
+        if (i < to && s.charAt(i) == '.') {
+            int scale = 100_000;
+            for (i++; i < to && Character.isDigit(s.charAt(i)); i++) {
+                micros += (s.charAt(i) - '0') * (long) scale;
+                scale /= 10;
+            }
+        }
+        return seconds * MICROS_PER_SECOND + micros;
+    }
+
+    public static long epochSecond(CharSequence s) {
+        return Math.floorDiv(epochMicros(s), MICROS_PER_SECOND);
+    }
+
+    // 1970-01-01부터의 날 수 (그레고리력, Howard Hinnant의 days_from_civil)
+    static long epochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yoe = y - era * 400;
+        long doy = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146_097 + doe - 719_468;
+    }
+
+    private static int digits(CharSequence s, int at, int count) {
+        int v = 0;
+        for (int i = at; i < at + count; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') throw new IllegalArgumentException("bad timestamp: " + s);
+            v = v * 10 + (c - '0');
+        }
+        return v;
+    }
+}
@@ -0,0 +1,47 @@
+package com.deefacto.sensorDataGen.join;
+
+import com.deefacto.sensorDataGen.ReadingCursor;
+
+// 파일 없이 생성기 출력을 바로 조인할 때: ReadingCursor -> ReadingSource
+public class CursorReadingSource implements ReadingSource {
+    private final ReadingCursor cursor;
+
+    public CursorReadingSource(ReadingCursor cursor) {
+        this.cursor = cursor;
+    }
+
+    @Override
+    public boolean next() {
+        return cursor.next();
+    }
+
+    @Override
+    public long epochSecond() {
+        return cursor.epochSecond();
+    }
+
+    @Override
+    public String sensorId() {
+        return cursor.sensor().sensorId;
+    }
+
+    @Override
+    public int channels() {
+        return cursor.channels();
+    }
+
+    @Override
+    public double value(int channel) {
+        return cursor.value(channel);
+    }
+
+    @Override
+    public String column(int channel) {
+        return cursor.spec().valueColumns[channel];
+    }
+
+    @Override
+    public void close() {
+        cursor.close();
+    }
+}
@@ -0,0 +1,60 @@
+package com.deefacto.sensorDataGen.join;
+
+import com.deefacto.sensorDataGen.Sensor;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// 조인 결과 CSV: MES 작업 기록 컬럼 + 센서별 구간 통계 (작업 종료 순서)
+public class JoinCsvWriter implements ProcessSensorJoin.Listener, Closeable {
+    public static final String HEADER =
+            "제품ID,공정종류,장비ID,공정시작시간,공정종료시간,품질결과,sensor_id,sensor_type,column,count,min,max,mean\n";
+
+    private final Writer out;
+
+    public JoinCsvWriter(Path file) throws IOException {
+        this.out = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8), 1 << 16);
+        out.write(HEADER);
+    }
+
+    @Override
+    public void accept(ProcessRun run, Sensor sensor, String column, long count, double min, double max, double mean)
+            throws IOException {
+        out.write(run.productId);
+        out.write(',');
+        out.write(run.stage);
+        out.write(',');
+        out.write(run.machineId);
+        out.write(',');
+        out.write(run.startText);
+        out.write(',');
+        out.write(run.endText);
+        out.write(',');
+        out.write(run.quality);
+        out.write(',');
+        out.write(sensor.sensorId);
+        out.write(',');
+        out.write(sensor.sensorType);
+        out.write(',');
+        out.write(column);
+        out.write(',');
+        out.write(Long.toString(count));
+        out.write(',');
+        out.write(Double.toString(min));
+        out.write(',');
+        out.write(Double.toString(max));
+        out.write(',');
+        out.write(Double.toString(Math.round(mean * 10_000) / 10_000.0));
+        out.write('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
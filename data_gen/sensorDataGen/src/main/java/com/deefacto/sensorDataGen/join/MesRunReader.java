@@ -0,0 +1,95 @@
+package com.deefacto.sensorDataGen.join;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// MES 공정별 CSV(product_process_<공정>.csv, 시작 시각 순서)를 한 줄씩 읽어 시작 시각 순서로 병합
+public class MesRunReader implements Closeable {
+    private final PriorityQueue<Input> heap = new PriorityQueue<>(
+            Comparator.comparingLong((Input in) -> in.run.startMicros).thenComparingInt(in -> in.order));
+
+    public MesRunReader(List<Path> files) throws IOException {
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                Input in = new Input(files.get(i), i);
+                if (in.advance()) heap.add(in);
+                else in.reader.close();
+            }
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    // 디렉토리의 product_process_*.csv 전체
+    public static MesRunReader open(Path dir) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "product_process_*.csv")) {
+            stream.forEach(files::add);
+        }
+        files.sort(null);
+        return new MesRunReader(files);
+    }
+
+    // 다음 작업 기록 (없으면 null)
+    public ProcessRun next() throws IOException {
+        Input in = heap.poll();
+        if (in == null) return null;
+        ProcessRun run = in.run;
+        if (in.advance()) heap.add(in);
+        else in.reader.close();
+        return run;
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (Input in : heap) {
+            try {
+                in.reader.close();
+            } catch (IOException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        heap.clear();
+        if (failure != null) throw failure;
+    }
+
+    private static final class Input {
+        final Path file;
+        final int order;
+        final BufferedReader reader;
+        ProcessRun run;
+
+        Input(Path file, int order) throws IOException {
+            this.file = file;
+            this.order = order;
+            this.reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+            reader.readLine(); // 헤더
+        }
+
+        boolean advance() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) return false;
+            } while (line.isEmpty());
+            ProcessRun next = ProcessRun.parse(line);
+            if (run != null && next.startMicros < run.startMicros) {
+                throw new IOException(file + ": rows are not in start time order at " + next.startText);
+            }
+            run = next;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.deefacto.sensorDataGen.join;
+
+// MES CSV 작업 기록 한 행 (제품ID,공정종류,장비ID,공정시작시간,공정종료시간,품질결과)
+// 시각 문자열은 출력할 때 그대로 다시 쓰고, 비교는 epoch µs로 한다
+public class ProcessRun {
+    public final String productId;
+    public final String stage;
+    public final String machineId;
+    public final String startText;
+    public final String endText;
+    public final String quality;
+    public final long startMicros;
+    public final long endMicros;
+
+    public ProcessRun(String productId, String stage, String machineId, String startText, String endText,
+                      String quality) {
+        this.productId = productId;
+        this.stage = stage;
+        this.machineId = machineId;
+        this.startText = startText;
+        this.endText = endText;
+        this.quality = quality;
+        this.startMicros = CsvTime.epochMicros(startText);
+        this.endMicros = CsvTime.epochMicros(endText);
+        if (endMicros < startMicros) {
+            throw new IllegalArgumentException(productId + " " + stage + ": ends before it starts: " + startText + ", " + endText);
+        }
+    }
+
+    // CSV 한 행 파싱 (센서이상시간 등 뒤에 붙은 컬럼은 무시)
+    public static ProcessRun parse(String line) {
+        String[] f = line.split(",");
+        if (f.length < 6) throw new IllegalArgumentException("expected 6 MES columns: " + line);
+        return new ProcessRun(f[0], f[1], f[2], f[3], f[4], f[5]);
+    }
+}
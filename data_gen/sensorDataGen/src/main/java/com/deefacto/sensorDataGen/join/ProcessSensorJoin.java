@@ -0,0 +1,243 @@
+package com.deefacto.sensorDataGen.join;
+
+import com.deefacto.sensorDataGen.Sensor;
+import com.deefacto.sensorDataGen.SensorFleet;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// MES 작업 기록과 zone 센서 값을 시간 순서로 한 번만 훑어 조인 (스트리밍 merge-join)
+// - 작업 구간 [시작, 종료] 동안 작업 공정의 zone에 있는 센서별 값 개수/최소/최대/평균을 구한다 (공정 A -> zone A, 바꿀 수 있음)
+// - 입력 세 줄기를 시각 순서로 처리: 작업 시작(MES, 시작 순서) -> 센서 값 -> 작업 종료(진행 중 작업의 종료 시각 heap)
+//   같은 시각이면 이 순서이므로 구간 양 끝의 값도 포함된다
+// - 평균: 센서 값 누적합/개수를 작업 시작 때 저장해 두고 종료 때 차이로 계산 (값을 다시 훑지 않음)
+// - 최소/최대: zone에 진행 중 작업이 있는 동안만 센서별 단조 deque(WindowExtremes)에 값을 넣고,
+//   종료 때 시작 시각 이후 구간을 조회, zone에서 가장 먼저 시작한 진행 중 작업 이전 값은 버린다
+// - 메모리는 진행 중 작업 수 * zone 센서 수와 가장 긴 작업 구간의 값 수에 비례 (입력 전체 크기와 무관)
+// - 결과는 작업이 끝나는 순서로 Listener에 전달
+public class ProcessSensorJoin {
+    private static final int MAX_CHANNELS = 3;
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private final SensorFleet fleet;
+    private final Map<String, String> stageZones;
+    private final int[][] zoneSensors; // zone -> 센서 정수 ID
+
+    // 작업 구간의 센서 값 통계를 받는 쪽 (센서, 값 컬럼마다 한 번)
+    public interface Listener {
+        void accept(ProcessRun run, Sensor sensor, String column, long count, double min, double max, double mean)
+                throws IOException;
+    }
+
+    // 실행 결과 요약
+    public static class Summary {
+        public long runs; // 읽은 작업 기록
+        public long joinedRuns; // zone 센서 값이 하나라도 있던 작업
+        public long readings; // 읽은 센서 값 행
+        public long unknownReadings; // fleet에 없는 센서의 행
+        public long rows; // Listener에 전달한 통계 수
+
+        @Override
+        public String toString() {
+            return "runs=" + runs + " joined=" + joinedRuns + " readings=" + readings + " unknown=" + unknownReadings
+                    + " rows=" + rows;
+        }
+    }
+
+    public ProcessSensorJoin(SensorFleet fleet) {
+        this(fleet, Map.of());
+    }
+
+    // stageZones: 공정 -> zone ID (없는 공정은 공정 이름과 같은 zone)
+    public ProcessSensorJoin(SensorFleet fleet, Map<String, String> stageZones) {
+        this.fleet = fleet;
+        this.stageZones = Map.copyOf(stageZones);
+        int[] counts = new int[fleet.zoneCount()];
+        for (int s = 0; s < fleet.size(); s++) counts[fleet.zoneOf(s)]++;
+        this.zoneSensors = new int[fleet.zoneCount()][];
+        for (int z = 0; z < counts.length; z++) zoneSensors[z] = new int[counts[z]];
+        int[] next = new int[fleet.zoneCount()];
+        for (int s = 0; s < fleet.size(); s++) {
+            int z = fleet.zoneOf(s);
+            zoneSensors[z][next[z]++] = s;
+        }
+    }
+
+    public Summary run(MesRunReader runs, ReadingSource readings, Listener listener) throws IOException {
+        return new Pass(listener).run(runs, readings);
+    }
+
+    // 조인 한 번의 상태
+    private final class Pass {
+        private final Listener listener;
+        private final Summary summary = new Summary();
+        // 센서 값 시계열 [센서 * 3 + channel]
+        private final double[] sum = new double[fleet.size() * MAX_CHANNELS];
+        private final long[] count = new long[fleet.size() * MAX_CHANNELS];
+        private final WindowExtremes[] mins = new WindowExtremes[fleet.size() * MAX_CHANNELS];
+        private final WindowExtremes[] maxs = new WindowExtremes[fleet.size() * MAX_CHANNELS];
+        private final String[] columns = new String[fleet.size() * MAX_CHANNELS];
+        private final int[] channels = new int[fleet.size()]; // 센서 값 개수 (아직 값이 없으면 0)
+        // zone별 진행 중 작업 (시작 순서, 끝난 작업은 앞에서부터 정리)
+        private final List<ArrayDeque<ActiveRun>> active = new ArrayList<>();
+        private final int[] activeCount = new int[fleet.zoneCount()];
+        private final PriorityQueue<ActiveRun> ends = new PriorityQueue<>(
+                Comparator.comparingLong((ActiveRun r) -> r.run.endMicros).thenComparingLong(r -> r.seq));
+        private final Map<String, Integer> zoneByStage = new HashMap<>();
+        private long seq;
+
+        Pass(Listener listener) {
+            this.listener = listener;
+            for (int z = 0; z < fleet.zoneCount(); z++) active.add(new ArrayDeque<>());
+        }
+
+        Summary run(MesRunReader runs, ReadingSource readings) throws IOException {
+            ProcessRun nextRun = runs.next();
+            boolean haveReading = readings.next();
+            while (nextRun != null || !ends.isEmpty()) {
+                long startAt = nextRun != null ? nextRun.startMicros : Long.MAX_VALUE;
+                long readingAt = haveReading ? readings.epochSecond() * MICROS_PER_SECOND : Long.MAX_VALUE;
+                long endAt = ends.isEmpty() ? Long.MAX_VALUE : ends.peek().run.endMicros;
+                if (startAt <= readingAt && startAt <= endAt) {
+                    start(nextRun);
+                    nextRun = runs.next();
+                } else if (readingAt <= endAt) {
+                    read(readings, readingAt);
+                    haveReading = readings.next();
+                } else {
+                    end(ends.poll());
+                }
+            }
+            return summary;
+        }
+
+        private void start(ProcessRun run) {
+            summary.runs++;
+            int zone = zoneByStage.computeIfAbsent(run.stage,
+                    stage -> fleet.zoneIndex(stageZones.getOrDefault(stage, stage)));
+            if (zone < 0) return; // 센서가 없는 zone
+            int[] sensors = zoneSensors[zone];
+            ActiveRun a = new ActiveRun(run, zone, seq++, sensors.length * MAX_CHANNELS);
+            for (int i = 0; i < sensors.length; i++) {
+                System.arraycopy(sum, sensors[i] * MAX_CHANNELS, a.sumAtStart, i * MAX_CHANNELS, MAX_CHANNELS);
+                System.arraycopy(count, sensors[i] * MAX_CHANNELS, a.countAtStart, i * MAX_CHANNELS, MAX_CHANNELS);
+            }
+            active.get(zone).add(a);
+            activeCount[zone]++;
+            ends.add(a);
+        }
+
+        private void read(ReadingSource readings, long time) {
+            summary.readings++;
+            int sensor = fleet.sensorIndex(readings.sensorId());
+            if (sensor < 0) {
+                summary.unknownReadings++;
+                return;
+            }
+            int n = Math.min(readings.channels(), MAX_CHANNELS);
+            int base = sensor * MAX_CHANNELS;
+            if (channels[sensor] == 0) {
+                channels[sensor] = n;
+                for (int c = 0; c < n; c++) {
+                    columns[base + c] = readings.column(c);
+                    mins[base + c] = new WindowExtremes(false);
+                    maxs[base + c] = new WindowExtremes(true);
+                }
+            }
+            boolean tracked = activeCount[fleet.zoneOf(sensor)] > 0;
+            for (int c = 0; c < n; c++) {
+                double v = readings.value(c);
+                sum[base + c] += v;
+                count[base + c]++;
+                if (tracked) {
+                    mins[base + c].add(time, v);
+                    maxs[base + c].add(time, v);
+                }
+            }
+        }
+
+        private void end(ActiveRun a) throws IOException {
+            int[] sensors = zoneSensors[a.zone];
+            boolean joined = false;
+            for (int i = 0; i < sensors.length; i++) {
+                int sensor = sensors[i];
+                int base = sensor * MAX_CHANNELS;
+                for (int c = 0; c < channels[sensor]; c++) {
+                    long n = count[base + c] - a.countAtStart[i * MAX_CHANNELS + c];
+                    if (n == 0) continue;
+                    double mean = (sum[base + c] - a.sumAtStart[i * MAX_CHANNELS + c]) / n;
+                    listener.accept(a.run, fleet.sensor(sensor), columns[base + c], n,
+                            mins[base + c].since(a.run.startMicros), maxs[base + c].since(a.run.startMicros), mean);
+                    summary.rows++;
+                    joined = true;
+                }
+            }
+            if (joined) summary.joinedRuns++;
+            a.ended = true;
+            activeCount[a.zone]--;
+            evict(a.zone);
+        }
+
+        // zone에서 가장 먼저 시작한 진행 중 작업 이전 값은 더 조회하지 않으므로 버린다
+        private void evict(int zone) {
+            ArrayDeque<ActiveRun> runs = active.get(zone);
+            while (!runs.isEmpty() && runs.peekFirst().ended) runs.pollFirst();
+            for (int sensor : zoneSensors[zone]) {
+                int base = sensor * MAX_CHANNELS;
+                for (int c = 0; c < channels[sensor]; c++) {
+                    if (runs.isEmpty()) {
+                        mins[base + c].clear();
+                        maxs[base + c].clear();
+                    } else {
+                        mins[base + c].evictBefore(runs.peekFirst().run.startMicros);
+                        maxs[base + c].evictBefore(runs.peekFirst().run.startMicros);
+                    }
+                }
+            }
+        }
+    }
+
+    // 진행 중 작업: 시작 시점의 zone 센서 누적합/개수
+    private static final class ActiveRun {
+        final ProcessRun run;
+        final int zone;
+        final long seq;
+        final double[] sumAtStart;
+        final long[] countAtStart;
+        boolean ended;
+
+        ActiveRun(ProcessRun run, int zone, long seq, int series) {
+            this.run = run;
+            this.zone = zone;
+            this.seq = seq;
+            this.sumAtStart = new double[series];
+            this.countAtStart = new long[series];
+        }
+    }
+
+    // 사용법: ProcessSensorJoin <MES 디렉토리> <센서 CSV 디렉토리> <출력 CSV> [fleet 파일]
+    // MES와 센서 데이터의 시각이 겹쳐야 한다 (예: MesSimulator를 -Dmes.start=2025-07-15T09:32:00으로 생성)
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("usage: ProcessSensorJoin <mesDir> <sensorDataDir> <out.csv> [fleet.csv]");
+            System.exit(2);
+        }
+        SensorFleet fleet = args.length > 3 ? SensorFleet.load(Paths.get(args[3])) : SensorFleet.defaultFleet();
+        long begin = System.nanoTime();
+        Summary summary;
+        try (MesRunReader runs = MesRunReader.open(Paths.get(args[0]));
+             ReadingSource readings = CsvReadingSource.open(Paths.get(args[1]));
+             JoinCsvWriter out = new JoinCsvWriter(Path.of(args[2]))) {
+            summary = new ProcessSensorJoin(fleet).run(runs, readings, out);
+        }
+        System.out.printf("%s in %.2fs%n", summary, (System.nanoTime() - begin) / 1e9);
+    }
+}
@@ -0,0 +1,24 @@
+package com.deefacto.sensorDataGen.join;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// 시간 순서 센서 값 입력 (ProcessSensorJoin의 센서 쪽 입력, 한 행씩 진행)
+// 같은 초의 행끼리는 순서 무관, epochSecond는 줄어들지 않아야 한다
+public interface ReadingSource extends Closeable {
+
+    // 다음 행으로 이동 (없으면 false)
+    boolean next() throws IOException;
+
+    long epochSecond();
+
+    String sensorId();
+
+    // 값 개수 (미세먼지 3, 나머지 1)
+    int channels();
+
+    double value(int channel);
+
+    // 값 컬럼명 (val, val_0.1µm, ...)
+    String column(int channel);
+}
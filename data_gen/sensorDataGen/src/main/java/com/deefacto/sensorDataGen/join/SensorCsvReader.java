@@ -0,0 +1,383 @@
+package com.deefacto.sensorDataGen.join;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// 센서 CSV 고속 읽기: 파일을 memory-map 해서 고정 레이아웃을 byte 단위로 직접 파싱
+// - 레이아웃: timestamp,sensor_type,sensor_id,unit,val (미세먼지는 값 3개), 첫 줄은 헤더
+// - 필드마다 String을 만들지 않는다: 시각은 epoch 초로 바로 계산(같은 날이면 날짜 계산 생략), 값은 10진수를 직접 읽고,
+//   sensor_type/sensor_id/unit은 파일의 첫 행에서 한 번만 읽는다 (파일 하나 = 센서 하나, 다른 센서의 행이 있으면 오류)
+// - 결과는 기본형 배열(Series) 또는 행마다 호출되는 RowHandler (값 배열은 재사용)
+// - 1GB 구간씩 map 하고, 구간을 1MB heap 창으로 복사해 배열 인덱스로 파싱 (경계에 걸친 줄은 다음 창 앞으로 옮김)
+// - readAll: 디렉토리 아래 .csv 파일들을 여러 스레드에서 동시에 파싱 (파일 단위 병렬)
+public final class SensorCsvReader {
+    private static final int MAX_CHANNELS = 3;
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final long MAP_CHUNK = 1L << 30; // 한 번에 map 하는 최대 크기
+    private static final int WINDOW = 1 << 20; // map 한 구간을 복사해 파싱하는 heap 창 크기 (줄이 걸친 부분은 다음 창으로)
+    private static final int MAX_FAST_DIGITS = 15; // 10^15 < 2^53: 15자리 mantissa는 double로 정확히 표현된다
+    private static final double[] POW10 = new double[MAX_FAST_DIGITS + 1];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) POW10[i] = POW10[i - 1] * 10;
+    }
+
+    private SensorCsvReader() {
+    }
+
+    // 행 하나씩 받는 쪽 (values는 다음 행에서 덮어쓰므로 보관하려면 복사)
+    public interface RowHandler {
+        void row(long epochSecond, double[] values);
+    }
+
+    // 파일 하나의 파싱 결과 (값은 행 순서, 행 안에서 컬럼 순서: values[row * channels + channel])
+    public static final class Series {
+        public final Path file;
+        public final String[] columns; // 값 컬럼명 (val, val_0.1µm, ...)
+        public final String sensorType; // 첫 행 기준 (행이 없으면 null)
+        public final String sensorId;
+        public final String unit;
+        public final int size;
+        public final long[] epochSeconds;
+        public final double[] values;
+
+        Series(Path file, Header header, int size, long[] epochSeconds, double[] values) {
+            this.file = file;
+            this.columns = header.columns;
+            this.sensorType = header.sensorType;
+            this.sensorId = header.sensorId;
+            this.unit = header.unit;
+            this.size = size;
+            this.epochSeconds = epochSeconds;
+            this.values = values;
+        }
+
+        public int channels() {
+            return columns.length;
+        }
+
+        public double value(int row, int channel) {
+            return values[row * columns.length + channel];
+        }
+    }
+
+    // 파일 하나를 기본형 배열로 읽기
+    public static Series read(Path file) throws IOException {
+        return read(file, MAP_CHUNK);
+    }
+
+    // chunk: 한 번에 map 하는 구간/창 최대 크기 (테스트에서 작은 값으로 경계 처리 확인)
+    static Series read(Path file, long chunk) throws IOException {
+        SeriesBuilder builder = new SeriesBuilder();
+        Header header = parse(file, builder, chunk);
+        return new Series(file, header, builder.size,
+                Arrays.copyOf(builder.epochSeconds, builder.size),
+                Arrays.copyOf(builder.values, builder.size * header.columns.length));
+    }
+
+    // 파일 하나를 행마다 handler로 전달 (반환값: 헤더와 첫 행의 센서 정보, 행 수)
+    public static Series read(Path file, RowHandler handler) throws IOException {
+        Counter counter = new Counter(handler);
+        Header header = parse(file, counter, MAP_CHUNK);
+        return new Series(file, header, counter.rows, new long[0], new double[0]);
+    }
+
+    // dir 아래 모든 .csv를 workers개 스레드에서 읽기 (결과는 경로 순서)
+    public static List<Series> readAll(Path dir, int workers) throws IOException, InterruptedException {
+        if (workers < 1) throw new IllegalArgumentException("workers must be >= 1: " + workers);
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(dir)) {
+            files = walk.filter(p -> p.getFileName().toString().endsWith(".csv") && Files.isRegularFile(p))
+                    .sorted().collect(Collectors.toList());
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "csv-reader");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<Series>> futures = new ArrayList<>();
+            for (Path file : files) futures.add(pool.submit(() -> read(file)));
+            List<Series> result = new ArrayList<>(files.size());
+            for (Future<Series> future : futures) result.add(await(future));
+            return result;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static Series await(Future<Series> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    // 헤더 컬럼 + 첫 행의 센서 정보
+    private static final class Header {
+        String[] columns = new String[0];
+        String sensorType;
+        String sensorId;
+        String unit;
+    }
+
+    private static Header parse(Path file, RowHandler handler, long chunk) throws IOException {
+        Parser parser = new Parser(file, handler);
+        byte[] window = new byte[(int) Math.min(chunk, WINDOW)];
+        int filled = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            for (long position = 0; position < size; position += chunk) {
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(size - position, chunk));
+                while (region.hasRemaining()) {
+                    if (filled == window.length) window = Arrays.copyOf(window, window.length * 2); // 창보다 긴 줄
+                    int n = Math.min(region.remaining(), window.length - filled);
+                    region.get(window, filled, n);
+                    filled += n;
+                    int consumed = parser.parse(window, filled, false);
+                    System.arraycopy(window, consumed, window, 0, filled - consumed);
+                    filled -= consumed;
+                }
+            }
+        }
+        parser.parse(window, filled, true);
+        return parser.header;
+    }
+
+    // 한 파일의 파싱 상태 (날짜 캐시, 재사용 값 배열)
+    private static final class Parser {
+        private final Path file;
+        private final RowHandler handler;
+        final Header header = new Header();
+        private boolean headerRead;
+        private int channels;
+        private double[] values = new double[0];
+        private byte[] ids; // 첫 행의 ",sensor_type,sensor_id,unit" (이후 행은 같은 byte인지만 비교)
+        private int pos; // 값 파싱이 끝난 위치
+        private long line; // 오류 메시지용 줄 번호
+        // 마지막으로 본 날짜 (yyyy-MM-dd 앞 8 byte + 일)
+        private long cachedDate = -1;
+        private int cachedDay = -1;
+        private long cachedDaySeconds;
+
+        Parser(Path file, RowHandler handler) {
+            this.file = file;
+            this.handler = handler;
+        }
+
+        // b[0, length)의 완전한 줄을 파싱하고 소비한 byte 수를 반환 (last면 끝의 줄바꿈 없는 줄도 포함)
+        int parse(byte[] b, int length, boolean last) throws IOException {
+            int end = length;
+            if (!last) {
+                // 마지막 줄바꿈까지만: 그 앞의 줄은 모두 '\n'으로 끝나므로 행 파싱에서 창 끝을 따로 확인하지 않는다
+                while (end > 0 && b[end - 1] != '\n') end--;
+            }
+            int p = 0;
+            while (p < end) {
+                line++;
+                if (b[p] == '\n') {
+                    p++;
+                } else if (b[p] == '\r' && p + 1 < end && b[p + 1] == '\n') {
+                    p += 2;
+                } else if (!headerRead) {
+                    p = header(b, p, end);
+                } else {
+                    p = row(b, p, end);
+                }
+            }
+            return end;
+        }
+
+        private int header(byte[] b, int from, int end) throws IOException {
+            int to = from;
+            while (to < end && b[to] != '\n') to++;
+            String text = string(b, from, to > from && b[to - 1] == '\r' ? to - 1 : to);
+            if (text.startsWith("\uFEFF")) text = text.substring(1); // UTF-8 BOM
+            String[] fields = text.split(",");
+            if (fields.length < 5 || fields.length > 4 + MAX_CHANNELS) {
+                throw new IOException(file + ": expected timestamp,sensor_type,sensor_id,unit,values header: " + text);
+            }
+            header.columns = Arrays.copyOfRange(fields, 4, fields.length);
+            channels = header.columns.length;
+            values = new double[channels];
+            headerRead = true;
+            return to + 1;
+        }
+
+        // 한 행 파싱 후 다음 줄 시작 위치 반환
+        private int row(byte[] b, int from, int end) throws IOException {
+            // 시각: 2025-07-15T09:32:00Z 20 byte면 쉼표를 찾지 않는다
+            int c1 = from + 20;
+            if (c1 >= end || b[c1] != ',') c1 = comma(b, from, end);
+            long second = epochSecond(b, from, c1);
+            // sensor_type,sensor_id,unit: 첫 행 이후에는 첫 행과 byte가 같으면 건너뛴다
+            int c4 = ids != null ? c1 + ids.length : -1;
+            if (c4 < 0 || c4 >= end || b[c4] != ',' || !Arrays.equals(b, c1, c4, ids, 0, ids.length)) {
+                int c2 = comma(b, c1 + 1, end);
+                int c3 = comma(b, c2 + 1, end);
+                c4 = comma(b, c3 + 1, end);
+                if (ids != null) {
+                    // 센서가 여러 개인 파일 (PER_ZONE): 행이 첫 행의 센서로 잘못 묶이지 않도록 거부
+                    throw new IOException(file + ":" + line + ": expected " + header.sensorType + ","
+                            + header.sensorId + "," + header.unit + " like the first row: " + string(b, c1 + 1, c4));
+                }
+                header.sensorType = string(b, c1 + 1, c2);
+                header.sensorId = string(b, c2 + 1, c3);
+                header.unit = string(b, c3 + 1, c4);
+                ids = Arrays.copyOfRange(b, c1, c4);
+            }
+            pos = c4;
+            for (int c = 0; c < channels; c++) {
+                if (pos >= end || b[pos] != ',') throw columns();
+                values[c] = decimal(b, pos + 1, end);
+            }
+            int p = pos;
+            if (p < end && b[p] == '\r') p++;
+            if (p < end && b[p] != '\n') throw columns();
+            handler.row(second, values);
+            return p + 1;
+        }
+
+        private IOException columns() {
+            return new IOException(file + ":" + line + ": expected " + (4 + channels) + " columns");
+        }
+
+        // from부터 같은 줄에서 다음 쉼표 위치 (없으면 오류)
+        private int comma(byte[] b, int from, int end) throws IOException {
+            int i = from;
+            while (i < end && b[i] != ',' && b[i] != '\n') i++;
+            if (i == end || b[i] != ',') throw columns();
+            return i;
+        }
+
+        // yyyy-MM-ddTHH:mm:ss[.f...][Z] -> epoch 초 (소수 초는 버림)
+        private long epochSecond(byte[] b, int from, int to) throws IOException {
+            if (to - from < 19 || b[from + 4] != '-' || b[from + 7] != '-' || b[from + 13] != ':' || b[from + 16] != ':') {
+                throw new IOException(file + ":" + line + ": bad timestamp: " + string(b, from, to));
+            }
+            long date = 0; // yyyy-MM- 8 byte
+            for (int i = from; i < from + 8; i++) date = date << 8 | (b[i] & 0xFF);
+            int day = digits(b, from + 8, 2);
+            if (date != cachedDate || day != cachedDay) {
+                cachedDaySeconds = CsvTime.epochDay(digits(b, from, 4), digits(b, from + 5, 2), day) * SECONDS_PER_DAY;
+                cachedDate = date;
+                cachedDay = day;
+            }
+            return cachedDaySeconds + digits(b, from + 11, 2) * 3600L + digits(b, from + 14, 2) * 60L
+                    + digits(b, from + 17, 2);
+        }
+
+        private int digits(byte[] b, int at, int count) throws IOException {
+            int v = 0;
+            for (int i = at; i < at + count; i++) {
+                int d = b[i] - '0';
+                if (d < 0 || d > 9) throw new IOException(file + ":" + line + ": bad timestamp digit");
+                v = v * 10 + d;
+            }
+            return v;
+        }
+
+        // [-]digits[.digits] 10진수, 끝난 위치는 pos에 (그 밖의 형식은 Double.parseDouble로)
+        private double decimal(byte[] b, int from, int end) throws IOException {
+            int i = from;
+            boolean negative = i < end && b[i] == '-';
+            if (negative || i < end && b[i] == '+') i++;
+            long mantissa = 0;
+            int scale = -1; // 소수점 뒤 자릿수 (소수점이 없으면 -1)
+            int digits = 0;
+            for (; i < end; i++) {
+                int d = b[i] - '0';
+                if (d >= 0 && d <= 9) {
+                    mantissa = mantissa * 10 + d;
+                    digits++;
+                    if (scale >= 0) scale++;
+                } else if (b[i] == '.' && scale < 0) {
+                    scale = 0;
+                } else {
+                    break;
+                }
+            }
+            pos = i;
+            if (i < end && b[i] != ',' && b[i] != '\r' && b[i] != '\n' || digits == 0 || digits > MAX_FAST_DIGITS) {
+                return fallback(b, from, end);
+            }
+            // mantissa(15자리 이하)와 10^scale이 모두 double로 정확하므로 나눗셈 한 번으로 올바르게 반올림된 값
+            // (16자리 이상은 mantissa가 2^53을 넘을 수 있어 반올림이 두 번 일어나므로 Double.parseDouble로)
+            double v = scale > 0 ? mantissa / POW10[scale] : mantissa;
+            return negative ? -v : v;
+        }
+
+        private double fallback(byte[] b, int from, int end) throws IOException {
+            int to = from;
+            while (to < end && b[to] != ',' && b[to] != '\r' && b[to] != '\n') to++;
+            pos = to;
+            String text = string(b, from, to);
+            try {
+                return Double.parseDouble(text);
+            } catch (NumberFormatException e) {
+                throw new IOException(file + ":" + line + ": bad value: " + text, e);
+            }
+        }
+
+        private static String string(byte[] b, int from, int to) {
+            return new String(b, from, to - from, StandardCharsets.UTF_8);
+        }
+    }
+
+    // 행을 기본형 배열에 쌓기
+    private static final class SeriesBuilder implements RowHandler {
+        int channels = -1;
+        int size;
+        long[] epochSeconds = new long[1024];
+        double[] values = new double[1024 * MAX_CHANNELS];
+
+        @Override
+        public void row(long epochSecond, double[] row) {
+            if (channels < 0) channels = row.length;
+            if (size == epochSeconds.length) {
+                epochSeconds = Arrays.copyOf(epochSeconds, size * 2);
+                values = Arrays.copyOf(values, size * 2 * MAX_CHANNELS);
+            }
+            epochSeconds[size] = epochSecond;
+            System.arraycopy(row, 0, values, size * channels, channels);
+            size++;
+        }
+    }
+
+    // 행 수를 세며 handler에 넘기기
+    private static final class Counter implements RowHandler {
+        private final RowHandler handler;
+        int rows;
+
+        Counter(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void row(long epochSecond, double[] values) {
+            rows++;
+            handler.row(epochSecond, values);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.deefacto.sensorDataGen.join;
+
+// 센서 시계열 하나의 구간 최소/최대 (단조 deque, 기본형 원형 배열)
+// - 최소 deque: 뒤에 넣을 때 값이 크거나 같은 항목을 버리므로 앞에서 뒤로 시각과 값이 모두 증가
+//   -> [t, 현재] 최소 = 시각이 t 이상인 첫 항목 (이진 탐색), 최대도 같은 방식
+// - 각 값은 한 번 들어가고 한 번 나오므로 갱신은 분할 상환 O(1), 조회는 O(log 보관 항목 수)
+// - evictBefore(t): 더 이상 조회하지 않을 t 이전 항목 제거
+final class WindowExtremes {
+    private final boolean max;
+    private long[] times = new long[16];
+    private double[] values = new double[16];
+    private int head;
+    private int size;
+
+    WindowExtremes(boolean max) {
+        this.max = max;
+    }
+
+    void add(long time, double value) {
+        while (size > 0 && dominates(value, values[index(size - 1)])) size--;
+        if (size == times.length) grow();
+        int i = index(size++);
+        times[i] = time;
+        values[i] = value;
+    }
+
+    // 시각 from 이후(포함) 항목 중 최소(최대)값, 없으면 NaN
+    double since(long from) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (times[index(mid)] < from) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo < size ? values[index(lo)] : Double.NaN;
+    }
+
+    void evictBefore(long time) {
+        while (size > 0 && times[head] < time) {
+            head = (head + 1) & (times.length - 1);
+            size--;
+        }
+    }
+
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private boolean dominates(double value, double last) {
+        return max ? value >= last : value <= last;
+    }
+
+    private int index(int i) {
+        return (head + i) & (times.length - 1);
+    }
+
+    private void grow() {
+        long[] t = new long[times.length * 2];
+        double[] v = new double[times.length * 2];
+        for (int i = 0; i < size; i++) {
+            t[i] = times[index(i)];
+            v[i] = values[index(i)];
+        }
+        times = t;
+        values = v;
+        head = 0;
+    }
+}
@@ -0,0 +1,40 @@
+package com.deefacto.sensorDataGen.mes;
+
+// 센서 이상 노출 -> 품질 결과 확률 (공정 기본 G/B/R 위에 더한다)
+// - 작업 구간에 이상이 e초 겹치면 불량 위험 1 - exp(-badPerSecond * e), 재작업 위험 1 - exp(-reworkPerSecond * e)
+//   P(B) = bad + good * 불량 위험, P(R) = rework + good * (1 - 불량 위험) * 재작업 위험, 나머지 G
+// - e = 0이면 공정 기본 확률 그대로 (연동하지 않은 시뮬레이션과 같은 결과)
+public final class DefectModel {
+    // 기본값: 이상 1시간(3600초) 노출 시 불량 위험 약 30%, 재작업 위험 약 16%
+    // (기본 센서 프로파일은 zone이 시간의 40~50% 동안 이상 상태라 A 공정(1~3시간)도 포화되지 않게)
+    public static final DefectModel DEFAULT = new DefectModel(0.0001, 0.00005);
+    public static final DefectModel NONE = new DefectModel(0, 0);
+
+    public final double badPerSecond;
+    public final double reworkPerSecond;
+
+    public DefectModel(double badPerSecond, double reworkPerSecond) {
+        if (!(badPerSecond >= 0) || !(reworkPerSecond >= 0)
+                || Double.isInfinite(badPerSecond) || Double.isInfinite(reworkPerSecond)) {
+            throw new IllegalArgumentException("defect rates must be finite and >= 0: "
+                    + badPerSecond + ", " + reworkPerSecond);
+        }
+        this.badPerSecond = badPerSecond;
+        this.reworkPerSecond = reworkPerSecond;
+    }
+
+    // 이상 노출 exposureSeconds초인 작업의 결과 (u: [0, 1) 난수 하나)
+    public Quality quality(ProcessStage stage, long exposureSeconds, double u) {
+        double bad = stage.bad;
+        double rework = stage.rework;
+        if (exposureSeconds > 0) {
+            double badRisk = -Math.expm1(-badPerSecond * exposureSeconds);
+            double reworkRisk = -Math.expm1(-reworkPerSecond * exposureSeconds);
+            bad += stage.good * badRisk;
+            rework += stage.good * (1 - badRisk) * reworkRisk;
+        }
+        if (u < bad) return Quality.BAD;
+        if (u < bad + rework) return Quality.REWORK;
+        return Quality.GOOD;
+    }
+}
@@ -0,0 +1,89 @@
+package com.deefacto.sensorDataGen.mes;
+
+import java.util.Arrays;
+
+// 이산 사건 스케줄러: (시각, 등록 순서)가 가장 이른 사건부터 꺼내는 이진 min-heap
+// - 사건은 시각(long)과 정수 값 하나로만 표현하고 기본형 배열에 보관 (사건마다 객체를 만들지 않음)
+// - 같은 시각의 사건은 등록 순서대로 꺼내므로 결과가 결정적이다
+public final class EventQueue {
+    private long[] times = new long[64];
+    private long[] seqs = new long[64];
+    private int[] payloads = new int[64];
+    private int size;
+    private long nextSeq;
+
+    public void add(long time, int payload) {
+        if (size == times.length) {
+            int capacity = size * 2;
+            times = Arrays.copyOf(times, capacity);
+            seqs = Arrays.copyOf(seqs, capacity);
+            payloads = Arrays.copyOf(payloads, capacity);
+        }
+        long seq = nextSeq++;
+        int i = size++;
+        // 위로 올리기
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!before(time, seq, times[parent], seqs[parent])) break;
+            move(parent, i);
+            i = parent;
+        }
+        set(i, time, seq, payload);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 가장 이른 사건의 시각 (비어 있으면 IllegalStateException)
+    public long peekTime() {
+        if (size == 0) throw new IllegalStateException("no events");
+        return times[0];
+    }
+
+    public int peekPayload() {
+        if (size == 0) throw new IllegalStateException("no events");
+        return payloads[0];
+    }
+
+    // 가장 이른 사건 제거 (peekTime/peekPayload로 먼저 읽는다)
+    public void remove() {
+        if (size == 0) throw new IllegalStateException("no events");
+        int last = --size;
+        long time = times[last];
+        long seq = seqs[last];
+        int payload = payloads[last];
+        // 마지막 사건을 루트에서부터 내리기
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && before(times[right], seqs[right], times[child], seqs[child])) child = right;
+            if (!before(times[child], seqs[child], time, seq)) break;
+            move(child, i);
+            i = child;
+        }
+        set(i, time, seq, payload);
+    }
+
+    private static boolean before(long time, long seq, long otherTime, long otherSeq) {
+        return time < otherTime || (time == otherTime && seq < otherSeq);
+    }
+
+    private void move(int from, int to) {
+        times[to] = times[from];
+        seqs[to] = seqs[from];
+        payloads[to] = payloads[from];
+    }
+
+    private void set(int i, long time, long seq, int payload) {
+        times[i] = time;
+        seqs[i] = seq;
+        payloads[i] = payload;
+    }
+}
@@ -0,0 +1,58 @@
+package com.deefacto.sensorDataGen.mes;
+
+// 공정 하나의 빈 장비 목록: 가장 오래 쉬고 있던 장비(쉬기 시작한 시각이 가장 이른 장비, 같으면 앞 번호)부터 꺼내는 이진 min-heap
+// - 장비는 정수 인덱스, 쉬기 시작한 시각은 공유 배열 freeAt[장비]에서 읽는다 (넣기 전에 설정하고, heap 안에 있는 동안 바꾸지 않음)
+// - 넣기/꺼내기 O(log 장비 수): 장비가 수천 대여도 배정 비용이 거의 늘지 않는다
+public final class MachineHeap {
+    private final long[] freeAt;
+    private final int[] heap;
+    private int size;
+
+    public MachineHeap(long[] freeAt, int capacity) {
+        this.freeAt = freeAt;
+        this.heap = new int[capacity];
+    }
+
+    public void add(int machine) {
+        if (size == heap.length) throw new IllegalStateException("machine heap is full: " + size);
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!before(machine, heap[parent])) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = machine;
+    }
+
+    // 가장 오래 쉬고 있던 장비를 꺼내기 (비어 있으면 -1)
+    public int poll() {
+        if (size == 0) return -1;
+        int first = heap[0];
+        int last = heap[--size];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && before(heap[right], heap[child])) child = right;
+            if (!before(heap[child], last)) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        if (size > 0) heap[i] = last;
+        return first;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private boolean before(int a, int b) {
+        return freeAt[a] < freeAt[b] || (freeAt[a] == freeAt[b] && a < b);
+    }
+}
@@ -0,0 +1,25 @@
+package com.deefacto.sensorDataGen.mes;
+
+// 제품 배치 하나의 시뮬레이션 결과 (시각은 배치 시작 기준 µs)
+public class MesBatch {
+    public final int index; // 배치 번호 (0부터)
+    public final int firstProduct; // 첫 제품 번호 (0부터)
+    public final int products;
+    public final ProcessLog[] logs; // 공정별 작업 기록 (공정 순서)
+    public final long makespan; // 마지막 작업 종료 시각
+
+    MesBatch(int index, int firstProduct, int products, ProcessLog[] logs, long makespan) {
+        this.index = index;
+        this.firstProduct = firstProduct;
+        this.products = products;
+        this.logs = logs;
+        this.makespan = makespan;
+    }
+
+    // 전체 작업 기록 수
+    public int records() {
+        int n = 0;
+        for (ProcessLog log : logs) n += log.size();
+        return n;
+    }
+}
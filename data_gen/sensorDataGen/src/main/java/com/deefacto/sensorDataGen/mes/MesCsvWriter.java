@@ -0,0 +1,167 @@
+package com.deefacto.sensorDataGen.mes;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+// MES 작업 기록 CSV 출력: 공정별 파일 product_process_<공정>.csv, 행은 공정 시작 시각 순서
+//   제품ID,공정종류,장비ID,공정시작시간,공정종료시간,품질결과
+//   Prod-00001,A,AST-101,2025-01-01 08:00:00.000000,2025-01-01 09:31:26.861008,G
+// - 제품 ID는 Prod-<1부터 번호> (5자리, 제품이 더 많으면 그 자릿수)
+// - 행은 byte 배열에 직접 만들어 쓴다 (행마다 String/포맷터를 만들지 않음)
+public class MesCsvWriter implements Closeable {
+    public static final String HEADER = "제품ID,공정종류,장비ID,공정시작시간,공정종료시간,품질결과\n";
+    // 센서 연동 시뮬레이션: 작업 구간에 겹친 zone 센서 이상 시간(초) 컬럼 추가
+    public static final String EXPOSURE_HEADER = "제품ID,공정종류,장비ID,공정시작시간,공정종료시간,품질결과,센서이상시간\n";
+    private static final int BUFFER_BYTES = 1 << 20;
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final int TIME_BYTES = 26; // yyyy-MM-dd HH:mm:ss.SSSSSS
+    private static final int INT_DIGITS = 10; // int 최대 자릿수
+
+    private final OutputStream[] outs; // 공정별
+    private final byte[][] stageNames;
+    private final byte[][][] machineIds; // [공정][장비]
+    private final long startMicros; // 시작 시각 (UTC epoch µs)
+    private final int productDigits;
+    private final boolean exposureColumn;
+    private final byte[] line; // 행 하나 (가장 긴 공정 이름과 장비 ID 기준 크기)
+    private long cachedDay = Long.MIN_VALUE;
+    private final byte[] dayText = new byte[11]; // "yyyy-MM-dd "
+
+    public MesCsvWriter(Path dir, List<ProcessStage> stages, LocalDateTime start, int products) throws IOException {
+        this(dir, stages, start, products, false);
+    }
+
+    public MesCsvWriter(Path dir, List<ProcessStage> stages, LocalDateTime start, int products, boolean exposureColumn)
+            throws IOException {
+        Files.createDirectories(dir);
+        this.exposureColumn = exposureColumn;
+        this.outs = new OutputStream[stages.size()];
+        this.stageNames = new byte[stages.size()][];
+        this.machineIds = new byte[stages.size()][][];
+        this.startMicros = start.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + start.getNano() / 1000;
+        this.productDigits = Math.max(5, Integer.toString(products).length());
+        int longestStage = 0;
+        int longestMachine = 0;
+        try {
+            for (int s = 0; s < stages.size(); s++) {
+                ProcessStage stage = stages.get(s);
+                stageNames[s] = stage.name.getBytes(StandardCharsets.UTF_8);
+                longestStage = Math.max(longestStage, stageNames[s].length);
+                machineIds[s] = new byte[stage.machineCount()][];
+                for (int m = 0; m < stage.machineCount(); m++) {
+                    machineIds[s][m] = stage.machines[m].getBytes(StandardCharsets.UTF_8);
+                    longestMachine = Math.max(longestMachine, machineIds[s][m].length);
+                }
+                outs[s] = new BufferedOutputStream(Files.newOutputStream(dir.resolve(fileName(stage))), BUFFER_BYTES);
+                outs[s].write((exposureColumn ? EXPOSURE_HEADER : HEADER).getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+        // Prod-번호,공정,장비,시작,종료,품질[,센서이상시간]\n
+        this.line = new byte["Prod-".length() + Math.max(productDigits, INT_DIGITS) + 1 + longestStage + 1 + longestMachine
+                + 1 + TIME_BYTES + 1 + TIME_BYTES + 1 + 1 + (exposureColumn ? 1 + INT_DIGITS : 0) + 1];
+    }
+
+    public static String fileName(ProcessStage stage) {
+        return "product_process_" + stage.name + ".csv";
+    }
+
+    // 배치 결과 기록 (offsetMicros: 배치 시작 시각, 배치는 시각 순서대로 전달)
+    public void write(MesBatch batch, long offsetMicros) throws IOException {
+        for (int s = 0; s < batch.logs.length; s++) {
+            ProcessLog log = batch.logs[s];
+            OutputStream out = outs[s];
+            for (int i = 0; i < log.size(); i++) {
+                int n = 0;
+                n = put(line, n, "Prod-");
+                n = putPadded(line, n, log.product(i) + 1, productDigits);
+                line[n++] = ',';
+                n = put(line, n, stageNames[s]);
+                line[n++] = ',';
+                n = put(line, n, machineIds[s][log.machine(i)]);
+                line[n++] = ',';
+                n = putTime(n, startMicros + offsetMicros + log.start(i));
+                line[n++] = ',';
+                n = putTime(n, startMicros + offsetMicros + log.end(i));
+                line[n++] = ',';
+                line[n++] = (byte) log.quality(i).code;
+                if (exposureColumn) {
+                    line[n++] = ',';
+                    n = putPadded(line, n, log.exposure(i), 1);
+                }
+                line[n++] = '\n';
+                out.write(line, 0, n);
+            }
+        }
+    }
+
+    // yyyy-MM-dd HH:mm:ss.SSSSSS
+    private int putTime(int n, long micros) {
+        long seconds = Math.floorDiv(micros, MICROS_PER_SECOND);
+        long day = Math.floorDiv(seconds, SECONDS_PER_DAY);
+        if (day != cachedDay) {
+            cachedDay = day;
+            put(dayText, 0, LocalDate.ofEpochDay(day) + " ");
+        }
+        System.arraycopy(dayText, 0, line, n, dayText.length);
+        n += dayText.length;
+        int secondOfDay = (int) (seconds - day * SECONDS_PER_DAY);
+        n = putPadded(line, n, secondOfDay / 3600, 2);
+        line[n++] = ':';
+        n = putPadded(line, n, secondOfDay / 60 % 60, 2);
+        line[n++] = ':';
+        n = putPadded(line, n, secondOfDay % 60, 2);
+        line[n++] = '.';
+        return putPadded(line, n, (int) (micros - seconds * MICROS_PER_SECOND), 6);
+    }
+
+    private static int put(byte[] buf, int n, String ascii) {
+        for (int i = 0; i < ascii.length(); i++) buf[n++] = (byte) ascii.charAt(i);
+        return n;
+    }
+
+    private static int put(byte[] buf, int n, byte[] bytes) {
+        System.arraycopy(bytes, 0, buf, n, bytes.length);
+        return n + bytes.length;
+    }
+
+    // 0으로 채운 width자리 (더 길면 그대로)
+    private static int putPadded(byte[] buf, int n, int value, int width) {
+        int digits = 1;
+        for (int v = value; v >= 10; v /= 10) digits++;
+        for (int i = digits; i < width; i++) buf[n++] = '0';
+        int end = n + digits;
+        for (int i = end - 1; i >= n; i--) {
+            buf[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return end;
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (OutputStream out : outs) {
+            if (out == null) continue;
+            try {
+                out.close();
+            } catch (IOException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        if (failure != null) throw failure;
+    }
+}
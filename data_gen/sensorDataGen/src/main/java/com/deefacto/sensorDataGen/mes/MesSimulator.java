@@ -0,0 +1,286 @@
+package com.deefacto.sensorDataGen.mes;
+
+import com.deefacto.sensorDataGen.RandomSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator;
+
+// MES 공정 이산 사건 시뮬레이터: 제품이 공정(A -> B -> C)을 순서대로 거치며 공정마다 장비를 하나 잡아 작업한다
+// - 사건은 장비 작업 종료 하나뿐이고 EventQueue에서 시각 순서대로 꺼낸다
+//   (작업이 끝나면 품질 결과를 뽑고, 제품을 다음 공정 / 같은 공정(R) 대기열에 넣거나 내보낸 뒤 빈 장비에 대기 제품을 배정)
+// - 공정마다 장비는 독립적으로 동작: 대기 제품은 도착 순서대로, 가장 오래 쉬고 있던 장비에 배정 (같으면 앞 번호 장비)
+//   공정별 대기열(IntQueue)과 빈 장비 heap(MachineHeap)으로 사건 하나의 처리 비용이 O(log 장비 수)
+// - 제품은 배치(기본 10,000개) 단위로 공장에 투입하고, 한 배치가 모두 끝나면 다음 배치를 투입한다
+//   배치끼리는 장비 상태를 공유하지 않으므로 배치별로 병렬 시뮬레이션한 뒤 앞 배치들의 총 소요 시간만큼 시각을 밀어 이어 붙인다
+// - 배치마다 RandomSource의 "mes/batch/<번호>" 스트림을 쓰므로 스레드 수와 무관하게 seed별 결과 동일
+// - runCoupled: 센서 zone 상태(ProcessCoupling)와 사건 시계를 공유해 배치를 순서대로 진행하고,
+//   작업 구간에 겹친 센서 이상 시간으로 품질 확률을 바꾼다 (DefectModel, 결과는 ProcessLog.exposure에 함께 기록)
+public class MesSimulator {
+    public static final int DEFAULT_BATCH_PRODUCTS = 10_000;
+    public static final LocalDateTime DEFAULT_START = LocalDateTime.of(2025, 1, 1, 8, 0, 0);
+
+    private final List<ProcessStage> stages;
+    private final RandomSource random;
+    private final int batchProducts;
+
+    public MesSimulator(List<ProcessStage> stages, RandomSource random) {
+        this(stages, random, DEFAULT_BATCH_PRODUCTS);
+    }
+
+    public MesSimulator(List<ProcessStage> stages, RandomSource random, int batchProducts) {
+        if (stages.isEmpty() || batchProducts < 1) {
+            throw new IllegalArgumentException("need stages and batchProducts >= 1: " + stages.size() + ", " + batchProducts);
+        }
+        this.stages = List.copyOf(stages);
+        this.random = random.derive("mes");
+        this.batchProducts = batchProducts;
+    }
+
+    public List<ProcessStage> stages() {
+        return stages;
+    }
+
+    public int batchProducts() {
+        return batchProducts;
+    }
+
+    // 배치 결과를 배치 순서대로 받는 쪽 (offsetMicros: 배치 시작 시각, 첫 배치 0)
+    public interface BatchConsumer {
+        void accept(MesBatch batch, long offsetMicros) throws IOException;
+    }
+
+    // products개 제품을 workers개 스레드에서 배치별로 시뮬레이션하고 배치 순서대로 consumer에 전달
+    // (동시에 진행하는 배치는 workers * 2개까지, 전달이 끝난 배치는 버린다)
+    public void run(int products, int workers, BatchConsumer consumer) throws IOException, InterruptedException {
+        if (products < 0 || workers < 1) {
+            throw new IllegalArgumentException("products must be >= 0 and workers >= 1: " + products + ", " + workers);
+        }
+        int batches = (int) ((products + (long) batchProducts - 1) / batchProducts);
+        ExecutorService pool = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "mes-worker");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            ArrayDeque<Future<MesBatch>> inFlight = new ArrayDeque<>();
+            int submitted = 0;
+            long offset = 0;
+            for (int b = 0; b < batches; b++) {
+                while (submitted < batches && inFlight.size() < workers * 2) {
+                    int batch = submitted++;
+                    int first = batch * batchProducts;
+                    int count = Math.min(batchProducts, products - first);
+                    inFlight.add(pool.submit(() -> simulate(batch, first, count)));
+                }
+                MesBatch result = await(inFlight.poll());
+                consumer.accept(result, offset);
+                offset += result.makespan;
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static MesBatch await(Future<MesBatch> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    // products개 제품을 배치 순서대로 한 스레드에서 시뮬레이션하며 coupling과 시계를 공유
+    // (coupling은 마지막 작업 종료 시각까지 진행한 상태로 끝난다)
+    public void runCoupled(int products, ProcessCoupling coupling, DefectModel defects, BatchConsumer consumer)
+            throws IOException {
+        if (products < 0) throw new IllegalArgumentException("products must be >= 0: " + products);
+        long offset = 0;
+        for (int first = 0, b = 0; first < products; first += batchProducts, b++) {
+            MesBatch result = new BatchRun(b, offset, coupling, defects).run(first, Math.min(batchProducts, products - first));
+            consumer.accept(result, offset);
+            offset += result.makespan;
+        }
+        coupling.advanceTo(offset);
+    }
+
+    // 배치 하나 시뮬레이션 (제품 firstProduct부터 count개를 시각 0에 첫 공정 대기열에 투입)
+    public MesBatch simulate(int batch, int firstProduct, int count) {
+        try {
+            return new BatchRun(batch, 0, null, DefectModel.NONE).run(firstProduct, count);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // coupling이 없으면 발생하지 않음
+        }
+    }
+
+    // 배치 하나의 공장 상태 (장비는 모든 공정을 이어 붙인 전체 인덱스로 관리)
+    private final class BatchRun {
+        private final int batch;
+        private final long offset; // 배치 시작 시각 (coupling 시계 기준 µs)
+        private final ProcessCoupling coupling; // 없으면 null
+        private final DefectModel defects;
+        private final RandomGenerator rand;
+        private final int[] base; // 공정의 첫 장비 전체 인덱스
+        private final int[] stageOf; // 장비 -> 공정
+        private final long[] freeAt; // 마지막으로 작업을 끝낸 시각
+        private final MachineHeap[] idle; // 공정별 빈 장비
+        private final int[] current; // 작업 중인 제품
+        private final int[] slot; // 작업 중인 기록 위치 (ProcessLog)
+        private final long[] exposureAt; // 작업 시작 때의 공정 누적 이상 노출 (coupling)
+        private final IntQueue[] ready; // 공정별 대기 제품 (도착 순서)
+        private final ProcessLog[] logs;
+        private final EventQueue events = new EventQueue(); // 작업 종료 사건 (값 = 장비 전체 인덱스)
+
+        BatchRun(int batch, long offset, ProcessCoupling coupling, DefectModel defects) {
+            this.batch = batch;
+            this.offset = offset;
+            this.coupling = coupling;
+            this.defects = defects;
+            this.rand = random.stream("batch/" + batch);
+            int n = stages.size();
+            base = new int[n];
+            ready = new IntQueue[n];
+            logs = new ProcessLog[n];
+            int machines = 0;
+            for (int s = 0; s < n; s++) {
+                base[s] = machines;
+                machines += stages.get(s).machineCount();
+                ready[s] = new IntQueue();
+                logs[s] = new ProcessLog();
+            }
+            stageOf = new int[machines];
+            for (int s = 0; s < n; s++) {
+                Arrays.fill(stageOf, base[s], base[s] + stages.get(s).machineCount(), s);
+            }
+            freeAt = new long[machines];
+            idle = new MachineHeap[n];
+            for (int s = 0; s < n; s++) {
+                idle[s] = new MachineHeap(freeAt, stages.get(s).machineCount());
+                for (int m = base[s]; m < base[s] + stages.get(s).machineCount(); m++) idle[s].add(m);
+            }
+            current = new int[machines];
+            slot = new int[machines];
+            exposureAt = new long[machines];
+        }
+
+        MesBatch run(int firstProduct, int count) throws IOException {
+            if (coupling != null) coupling.advanceTo(offset);
+            for (int p = firstProduct; p < firstProduct + count; p++) ready[0].add(p);
+            dispatch(0, 0);
+            long makespan = 0;
+            int last = stages.size() - 1;
+            while (!events.isEmpty()) {
+                long now = events.peekTime();
+                int m = events.peekPayload();
+                events.remove();
+                int s = stageOf[m];
+                int product = current[m];
+                long exposure = 0;
+                if (coupling != null) {
+                    coupling.advanceTo(offset + now);
+                    exposure = coupling.exposure(s) - exposureAt[m];
+                }
+                Quality result = defects.quality(stages.get(s), exposure, rand.nextDouble());
+                logs[s].finish(slot[m], now, result, (int) Math.min(exposure, Integer.MAX_VALUE));
+                freeAt[m] = now;
+                idle[s].add(m);
+                makespan = now;
+                if (result == Quality.REWORK) {
+                    ready[s].add(product);
+                } else if (result == Quality.GOOD && s < last) {
+                    ready[s + 1].add(product);
+                    dispatch(s + 1, now);
+                }
+                dispatch(s, now);
+            }
+            return new MesBatch(batch, firstProduct, count, logs, makespan);
+        }
+
+        // 공정 s의 빈 장비에 대기 제품을 배정 (now 시각에 작업 시작)
+        private void dispatch(int s, long now) {
+            ProcessStage stage = stages.get(s);
+            IntQueue queue = ready[s];
+            MachineHeap machines = idle[s];
+            while (!queue.isEmpty() && !machines.isEmpty()) {
+                int m = machines.poll();
+                int product = queue.poll();
+                current[m] = product;
+                slot[m] = logs[s].begin(product, m - base[s], now);
+                if (coupling != null) exposureAt[m] = coupling.exposure(s);
+                events.add(now + rand.nextLong(stage.minMicros, stage.maxMicros + 1), m);
+            }
+        }
+    }
+
+    // int 원형 대기열 (제품 번호를 boxing 없이 보관)
+    private static final class IntQueue {
+        private int[] items = new int[64];
+        private int head;
+        private int size;
+
+        void add(int value) {
+            if (size == items.length) {
+                int[] grown = new int[size * 2];
+                for (int i = 0; i < size; i++) grown[i] = items[(head + i) % items.length];
+                items = grown;
+                head = 0;
+            }
+            items[(head + size++) % items.length] = value;
+        }
+
+        int poll() {
+            int value = items[head];
+            head = (head + 1) % items.length;
+            size--;
+            return value;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+
+    // 사용법: MesSimulator [제품 수] [스레드 수] [seed]
+    // - 출력: MES_data/product_process_<공정>.csv (-Dmes.out=디렉토리)
+    // - -Dmes.stages=공정 파일 (기본 mes-stages.csv), -Dmes.batch=배치당 제품 수, -Dmes.start=2025-01-01T08:00:00
+    public static void main(String[] args) throws Exception {
+        int products = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int workers = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        RandomSource random = args.length > 2
+                ? RandomSource.of(Long.parseLong(args[2]),
+                        System.getProperty(RandomSource.ALGORITHM_PROPERTY, RandomSource.DEFAULT_ALGORITHM))
+                : RandomSource.fromSystemProperties();
+        String stageFile = System.getProperty("mes.stages");
+        List<ProcessStage> stages = stageFile != null ? ProcessStage.load(Paths.get(stageFile)) : ProcessStage.defaults();
+        String start = System.getProperty("mes.start");
+        MesSimulator simulator = new MesSimulator(stages, random, Integer.getInteger("mes.batch", DEFAULT_BATCH_PRODUCTS));
+        Path out = Paths.get(System.getProperty("mes.out", "MES_data"));
+
+        System.out.println("random: " + random);
+        long begin = System.nanoTime();
+        long[] records = new long[1];
+        try (MesCsvWriter writer = new MesCsvWriter(out, stages,
+                start != null ? LocalDateTime.parse(start) : DEFAULT_START, products)) {
+            simulator.run(products, workers, (batch, offset) -> {
+                writer.write(batch, offset);
+                records[0] += batch.records();
+            });
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        System.out.printf("%d products, %d records in %.2fs (%.0f records/s) -> %s%n",
+                products, records[0], seconds, records[0] / seconds, out.toAbsolutePath());
+    }
+}
@@ -0,0 +1,15 @@
+package com.deefacto.sensorDataGen.mes;
+
+import java.io.IOException;
+
+// MES 스케줄러와 같은 사건 시계로 진행하는 외부 상태 (센서 zone 상태 기계 등)
+// - MesSimulator는 사건을 처리하기 전에 advanceTo(사건 시각)을 호출하고,
+//   작업 시작/종료 때 읽은 exposure의 차이를 그 작업의 이상 노출로 쓴다 (사건마다 O(1), 사후 조인 없음)
+public interface ProcessCoupling {
+
+    // micros(시뮬레이션 시작 기준 µs)까지 진행, 시각이 micros 이하인 상태 변화를 모두 반영
+    void advanceTo(long micros) throws IOException;
+
+    // 공정 stage(ProcessStage 순서)의 누적 이상 노출 (초, 줄어들지 않음)
+    long exposure(int stage);
+}
@@ -0,0 +1,66 @@
+package com.deefacto.sensorDataGen.mes;
+
+import java.util.Arrays;
+
+// 공정 하나의 작업 기록 (struct-of-arrays, 작업 시작 순서 = 시작 시각 순서로 쌓인다)
+// 시작할 때 칸을 잡고(begin) 끝날 때 종료 시각과 품질 결과(센서 연동 시 이상 노출 시간 포함)를 채운다(finish)
+public final class ProcessLog {
+    private int[] product = new int[256]; // 제품 번호 (0부터)
+    private int[] machine = new int[256]; // 공정 안 장비 인덱스
+    private long[] start = new long[256]; // 시작 시각 (배치 기준 µs)
+    private long[] end = new long[256]; // 종료 시각 (배치 기준 µs)
+    private byte[] quality = new byte[256]; // Quality ordinal
+    private int[] exposure = new int[256]; // 작업 구간의 zone 센서 이상 초 (센서 연동 없으면 0)
+    private int size;
+
+    int begin(int productNo, int machineNo, long startMicros) {
+        if (size == product.length) {
+            int capacity = size * 2;
+            product = Arrays.copyOf(product, capacity);
+            machine = Arrays.copyOf(machine, capacity);
+            start = Arrays.copyOf(start, capacity);
+            end = Arrays.copyOf(end, capacity);
+            quality = Arrays.copyOf(quality, capacity);
+            exposure = Arrays.copyOf(exposure, capacity);
+        }
+        int slot = size++;
+        product[slot] = productNo;
+        machine[slot] = machineNo;
+        start[slot] = startMicros;
+        return slot;
+    }
+
+    void finish(int slot, long endMicros, Quality result, int exposureSeconds) {
+        end[slot] = endMicros;
+        quality[slot] = (byte) result.ordinal();
+        exposure[slot] = exposureSeconds;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int product(int i) {
+        return product[i];
+    }
+
+    public int machine(int i) {
+        return machine[i];
+    }
+
+    public long start(int i) {
+        return start[i];
+    }
+
+    public long end(int i) {
+        return end[i];
+    }
+
+    public Quality quality(int i) {
+        return Quality.of(quality[i]);
+    }
+
+    public int exposure(int i) {
+        return exposure[i];
+    }
+}
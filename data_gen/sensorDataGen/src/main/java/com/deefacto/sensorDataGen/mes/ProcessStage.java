@@ -0,0 +1,100 @@
+package com.deefacto.sensorDataGen.mes;
+
+import com.deefacto.sensorDataGen.SensorFleet;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// MES 공정 하나 (공정 종류, 장비 목록, 소요 시간 범위, 품질 결과 확률)
+// - 장비는 서로 독립적으로 동작하므로 같은 시간대에 여러 장비가 동시에 작업한다
+// - 공정 파일(CSV): 한 줄에 "공정,공정 이름,장비 ID 목록,최소 소요(분),최대 소요(분),G 확률,B 확률,R 확률"
+//   (장비 ID 목록은 SensorFleet.expand 문법, 예: AST-101..AST-118), '#' 뒤는 주석
+public class ProcessStage {
+    public static final String DEFAULT_RESOURCE = "/mes-stages.csv";
+    private static final long MICROS_PER_MINUTE = 60_000_000L;
+
+    public final String name; // CSV 공정종류 컬럼 값 (A, B, C)
+    public final String process; // 공정 이름 (산화, 증착, ...)
+    public final String[] machines; // 장비 ID
+    public final long minMicros; // 최소 소요 시간 (µs)
+    public final long maxMicros; // 최대 소요 시간 (µs)
+    public final double good;
+    public final double bad;
+    public final double rework;
+
+    public ProcessStage(String name, String process, List<String> machines, long minMicros, long maxMicros,
+                        double good, double bad, double rework) {
+        if (machines.isEmpty()) {
+            throw new IllegalArgumentException("stage " + name + " needs machines");
+        }
+        if (minMicros < 1 || maxMicros < minMicros) {
+            throw new IllegalArgumentException("stage " + name + ": expected 0 < min <= max duration: "
+                    + minMicros + ", " + maxMicros);
+        }
+        if (good < 0 || bad < 0 || rework < 0 || Math.abs(good + bad + rework - 1) > 1e-9 || rework >= 1) {
+            throw new IllegalArgumentException("stage " + name + ": G/B/R probabilities must be >= 0, sum to 1 "
+                    + "and R < 1: " + good + ", " + bad + ", " + rework);
+        }
+        this.name = name;
+        this.process = process;
+        this.machines = machines.toArray(new String[0]);
+        this.minMicros = minMicros;
+        this.maxMicros = maxMicros;
+        this.good = good;
+        this.bad = bad;
+        this.rework = rework;
+    }
+
+    // classpath의 기본 공정 (A 산화, B 증착, C 패키징/테스트)
+    public static List<ProcessStage> defaults() {
+        try (InputStream in = ProcessStage.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+            if (in == null) throw new IllegalStateException("missing stage resource: " + DEFAULT_RESOURCE);
+            return parse(new InputStreamReader(in, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static List<ProcessStage> load(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        }
+    }
+
+    public static List<ProcessStage> parse(Reader reader) throws IOException {
+        List<ProcessStage> stages = new ArrayList<>();
+        BufferedReader in = new BufferedReader(reader);
+        String line;
+        int lineNo = 0;
+        while ((line = in.readLine()) != null) {
+            lineNo++;
+            int comment = line.indexOf('#');
+            if (comment >= 0) line = line.substring(0, comment);
+            if (line.isBlank()) continue;
+            String[] f = line.split(",");
+            if (f.length != 8) {
+                throw new IllegalArgumentException("stage line " + lineNo
+                        + ": expected stage,process,machines,minMinutes,maxMinutes,good,bad,rework: " + line);
+            }
+            stages.add(new ProcessStage(f[0].trim(), f[1].trim(), SensorFleet.expand(f[2].replace(';', ',')),
+                    Math.round(Double.parseDouble(f[3].trim()) * MICROS_PER_MINUTE),
+                    Math.round(Double.parseDouble(f[4].trim()) * MICROS_PER_MINUTE),
+                    Double.parseDouble(f[5].trim()), Double.parseDouble(f[6].trim()), Double.parseDouble(f[7].trim())));
+        }
+        if (stages.isEmpty()) throw new IllegalArgumentException("no stages");
+        return stages;
+    }
+
+    public int machineCount() {
+        return machines.length;
+    }
+}
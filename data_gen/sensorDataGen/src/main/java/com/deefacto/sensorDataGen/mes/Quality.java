@@ -0,0 +1,20 @@
+package com.deefacto.sensorDataGen.mes;
+
+// 공정 품질 결과 (ProcessLog.quality에는 ordinal을 byte로 저장)
+public enum Quality {
+    GOOD('G'), // 다음 공정으로
+    BAD('B'), // 불량, 이후 공정 없음
+    REWORK('R'); // 같은 공정 재작업
+
+    private static final Quality[] VALUES = values();
+
+    public final char code; // CSV 품질결과 컬럼 값
+
+    Quality(char code) {
+        this.code = code;
+    }
+
+    public static Quality of(byte ordinal) {
+        return VALUES[ordinal];
+    }
+}
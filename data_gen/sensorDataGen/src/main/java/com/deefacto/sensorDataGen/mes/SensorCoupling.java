@@ -0,0 +1,173 @@
+package com.deefacto.sensorDataGen.mes;
+
+import com.deefacto.sensorDataGen.AnomalySensorGenerator;
+import com.deefacto.sensorDataGen.RandomSource;
+import com.deefacto.sensorDataGen.SensorFleet;
+import com.deefacto.sensorDataGen.SensorGenerator;
+import com.deefacto.sensorDataGen.SensorSimulationEngine;
+import com.deefacto.sensorDataGen.ZoneMode;
+import com.deefacto.sensorDataGen.output.RollingFileSink;
+import com.deefacto.sensorDataGen.output.SensorSink;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 센서 생성기(zone 상태 기계)를 MES 사건 시계에 맞춰 1초씩 진행하는 ProcessCoupling
+// - advanceTo(t): 시각 t(µs)까지의 초를 모두 tick (센서 데이터는 평소처럼 sink에 기록)
+// - tick마다 공정 zone(공정 A -> zone A, 바꿀 수 있음)의 생성기 중 하나라도 NORMAL이 아니면 그 공정의 이상 노출 +1초
+//   작업의 노출 = 종료 때 누적값 - 시작 때 누적값 (시각이 (시작, 종료]인 초 중 이상이었던 초)
+// - 이상 상태는 AnomalySensorGenerator만 제공하므로 다른 생성기는 기록만 하고 노출에는 포함하지 않는다
+public class SensorCoupling implements ProcessCoupling, Closeable {
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private final List<SensorGenerator> generators;
+    private final AnomalySensorGenerator[][] stageGenerators; // 공정 -> zone이 있는 생성기
+    private final int[][] stageZones; // 공정 -> 생성기별 zone 인덱스
+    private final long[] exposure; // 공정별 누적 이상 초
+    private final long startSecond;
+    private long nextSecond; // 다음에 tick할 초 (시작 기준)
+
+    public SensorCoupling(List<SensorGenerator> generators, List<ProcessStage> stages, LocalDateTime start,
+                          SensorSink sink) throws IOException {
+        this(generators, stages, Map.of(), start, sink);
+    }
+
+    // stageZones: 공정 -> zone ID (없는 공정은 공정 이름과 같은 zone)
+    public SensorCoupling(List<SensorGenerator> generators, List<ProcessStage> stages, Map<String, String> stageZones,
+                          LocalDateTime start, SensorSink sink) throws IOException {
+        this.generators = List.copyOf(generators);
+        this.stageGenerators = new AnomalySensorGenerator[stages.size()][];
+        this.stageZones = new int[stages.size()][];
+        for (int s = 0; s < stages.size(); s++) {
+            String zoneId = stageZones.getOrDefault(stages.get(s).name, stages.get(s).name);
+            List<AnomalySensorGenerator> matched = new ArrayList<>();
+            List<Integer> zones = new ArrayList<>();
+            for (SensorGenerator generator : generators) {
+                if (!(generator instanceof AnomalySensorGenerator)) continue;
+                AnomalySensorGenerator anomaly = (AnomalySensorGenerator) generator;
+                int zone = anomaly.zoneIndex(zoneId);
+                if (zone < 0) continue;
+                matched.add(anomaly);
+                zones.add(zone);
+            }
+            this.stageGenerators[s] = matched.toArray(new AnomalySensorGenerator[0]);
+            this.stageZones[s] = zones.stream().mapToInt(Integer::intValue).toArray();
+        }
+        this.exposure = new long[stages.size()];
+        this.startSecond = start.toEpochSecond(ZoneOffset.UTC);
+        int opened = 0;
+        try {
+            for (; opened < this.generators.size(); opened++) this.generators.get(opened).open(start, sink);
+        } catch (IOException | RuntimeException e) {
+            // 생성자가 실패하면 호출한 쪽이 close할 수 없으므로 여기서 닫는다 (실패한 생성기도 일부 zone이 열렸을 수 있다)
+            for (int g = 0; g <= opened && g < this.generators.size(); g++) {
+                try {
+                    this.generators.get(g).close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void advanceTo(long micros) throws IOException {
+        while (nextSecond * MICROS_PER_SECOND <= micros) {
+            long epochSecond = startSecond + nextSecond++;
+            for (SensorGenerator generator : generators) generator.tick(epochSecond);
+            for (int s = 0; s < exposure.length; s++) {
+                if (anomalous(s)) exposure[s]++;
+            }
+        }
+    }
+
+    private boolean anomalous(int stage) {
+        AnomalySensorGenerator[] gens = stageGenerators[stage];
+        int[] zones = stageZones[stage];
+        for (int i = 0; i < gens.length; i++) {
+            if (gens[i].zoneMode(zones[i]) != ZoneMode.NORMAL) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public long exposure(int stage) {
+        return exposure[stage];
+    }
+
+    // 지금까지 tick한 초
+    public long seconds() {
+        return nextSecond;
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (SensorGenerator generator : generators) {
+            try {
+                generator.close();
+            } catch (IOException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        if (failure != null) throw failure;
+    }
+
+    // 사용법: SensorCoupling [제품 수] [seed]
+    // MES 작업 기록(센서이상시간 컬럼 포함)과 같은 기간의 센서 데이터를 한 시계로 생성
+    // - 출력: -Dmes.out=MES_data, 센서 데이터 -Dsensor.out=Data (RollingFileSink)
+    // - -Dfleet=센서 배치 파일 (기본 fleet.csv, zone A/B/C = 공정 A/B/C), -Dmes.stages, -Dmes.batch,
+    //   -Dmes.start=2025-07-15T09:32:00, -Dcoupling.bad / -Dcoupling.rework = 이상 1초당 불량/재작업 위험률
+    public static void main(String[] args) throws Exception {
+        int products = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        RandomSource random = args.length > 1
+                ? RandomSource.of(Long.parseLong(args[1]),
+                        System.getProperty(RandomSource.ALGORITHM_PROPERTY, RandomSource.DEFAULT_ALGORITHM))
+                : RandomSource.fromSystemProperties();
+        String fleetFile = System.getProperty("fleet");
+        SensorFleet fleet = fleetFile != null ? SensorFleet.load(Paths.get(fleetFile)) : SensorFleet.defaultFleet();
+        String stageFile = System.getProperty("mes.stages");
+        List<ProcessStage> stages = stageFile != null ? ProcessStage.load(Paths.get(stageFile)) : ProcessStage.defaults();
+        LocalDateTime start = LocalDateTime.parse(System.getProperty("mes.start", "2025-07-15T09:32:00"));
+        DefectModel defects = new DefectModel(
+                Double.parseDouble(System.getProperty("coupling.bad", Double.toString(DefectModel.DEFAULT.badPerSecond))),
+                Double.parseDouble(System.getProperty("coupling.rework",
+                        Double.toString(DefectModel.DEFAULT.reworkPerSecond))));
+        MesSimulator simulator = new MesSimulator(stages, random,
+                Integer.getInteger("mes.batch", MesSimulator.DEFAULT_BATCH_PRODUCTS));
+        Path mesOut = Paths.get(System.getProperty("mes.out", "MES_data"));
+
+        System.out.println("random: " + random);
+        long begin = System.nanoTime();
+        long[] counts = new long[3]; // 작업 기록, 이상 노출 작업, 그 중 불량/재작업
+        SensorCoupling coupling;
+        try (SensorSink sink = new RollingFileSink(Paths.get(System.getProperty("sensor.out", "Data")));
+             MesCsvWriter writer = new MesCsvWriter(mesOut, stages, start, products, true);
+             SensorCoupling c = new SensorCoupling(SensorSimulationEngine.generators(fleet, random), stages, start, sink)) {
+            coupling = c;
+            simulator.runCoupled(products, coupling, defects, (batch, offset) -> {
+                writer.write(batch, offset);
+                for (ProcessLog log : batch.logs) {
+                    counts[0] += log.size();
+                    for (int i = 0; i < log.size(); i++) {
+                        if (log.exposure(i) == 0) continue;
+                        counts[1]++;
+                        if (log.quality(i) != Quality.GOOD) counts[2]++;
+                    }
+                }
+            });
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        System.out.printf("%d products, %d records (%d exposed, %d of them B/R), %d sensor seconds in %.2fs -> %s%n",
+                products, counts[0], counts[1], counts[2], coupling.seconds(), seconds, mesOut.toAbsolutePath());
+    }
+}
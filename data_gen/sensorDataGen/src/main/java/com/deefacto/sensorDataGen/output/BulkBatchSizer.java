@@ -0,0 +1,40 @@
+package com.deefacto.sensorDataGen.output;
+
+// bulk 요청 하나에 담을 문서 수 조절 (응답 지연과 거부 기준 AIMD)
+// - 거부(HTTP 429, 항목 429)되면 절반으로 줄임
+// - 응답이 목표 지연보다 느리면 3/4로 줄이고, 목표의 절반보다 빠르면 1/8씩 늘림
+// - 여러 zone writer와 응답 스레드가 공유
+final class BulkBatchSizer {
+    private final int min;
+    private final int max;
+    private final long targetLatencyNanos;
+    private volatile int size;
+
+    BulkBatchSizer(int initial, int min, int max, long targetLatencyNanos) {
+        if (min < 1 || min > initial || initial > max) {
+            throw new IllegalArgumentException("batch size must satisfy 1 <= min <= initial <= max: "
+                    + min + ", " + initial + ", " + max);
+        }
+        this.min = min;
+        this.max = max;
+        this.targetLatencyNanos = targetLatencyNanos;
+        this.size = initial;
+    }
+
+    int size() {
+        return size;
+    }
+
+    synchronized void onSuccess(long latencyNanos) {
+        int s = size;
+        if (latencyNanos > targetLatencyNanos) {
+            size = Math.max(min, s - s / 4);
+        } else if (latencyNanos < targetLatencyNanos / 2) {
+            size = Math.min(max, s + Math.max(1, s / 8));
+        }
+    }
+
+    synchronized void onRejected() {
+        size = Math.max(min, size / 2);
+    }
+}
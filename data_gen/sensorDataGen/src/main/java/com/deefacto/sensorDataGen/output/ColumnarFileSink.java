@@ -0,0 +1,179 @@
+package com.deefacto.sensorDataGen.output;
+
+import com.deefacto.sensorDataGen.Sensor;
+import com.deefacto.sensorDataGen.SensorSpec;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// 센서 1개, 시간 구간(기본 1시간) 1개를 ColumnarFormat 파일 하나로 기록하는 출력
+// - 파일 경로: <dataDir>/<yyyy-MM-dd>/<sensorId>_HH:mm~HH:mm.scol (RollingFileSink와 같은 이름 규칙)
+// - 값은 들어오는 즉시 센서별 컬럼 버퍼에 차이값으로 인코딩해 두고, 구간이 끝나면 백그라운드 I/O 스레드에서 파일로 쓴다
+// - 파일은 구간이 끝나야 완성되므로 flush는 아무것도 하지 않는다 (close 시 진행 중인 구간도 기록)
+public class ColumnarFileSink implements SensorSink {
+    private static final int IO_THREADS = 2;
+    private static final int IO_QUEUE_CAPACITY = 256; // 대기 중인 파일 쓰기 작업 수 상한
+
+    private final Path baseDir;
+    private final int windowSeconds;
+    private final ExecutorService io;
+    private final Set<ColumnarZoneWriter> openWriters = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<IOException> ioFailure = new AtomicReference<>();
+    private final LongAdder bytesWritten = new LongAdder();
+
+    public ColumnarFileSink(Path baseDir) {
+        this(baseDir, RollingFileSink.DEFAULT_WINDOW_SECONDS);
+    }
+
+    // windowSeconds: 60의 배수이면서 하루(86400초)를 나누어 떨어지게 하는 값
+    public ColumnarFileSink(Path baseDir, int windowSeconds) {
+        RollingFileSink.checkWindow(windowSeconds);
+        this.baseDir = baseDir;
+        this.windowSeconds = windowSeconds;
+        AtomicInteger seq = new AtomicInteger();
+        // 대기열이 가득 차면 생성기 스레드가 직접 실행 (backpressure)
+        this.io = new ThreadPoolExecutor(IO_THREADS, IO_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(IO_QUEUE_CAPACITY), r -> {
+            Thread t = new Thread(r, "columnar-io-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    public ZoneWriter openZone(SensorSpec spec, List<Sensor> sensors) throws IOException {
+        checkFailure();
+        ColumnarZoneWriter writer = new ColumnarZoneWriter(spec, sensors);
+        openWriters.add(writer);
+        return writer;
+    }
+
+    @Override
+    public long bytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (ColumnarZoneWriter writer : openWriters) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        io.shutdown();
+        try {
+            if (!io.awaitTermination(1, TimeUnit.MINUTES)) {
+                io.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            checkFailure();
+        } catch (IOException e) {
+            if (failure == null) failure = e;
+            else failure.addSuppressed(e);
+        }
+        if (failure != null) throw failure;
+    }
+
+    private void checkFailure() throws IOException {
+        IOException e = ioFailure.get();
+        if (e != null) throw new IOException("background file I/O failed", e);
+    }
+
+    private void recordFailure(IOException e) {
+        if (!ioFailure.compareAndSet(null, e)) ioFailure.get().addSuppressed(e);
+    }
+
+    private class ColumnarZoneWriter implements ZoneWriter {
+        private final SensorSpec spec;
+        private final List<Sensor> sensors;
+        private final ColumnarFormat.SeriesEncoder[] encoders; // 센서별
+        private long windowStart = Long.MIN_VALUE;
+        private long windowEnd = Long.MIN_VALUE;
+        private boolean closed;
+
+        ColumnarZoneWriter(SensorSpec spec, List<Sensor> sensors) {
+            this.spec = spec;
+            this.sensors = sensors;
+            this.encoders = new ColumnarFormat.SeriesEncoder[sensors.size()];
+            String[] columns = spec.dbColumns();
+            for (int i = 0; i < encoders.length; i++) {
+                Sensor sensor = sensors.get(i);
+                encoders[i] = new ColumnarFormat.SeriesEncoder(spec.sensorType, sensor.sensorId, sensor.zoneId,
+                        spec.unit, spec.scale, columns);
+            }
+        }
+
+        @Override
+        public void write(int sensor, long epochSecond, long value) throws IOException {
+            if (epochSecond >= windowEnd || epochSecond < windowStart) roll(epochSecond);
+            encoders[sensor].add(epochSecond, value);
+        }
+
+        @Override
+        public void write(int sensor, long epochSecond, long v0, long v1, long v2) throws IOException {
+            if (epochSecond >= windowEnd || epochSecond < windowStart) roll(epochSecond);
+            encoders[sensor].add(epochSecond, v0, v1, v2);
+        }
+
+        private void roll(long epochSecond) throws IOException {
+            checkFailure();
+            writeWindow();
+            windowStart = epochSecond - Math.floorMod(epochSecond, (long) windowSeconds);
+            windowEnd = windowStart + windowSeconds;
+        }
+
+        // 현재 구간의 센서별 파일 내용을 만들어 I/O 스레드로 넘기고 인코더를 비운다
+        private void writeWindow() {
+            if (windowStart == Long.MIN_VALUE) return;
+            Path dir = RollingFileSink.dayDir(baseDir.resolve(spec.dataDir), windowStart);
+            String name = RollingFileSink.windowName(windowStart, windowSeconds) + ColumnarFormat.EXTENSION;
+            for (int i = 0; i < encoders.length; i++) {
+                ColumnarFormat.SeriesEncoder encoder = encoders[i];
+                if (encoder.size() == 0) continue;
+                byte[] data = encoder.finish();
+                encoder.reset();
+                Path file = dir.resolve(sensors.get(i).sensorId + name);
+                io.execute(() -> {
+                    try {
+                        Files.createDirectories(dir);
+                        Files.write(file, data);
+                        bytesWritten.add(data.length);
+                    } catch (IOException e) {
+                        recordFailure(e);
+                    }
+                });
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) return;
+            closed = true;
+            openWriters.remove(this);
+            writeWindow();
+            checkFailure();
+        }
+    }
+}
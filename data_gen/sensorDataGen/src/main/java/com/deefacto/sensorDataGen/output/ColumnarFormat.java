@@ -0,0 +1,264 @@
+package com.deefacto.sensorDataGen.output;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+// 센서 1개, 시간 구간 1개의 컬럼 저장 형식 (.scol)
+//   magic "SDGC", version(1 byte)
+//   헤더: sensor_type, sensor_id, zone_id, unit (varint 길이 + UTF-8), scale(1 byte), 컬럼 수(1 byte), 컬럼명들
+//   행 수 (varint)
+//   timestamp 컬럼: varint 바이트 길이 + [첫 epoch 초, (차이, 반복 횟수) 쌍...]  (1초 간격이면 쌍 하나)
+//   값 컬럼마다: varint 바이트 길이 + [첫 값, 이전 값과의 차이...]
+// 정수는 모두 zigzag varint (절댓값이 작은 차이는 1 byte). 컬럼마다 길이가 있어 필요한 컬럼만 읽을 수 있다
+public final class ColumnarFormat {
+    public static final String EXTENSION = ".scol";
+    private static final byte[] MAGIC = {'S', 'D', 'G', 'C'};
+    private static final int VERSION = 1;
+
+    private ColumnarFormat() {
+    }
+
+    // 센서 1개의 행을 받는 즉시 컬럼별로 인코딩 (행을 long 배열로 모아 두지 않는다)
+    // 한 스레드에서만 사용
+    static final class SeriesEncoder {
+        private final byte[] header; // magic ~ 컬럼명
+        private final Out timestamps = new Out(64);
+        private final Out[] columns;
+        private final long[] previous; // 컬럼별 직전 값
+        private int size;
+        private long lastSecond;
+        private long runDelta; // 아직 기록하지 않은 (차이, 반복 횟수) 쌍
+        private int runLength;
+
+        SeriesEncoder(String sensorType, String sensorId, String zoneId, String unit, int scale, String[] columnNames) {
+            Out out = new Out(64);
+            out.bytes(MAGIC, 0, MAGIC.length);
+            out.u8(VERSION);
+            out.string(sensorType);
+            out.string(sensorId);
+            out.string(zoneId);
+            out.string(unit);
+            out.u8(scale);
+            out.u8(columnNames.length);
+            for (String column : columnNames) out.string(column);
+            this.header = out.toByteArray();
+            this.columns = new Out[columnNames.length];
+            for (int c = 0; c < columns.length; c++) columns[c] = new Out(1024);
+            this.previous = new long[columnNames.length];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void add(long epochSecond, long v0) {
+            time(epochSecond);
+            value(0, v0);
+        }
+
+        void add(long epochSecond, long v0, long v1, long v2) {
+            time(epochSecond);
+            value(0, v0);
+            value(1, v1);
+            value(2, v2);
+        }
+
+        private void time(long epochSecond) {
+            if (size++ == 0) {
+                timestamps.zigzag(epochSecond);
+            } else {
+                long delta = epochSecond - lastSecond;
+                if (runLength > 0 && delta != runDelta) {
+                    timestamps.zigzag(runDelta);
+                    timestamps.varint(runLength);
+                    runLength = 0;
+                }
+                runDelta = delta;
+                runLength++;
+            }
+            lastSecond = epochSecond;
+        }
+
+        private void value(int c, long v) {
+            columns[c].zigzag(v - previous[c]);
+            previous[c] = v;
+        }
+
+        // 파일 내용 (이후 reset 전까지 다시 호출하지 않는다)
+        byte[] finish() {
+            if (runLength > 0) {
+                timestamps.zigzag(runDelta);
+                timestamps.varint(runLength);
+                runLength = 0;
+            }
+            int length = header.length + 10 + 10 + timestamps.len;
+            for (Out column : columns) length += 10 + column.len;
+            Out out = new Out(length);
+            out.bytes(header, 0, header.length);
+            out.varint(size);
+            out.column(timestamps);
+            for (Out column : columns) out.column(column);
+            return out.toByteArray();
+        }
+
+        void reset() {
+            timestamps.reset();
+            for (Out column : columns) column.reset();
+            Arrays.fill(previous, 0);
+            size = 0;
+            runLength = 0;
+        }
+    }
+
+    public static ColumnarSeries read(Path file) throws IOException {
+        return decode(Files.readAllBytes(file));
+    }
+
+    public static ColumnarSeries decode(byte[] data) throws IOException {
+        In in = new In(data);
+        for (byte b : MAGIC) {
+            if (in.u8() != b) throw new IOException("not a columnar sensor file");
+        }
+        int version = in.u8();
+        if (version != VERSION) throw new IOException("unsupported columnar version: " + version);
+        String sensorType = in.string();
+        String sensorId = in.string();
+        String zoneId = in.string();
+        String unit = in.string();
+        int scale = in.u8();
+        String[] columns = new String[in.u8()];
+        for (int c = 0; c < columns.length; c++) columns[c] = in.string();
+        int size = (int) in.varint();
+
+        long[] epochSeconds = new long[size];
+        int end = (int) in.varint() + in.pos;
+        if (size > 0) {
+            long t = in.zigzag();
+            epochSeconds[0] = t;
+            int i = 1;
+            while (i < size) {
+                long delta = in.zigzag();
+                long run = in.varint();
+                if (run < 1 || i + run > size) throw new IOException("corrupt timestamp column");
+                for (long k = 0; k < run; k++) {
+                    t += delta;
+                    epochSeconds[i++] = t;
+                }
+            }
+        }
+        in.expect(end);
+        long[][] values = new long[columns.length][size];
+        for (long[] column : values) {
+            end = (int) in.varint() + in.pos;
+            long v = 0;
+            for (int r = 0; r < size; r++) {
+                v += in.zigzag();
+                column[r] = v;
+            }
+            in.expect(end);
+        }
+        return new ColumnarSeries(sensorType, sensorId, zoneId, unit, scale, columns, epochSeconds, values);
+    }
+
+    // 확장 가능한 byte 버퍼
+    private static final class Out {
+        private byte[] buf;
+        private int len;
+
+        Out(int capacity) {
+            buf = new byte[Math.max(16, capacity)];
+        }
+
+        void reset() {
+            len = 0;
+        }
+
+        private void ensure(int n) {
+            if (buf.length - len < n) buf = Arrays.copyOf(buf, Math.max(buf.length * 2, len + n));
+        }
+
+        void u8(int v) {
+            ensure(1);
+            buf[len++] = (byte) v;
+        }
+
+        void bytes(byte[] b, int off, int n) {
+            ensure(n);
+            System.arraycopy(b, off, buf, len, n);
+            len += n;
+        }
+
+        void varint(long v) {
+            ensure(10);
+            while ((v & ~0x7FL) != 0) {
+                buf[len++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            buf[len++] = (byte) v;
+        }
+
+        void zigzag(long v) {
+            varint((v << 1) ^ (v >> 63));
+        }
+
+        void string(String s) {
+            byte[] b = s.getBytes(StandardCharsets.UTF_8);
+            varint(b.length);
+            bytes(b, 0, b.length);
+        }
+
+        // 길이를 앞에 붙여 다른 버퍼 내용을 이어 붙임
+        void column(Out col) {
+            varint(col.len);
+            bytes(col.buf, 0, col.len);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, len);
+        }
+    }
+
+    private static final class In {
+        private final byte[] data;
+        int pos;
+
+        In(byte[] data) {
+            this.data = data;
+        }
+
+        int u8() throws IOException {
+            if (pos >= data.length) throw new IOException("unexpected end of columnar file");
+            return data[pos++] & 0xFF;
+        }
+
+        long varint() throws IOException {
+            long v = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = u8();
+                v |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return v;
+            }
+            throw new IOException("malformed varint");
+        }
+
+        long zigzag() throws IOException {
+            long v = varint();
+            return (v >>> 1) ^ -(v & 1);
+        }
+
+        String string() throws IOException {
+            int n = (int) varint();
+            if (n < 0 || pos + n > data.length) throw new IOException("unexpected end of columnar file");
+            String s = new String(data, pos, n, StandardCharsets.UTF_8);
+            pos += n;
+            return s;
+        }
+
+        void expect(int end) throws IOException {
+            if (pos != end) throw new IOException("corrupt column length");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.deefacto.sensorDataGen.output;
+
+// 컬럼 파일 하나(센서 1개, 구간 1개)를 읽은 결과
+// 값은 scale 자리 고정소수점 정수 (예: 온도 2125, scale 2 -> 21.25)
+public class ColumnarSeries {
+    public final String sensorType;
+    public final String sensorId;
+    public final String zoneId;
+    public final String unit;
+    public final int scale;
+    public final String[] columns; // 값 컬럼명 (val 또는 val_0_1um, val_0_3um, val_0_5um)
+    public final long[] epochSeconds; // 행별 timestamp (UTC epoch 초)
+    public final long[][] values; // [컬럼][행]
+
+    ColumnarSeries(String sensorType, String sensorId, String zoneId, String unit, int scale, String[] columns,
+                   long[] epochSeconds, long[][] values) {
+        this.sensorType = sensorType;
+        this.sensorId = sensorId;
+        this.zoneId = zoneId;
+        this.unit = unit;
+        this.scale = scale;
+        this.columns = columns;
+        this.epochSeconds = epochSeconds;
+        this.values = values;
+    }
+
+    public int size() {
+        return epochSeconds.length;
+    }
+
+    // 고정소수점 값을 실수로 (channel 컬럼, row 행)
+    public double value(int channel, int row) {
+        return values[channel][row] / Math.pow(10, scale);
+    }
+}
@@ -0,0 +1,196 @@
+package com.deefacto.sensorDataGen.output;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+// zone 하나의 CSV 출력 파일 묶음 (센서별 direct 버퍼 + FileChannel)
+// - 파일이 1개이고 센서가 여러 개면 (PER_ZONE) 센서 버퍼들을 gathering write로 한 번에 기록
+// - 한 번에 한 스레드에서만 사용 (생성기 zone 스레드 또는 백그라운드 close 스레드)
+final class CsvFileSet {
+    private final List<Path> files;
+    private final ByteBuffer[] buffers; // 센서별 버퍼
+    private final FileChannel[] channels; // 센서별 채널 또는 zone 채널 1개
+    private final long[] written; // 센서별 누적 byte, 헤더 포함 (크기 기준 롤링용)
+    private final LongAdder bytesWritten; // sink 전체에서 파일에 기록한 byte (지표용)
+    private final boolean createNew; // true면 모든 파일을 새로 만들었다 (discard에서 삭제해도 되는 파일)
+
+    // files: 센서별 파일(센서 수와 같은 개수) 또는 zone 파일 1개. 이미 있는 파일은 덮어쓴다
+    CsvFileSet(List<Path> files, int sensorCount, byte[] header, BufferPool pool, LongAdder bytesWritten)
+            throws IOException {
+        this(files, sensorCount, header, pool, bytesWritten, false);
+    }
+
+    // createNew: 이미 있는 파일이 하나라도 있으면 FileAlreadyExistsException (그 전에 만든 파일은 삭제)
+    CsvFileSet(List<Path> files, int sensorCount, byte[] header, BufferPool pool, LongAdder bytesWritten,
+               boolean createNew) throws IOException {
+        if (files.size() != 1 && files.size() != sensorCount) {
+            throw new IllegalArgumentException("file count must be 1 or " + sensorCount + ": " + files.size());
+        }
+        this.files = files;
+        this.buffers = new ByteBuffer[sensorCount];
+        this.channels = new FileChannel[files.size()];
+        this.written = new long[sensorCount];
+        this.bytesWritten = bytesWritten;
+        this.createNew = createNew;
+        for (int i = 0; i < sensorCount; i++) {
+            buffers[i] = pool.acquire();
+        }
+        try {
+            for (int i = 0; i < channels.length; i++) {
+                Files.createDirectories(files.get(i).getParent());
+                channels[i] = createNew
+                        ? FileChannel.open(files.get(i), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)
+                        : FileChannel.open(files.get(i), StandardOpenOption.CREATE,
+                                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                buffers[i].put(header);
+                written[i] = header.length;
+            }
+        } catch (IOException e) {
+            try {
+                close(false, pool);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            if (createNew) deleteCreated(e);
+            throw e;
+        }
+    }
+
+    long written(int sensor) {
+        return written[sensor];
+    }
+
+    void put(int sensor, byte[] src, int len, int flushThreshold) throws IOException {
+        ByteBuffer buf = buffers[sensor];
+        if (buf.remaining() < len) {
+            flush(sensor);
+        }
+        buf.put(src, 0, len);
+        written[sensor] += len;
+        if (buf.position() >= flushThreshold) {
+            flush(sensor);
+        }
+    }
+
+    private boolean gathering() {
+        return channels.length == 1 && buffers.length > 1;
+    }
+
+    private void flush(int sensor) throws IOException {
+        if (gathering()) {
+            flushGathering();
+            return;
+        }
+        ByteBuffer buf = buffers[sensor];
+        buf.flip();
+        while (buf.hasRemaining()) {
+            bytesWritten.add(channels[sensor].write(buf));
+        }
+        buf.clear();
+    }
+
+    // PER_ZONE: 모든 센서 버퍼를 한 번의 gathering write로 기록
+    private void flushGathering() throws IOException {
+        long pending = 0;
+        for (ByteBuffer buf : buffers) {
+            buf.flip();
+            pending += buf.remaining();
+        }
+        while (pending > 0) {
+            long n = channels[0].write(buffers);
+            pending -= n;
+            bytesWritten.add(n);
+        }
+        for (ByteBuffer buf : buffers) buf.clear();
+    }
+
+    void flush() throws IOException {
+        if (gathering()) {
+            flushGathering();
+            return;
+        }
+        for (int i = 0; i < buffers.length; i++) {
+            if (buffers[i].position() > 0) flush(i);
+        }
+    }
+
+    // 남은 버퍼 기록 후 닫기. force면 닫기 전에 fsync. 버퍼는 pool로 반환
+    void close(boolean force, BufferPool pool) throws IOException {
+        IOException failure = null;
+        try {
+            if (channels[channels.length - 1] != null) {
+                flush();
+                if (force) {
+                    for (FileChannel ch : channels) ch.force(true);
+                }
+            }
+        } catch (IOException e) {
+            failure = e;
+        }
+        for (FileChannel ch : channels) {
+            if (ch == null) continue;
+            try {
+                ch.close();
+            } catch (IOException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        for (ByteBuffer buf : buffers) {
+            if (buf != null) pool.release(buf);
+        }
+        if (failure != null) throw failure;
+    }
+
+    // 한 번도 쓰지 않은 (미리 열어둔) 파일 삭제. createNew로 만든 파일만 지운다 (덮어쓴 기존 파일은 남김)
+    void discard(BufferPool pool) throws IOException {
+        for (ByteBuffer buf : buffers) buf.clear();
+        close(false, pool);
+        if (!createNew) return;
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // 생성 실패: 이 묶음이 만든 파일(채널을 연 파일)만 삭제
+    private void deleteCreated(IOException failure) {
+        for (int i = 0; i < channels.length && channels[i] != null; i++) {
+            try {
+                Files.deleteIfExists(files.get(i));
+            } catch (IOException e) {
+                failure.addSuppressed(e);
+            }
+        }
+    }
+
+    // 센서별 direct 버퍼 재사용 풀 (파일을 닫을 때 반환된 버퍼를 다음 파일에서 재사용)
+    static final class BufferPool {
+        private final int bufferSize;
+        private final ConcurrentLinkedQueue<ByteBuffer> free = new ConcurrentLinkedQueue<>();
+
+        BufferPool(int bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+
+        int bufferSize() {
+            return bufferSize;
+        }
+
+        ByteBuffer acquire() {
+            ByteBuffer buf = free.poll();
+            return buf != null ? buf : ByteBuffer.allocateDirect(bufferSize);
+        }
+
+        void release(ByteBuffer buf) {
+            buf.clear();
+            free.offer(buf);
+        }
+    }
+}
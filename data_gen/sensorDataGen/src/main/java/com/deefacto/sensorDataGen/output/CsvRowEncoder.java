@@ -0,0 +1,153 @@
+package com.deefacto.sensorDataGen.output;
+
+import java.nio.charset.StandardCharsets;
+
+// CSV 한 행을 재사용 byte 버퍼에 직접 인코딩 (String.format / DateTimeFormatter 대체)
+// - 행 레이아웃: <timestamp 20byte>,<sensor_type>,<sensor_id>,<unit>,<값...>\n
+// - timestamp는 초가 바뀔 때만 다시 쓰고(날짜 부분은 날이 바뀔 때만), 같은 초의 행들은 그대로 재사용
+// - 센서별 고정 필드(",type,id,unit,")는 fields()로 미리 인코딩해 두고 행마다 복사만 한다
+// - 값은 고정소수점(long + 소수 자릿수)으로 받아 행마다 객체를 만들지 않는다
+// 스레드 안전하지 않으므로 스레드(zone)별로 하나씩 사용
+public final class CsvRowEncoder {
+    public static final int TIMESTAMP_LENGTH = 20; // yyyy-MM-ddTHH:mm:ssZ
+    private static final int MAX_VALUE_LENGTH = 21; // 부호 + long 최대 19자리 + 소수점
+
+    private byte[] buf;
+    private long cachedSecond = Long.MIN_VALUE; // buf에 기록된 timestamp (epoch 초)
+    private long cachedDay = Long.MIN_VALUE; // buf에 기록된 날짜 (epoch 일)
+
+    public CsvRowEncoder() {
+        this.buf = new byte[128];
+    }
+
+    // 센서별 고정 필드 ",sensor_type,sensor_id,unit," (UTF-8)
+    public static byte[] fields(String sensorType, String sensorId, String unit) {
+        return ("," + sensorType + "," + sensorId + "," + unit + ",").getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 헤더 행 (UTF-8)
+    public static byte[] header(String header) {
+        return header.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public byte[] buffer() {
+        return buf;
+    }
+
+    // 값 1개 행: value를 scale 자리 고정소수점으로 기록 (예: 2125, scale 2 -> 21.25). 행 길이를 반환
+    public int encode(long epochSecond, byte[] fields, long value, int scale) {
+        int pos = prefix(epochSecond, fields, 1);
+        pos = putFixed(pos, value, scale);
+        buf[pos++] = '\n';
+        return pos;
+    }
+
+    // 정수 값 3개 행 (미세먼지 0.1/0.3/0.5µm). 행 길이를 반환
+    public int encode(long epochSecond, byte[] fields, long v0, long v1, long v2) {
+        int pos = prefix(epochSecond, fields, 3);
+        pos = putFixed(pos, v0, 0);
+        buf[pos++] = ',';
+        pos = putFixed(pos, v1, 0);
+        buf[pos++] = ',';
+        pos = putFixed(pos, v2, 0);
+        buf[pos++] = '\n';
+        return pos;
+    }
+
+    private int prefix(long epochSecond, byte[] fields, int valueCount) {
+        int need = TIMESTAMP_LENGTH + fields.length + valueCount * (MAX_VALUE_LENGTH + 1);
+        if (buf.length < need) {
+            // 더 긴 센서 ID가 처음 등장할 때만 확장 (기존 timestamp 유지)
+            byte[] grown = new byte[Math.max(need, buf.length * 2)];
+            System.arraycopy(buf, 0, grown, 0, TIMESTAMP_LENGTH);
+            buf = grown;
+        }
+        if (epochSecond != cachedSecond) {
+            putTimestamp(epochSecond);
+        }
+        System.arraycopy(fields, 0, buf, TIMESTAMP_LENGTH, fields.length);
+        return TIMESTAMP_LENGTH + fields.length;
+    }
+
+    private void putTimestamp(long epochSecond) {
+        long day = Math.floorDiv(epochSecond, 86400L);
+        if (day != cachedDay) {
+            putDate(buf, 0, day);
+            buf[10] = 'T';
+            buf[19] = 'Z';
+            cachedDay = day;
+        }
+        putTime(buf, 0, epochSecond);
+        cachedSecond = epochSecond;
+    }
+
+    // dst[off..off+20)에 yyyy-MM-ddTHH:mm:ssZ 기록 (다른 인코더와 공유)
+    static void putTimestamp(byte[] dst, int off, long epochSecond) {
+        putDate(dst, off, Math.floorDiv(epochSecond, 86400L));
+        dst[off + 10] = 'T';
+        putTime(dst, off, epochSecond);
+        dst[off + 19] = 'Z';
+    }
+
+    // HH:mm:ss 부분만 기록
+    private static void putTime(byte[] dst, int off, long epochSecond) {
+        int secondOfDay = (int) Math.floorMod(epochSecond, 86400L);
+        put2(dst, off + 11, secondOfDay / 3600);
+        dst[off + 13] = ':';
+        put2(dst, off + 14, (secondOfDay / 60) % 60);
+        dst[off + 16] = ':';
+        put2(dst, off + 17, secondOfDay % 60);
+    }
+
+    // epoch 일 -> yyyy-MM-dd (proleptic Gregorian, days-from-civil 역변환)
+    private static void putDate(byte[] dst, int off, long epochDay) {
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        long doe = z - era * 146097;
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        int day = (int) (doy - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        int year = (int) (yoe + era * 400 + (month <= 2 ? 1 : 0));
+        put2(dst, off, year / 100);
+        put2(dst, off + 2, year % 100);
+        dst[off + 4] = '-';
+        put2(dst, off + 5, month);
+        dst[off + 7] = '-';
+        put2(dst, off + 8, day);
+    }
+
+    private static void put2(byte[] dst, int pos, int v) {
+        dst[pos] = (byte) ('0' + v / 10);
+        dst[pos + 1] = (byte) ('0' + v % 10);
+    }
+
+    private int putFixed(int pos, long value, int scale) {
+        return putFixed(buf, pos, value, scale);
+    }
+
+    // value를 scale 자리 고정소수점 문자열로 기록하고 끝 위치 반환 (버퍼에 최대 21byte 여유 필요)
+    static int putFixed(byte[] buf, int pos, long value, int scale) {
+        if (value < 0) {
+            buf[pos++] = '-';
+            value = -value;
+        }
+        // 정수부는 최소 1자리, scale > 0이면 소수점 포함
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) digits++;
+        if (digits <= scale) digits = scale + 1;
+        int end = pos + digits + (scale > 0 ? 1 : 0);
+        int p = end;
+        for (int i = 0; i < scale; i++) {
+            buf[--p] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        if (scale > 0) buf[--p] = '.';
+        do {
+            buf[--p] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (p > pos);
+        return end;
+    }
+}
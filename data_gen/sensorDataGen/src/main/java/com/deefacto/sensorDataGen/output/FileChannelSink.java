@@ -0,0 +1,144 @@
+package com.deefacto.sensorDataGen.output;
+
+import com.deefacto.sensorDataGen.Sensor;
+import com.deefacto.sensorDataGen.SensorSpec;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// FileChannel + 센서별 direct ByteBuffer 기반 CSV 출력
+// - 행은 CsvRowEncoder로 인코딩해 센서 버퍼에 모으고, flushThreshold를 넘으면 한 번에 channel.write
+// - PER_SENSOR: 센서별 파일 (<dataDir>/<sensorId>.csv, 기존 생성기와 동일한 파일 구성)
+// - PER_ZONE: zone별 파일 하나에 센서 버퍼들을 gathering write로 한 번에 기록
+//   (파일 안의 행은 센서별 버퍼 단위로 묶이므로 시간순이 아닌 sensor_id 블록 순서가 된다)
+public class FileChannelSink implements SensorSink {
+    public enum Layout { PER_SENSOR, PER_ZONE }
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024; // 센서별 버퍼 크기 (byte)
+
+    private final Path baseDir;
+    private final int flushThreshold;
+    private final Layout layout;
+    private final CsvFileSet.BufferPool pool;
+    private final Set<CsvZoneWriter> openWriters = ConcurrentHashMap.newKeySet();
+    private final LongAdder bytesWritten = new LongAdder();
+
+    public FileChannelSink(Path baseDir) {
+        this(baseDir, DEFAULT_BUFFER_SIZE, DEFAULT_BUFFER_SIZE, Layout.PER_SENSOR);
+    }
+
+    // flushThreshold: 센서 버퍼에 이 크기 이상 쌓이면 파일로 기록 (bufferSize 이하)
+    public FileChannelSink(Path baseDir, int bufferSize, int flushThreshold, Layout layout) {
+        checkBuffer(bufferSize, flushThreshold);
+        this.baseDir = baseDir;
+        this.flushThreshold = flushThreshold;
+        this.layout = layout;
+        this.pool = new CsvFileSet.BufferPool(bufferSize);
+    }
+
+    static void checkBuffer(int bufferSize, int flushThreshold) {
+        if (bufferSize < 256) {
+            throw new IllegalArgumentException("bufferSize must be >= 256: " + bufferSize);
+        }
+        if (flushThreshold < 1 || flushThreshold > bufferSize) {
+            throw new IllegalArgumentException("flushThreshold must be in [1, bufferSize]: " + flushThreshold);
+        }
+    }
+
+    // layout에 따른 zone 출력 파일 경로 (<dir>/<sensorId><suffix>.csv 또는 <dir>/<zoneId><suffix>.csv)
+    static List<Path> files(Layout layout, Path dir, List<Sensor> sensors, String suffix) {
+        if (layout == Layout.PER_ZONE) {
+            return Collections.singletonList(dir.resolve(sensors.get(0).zoneId + suffix + ".csv"));
+        }
+        List<Path> files = new ArrayList<>(sensors.size());
+        for (Sensor sensor : sensors) {
+            files.add(dir.resolve(sensor.sensorId + suffix + ".csv"));
+        }
+        return files;
+    }
+
+    @Override
+    public ZoneWriter openZone(SensorSpec spec, List<Sensor> sensors) throws IOException {
+        List<Path> files = files(layout, baseDir.resolve(spec.dataDir), sensors, "");
+        CsvZoneWriter writer = new CsvZoneWriter(spec, sensors,
+                new CsvFileSet(files, sensors.size(), CsvRowEncoder.header(spec.header()), pool, bytesWritten));
+        openWriters.add(writer);
+        return writer;
+    }
+
+    // 열린 모든 zone 출력의 버퍼를 내보내기 (생성기가 tick 중이 아닐 때만 호출)
+    @Override
+    public void flush() throws IOException {
+        for (CsvZoneWriter writer : openWriters) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public long bytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    // 아직 닫히지 않은 zone 출력을 모두 닫는다
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (CsvZoneWriter writer : openWriters) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        if (failure != null) throw failure;
+    }
+
+    private class CsvZoneWriter implements ZoneWriter {
+        private final CsvRowEncoder encoder = new CsvRowEncoder(); // zone 센서들이 공유 (timestamp 캐시)
+        private final int scale;
+        private final byte[][] fields; // 센서별 고정 CSV 필드
+        private final CsvFileSet files;
+        private boolean closed;
+
+        CsvZoneWriter(SensorSpec spec, List<Sensor> sensors, CsvFileSet files) {
+            this.scale = spec.scale;
+            this.fields = new byte[sensors.size()][];
+            for (int i = 0; i < sensors.size(); i++) {
+                fields[i] = CsvRowEncoder.fields(spec.sensorType, sensors.get(i).sensorId, spec.unit);
+            }
+            this.files = files;
+        }
+
+        @Override
+        public void write(int sensor, long epochSecond, long value) throws IOException {
+            int len = encoder.encode(epochSecond, fields[sensor], value, scale);
+            files.put(sensor, encoder.buffer(), len, flushThreshold);
+        }
+
+        @Override
+        public void write(int sensor, long epochSecond, long v0, long v1, long v2) throws IOException {
+            int len = encoder.encode(epochSecond, fields[sensor], v0, v1, v2);
+            files.put(sensor, encoder.buffer(), len, flushThreshold);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            files.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) return;
+            closed = true;
+            openWriters.remove(this);
+            files.close(false, pool);
+        }
+    }
+}
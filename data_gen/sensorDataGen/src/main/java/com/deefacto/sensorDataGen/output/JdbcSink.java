@@ -0,0 +1,285 @@
+package com.deefacto.sensorDataGen.output;
+
+import com.deefacto.sensorDataGen.Sensor;
+import com.deefacto.sensorDataGen.SensorSpec;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// MySQL 센서 테이블(temp_data, hum_data, wind_data, esd_data, lpm_data)로 기록하는 JDBC 출력
+// - zone마다 batchRows 행을 모아 multi-row INSERT (VALUES (...),(...),...) 한 번 + commit
+// - 가득 찬 배치는 INSERT 스레드(연결 수와 같음)로 넘기고 생성기는 다음 배치를 계속 채운다 (pipelined commit)
+// - 대기 중인 배치 수에 상한이 있어 DB가 느리면 생성기 스레드가 직접 INSERT (backpressure)
+// - 테이블이 없으면 data_generator/models/sensor_schema.py와 같은 스키마로 생성
+public class JdbcSink implements SensorSink {
+    public static final int DEFAULT_BATCH_ROWS = 1000;
+    // MySQL prepared statement 하나의 바인딩 변수 상한, 행 하나는 공통 5열 + 최대 3채널
+    static final int MAX_PLACEHOLDERS = 65_535;
+    static final int MAX_BATCH_ROWS = MAX_PLACEHOLDERS / (5 + 3);
+
+    private final DataSource dataSource;
+    private final HikariDataSource ownedPool; // connect()로 만든 연결 풀 (close 시 함께 닫음)
+    private final int batchRows;
+    private final ThreadPoolExecutor inserters;
+    private final Set<JdbcZoneWriter> openWriters = ConcurrentHashMap.newKeySet();
+    private final Set<String> createdTables = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<IOException> insertFailure = new AtomicReference<>();
+
+    public JdbcSink(DataSource dataSource) {
+        this(dataSource, DEFAULT_BATCH_ROWS, 4);
+    }
+
+    // insertThreads: 동시에 INSERT 하는 연결 수 (연결 풀 크기 이하로)
+    public JdbcSink(DataSource dataSource, int batchRows, int insertThreads) {
+        this(dataSource, null, batchRows, insertThreads);
+    }
+
+    private JdbcSink(DataSource dataSource, HikariDataSource ownedPool, int batchRows, int insertThreads) {
+        if (batchRows < 1 || batchRows > MAX_BATCH_ROWS) {
+            throw new IllegalArgumentException("batchRows must be in [1, " + MAX_BATCH_ROWS + "]: " + batchRows);
+        }
+        if (insertThreads < 1) {
+            throw new IllegalArgumentException("insertThreads must be >= 1: " + insertThreads);
+        }
+        this.dataSource = dataSource;
+        this.ownedPool = ownedPool;
+        this.batchRows = batchRows;
+        AtomicInteger seq = new AtomicInteger();
+        this.inserters = new ThreadPoolExecutor(insertThreads, insertThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(insertThreads * 2), r -> {
+            Thread t = new Thread(r, "jdbc-insert-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    // insertThreads 크기의 연결 풀(HikariCP)을 만들어 연결 (예: jdbc:mysql://127.0.0.1:3306/test_db)
+    public static JdbcSink connect(String url, String user, String password, int batchRows, int insertThreads) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(url);
+        config.setUsername(user);
+        config.setPassword(password);
+        config.setMaximumPoolSize(insertThreads);
+        config.setPoolName("sensor-jdbc");
+        HikariDataSource pool = new HikariDataSource(config);
+        return new JdbcSink(pool, pool, batchRows, insertThreads);
+    }
+
+    @Override
+    public ZoneWriter openZone(SensorSpec spec, List<Sensor> sensors) throws IOException {
+        checkFailure();
+        if (createdTables.add(spec.table)) {
+            createTable(spec);
+        }
+        JdbcZoneWriter writer = new JdbcZoneWriter(spec, sensors);
+        openWriters.add(writer);
+        return writer;
+    }
+
+    private void createTable(SensorSpec spec) throws IOException {
+        StringBuilder ddl = new StringBuilder("CREATE TABLE IF NOT EXISTS ").append(spec.table).append(" (")
+                .append("id INT AUTO_INCREMENT PRIMARY KEY, timestamp DATETIME, sensor_type VARCHAR(20), ")
+                .append("sensor_id VARCHAR(20), zone_id VARCHAR(10), unit VARCHAR(").append(spec.channels() > 1 ? 10 : 5).append(")");
+        for (String column : spec.dbColumns()) {
+            ddl.append(", ").append(column).append(" FLOAT");
+        }
+        ddl.append(")");
+        try (Connection conn = dataSource.getConnection(); Statement st = conn.createStatement()) {
+            st.execute(ddl.toString());
+        } catch (SQLException e) {
+            createdTables.remove(spec.table);
+            throw new IOException("failed to create table " + spec.table, e);
+        }
+    }
+
+    // multi-row INSERT 문 (rows 행)
+    static String insertSql(SensorSpec spec, int rows) {
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(spec.table)
+                .append(" (timestamp, sensor_type, sensor_id, zone_id, unit");
+        for (String column : spec.dbColumns()) {
+            sql.append(", ").append(column);
+        }
+        sql.append(") VALUES ");
+        StringBuilder row = new StringBuilder("(?, ?, ?, ?, ?");
+        for (int i = 0; i < spec.channels(); i++) {
+            row.append(", ?");
+        }
+        row.append(")");
+        for (int r = 0; r < rows; r++) {
+            if (r > 0) sql.append(", ");
+            sql.append(row);
+        }
+        return sql.toString();
+    }
+
+    // 아직 보내지 않은 배치를 모두 INSERT 대기열로 넘긴다
+    @Override
+    public void flush() throws IOException {
+        for (JdbcZoneWriter writer : openWriters) {
+            writer.flush();
+        }
+    }
+
+    // 남은 배치 INSERT가 모두 끝날 때까지 대기
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (JdbcZoneWriter writer : openWriters) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        inserters.shutdown();
+        try {
+            if (!inserters.awaitTermination(10, TimeUnit.MINUTES)) {
+                inserters.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (ownedPool != null) ownedPool.close();
+        try {
+            checkFailure();
+        } catch (IOException e) {
+            if (failure == null) failure = e;
+            else failure.addSuppressed(e);
+        }
+        if (failure != null) throw failure;
+    }
+
+    private void checkFailure() throws IOException {
+        IOException e = insertFailure.get();
+        if (e != null) throw new IOException("background INSERT failed", e);
+    }
+
+    // zone 하나의 배치 (기본형 배열에 모아 두고 INSERT 스레드에서 바인딩)
+    private static final class Batch {
+        final long[] epochSeconds;
+        final int[] sensors;
+        final long[][] values; // [채널][행]
+        int size;
+
+        Batch(int rows, int channels) {
+            epochSeconds = new long[rows];
+            sensors = new int[rows];
+            values = new long[channels][rows];
+        }
+    }
+
+    private class JdbcZoneWriter implements ZoneWriter {
+        private final SensorSpec spec;
+        private final List<Sensor> sensors;
+        private final String fullSql; // batchRows 행 INSERT
+        private final double divisor; // 고정소수점 -> FLOAT
+        private Batch batch;
+        private boolean closed;
+
+        JdbcZoneWriter(SensorSpec spec, List<Sensor> sensors) {
+            this.spec = spec;
+            this.sensors = sensors;
+            this.fullSql = insertSql(spec, batchRows);
+            this.divisor = Math.pow(10, spec.scale);
+            this.batch = new Batch(batchRows, spec.channels());
+        }
+
+        @Override
+        public void write(int sensor, long epochSecond, long value) throws IOException {
+            Batch b = batch;
+            int i = b.size++;
+            b.epochSeconds[i] = epochSecond;
+            b.sensors[i] = sensor;
+            b.values[0][i] = value;
+            if (b.size == batchRows) submit();
+        }
+
+        @Override
+        public void write(int sensor, long epochSecond, long v0, long v1, long v2) throws IOException {
+            Batch b = batch;
+            int i = b.size++;
+            b.epochSeconds[i] = epochSecond;
+            b.sensors[i] = sensor;
+            b.values[0][i] = v0;
+            b.values[1][i] = v1;
+            b.values[2][i] = v2;
+            if (b.size == batchRows) submit();
+        }
+
+        private void submit() throws IOException {
+            checkFailure();
+            Batch full = batch;
+            batch = new Batch(batchRows, spec.channels());
+            inserters.execute(() -> {
+                try {
+                    insert(full);
+                } catch (SQLException | RuntimeException e) {
+                    // RuntimeException(연결 풀 종료 등)도 기록해야 executor가 삼키지 않고 flush/close에서 보고된다
+                    IOException failure = new IOException("INSERT into " + spec.table + " failed", e);
+                    if (!insertFailure.compareAndSet(null, failure)) insertFailure.get().addSuppressed(failure);
+                }
+            });
+        }
+
+        private void insert(Batch b) throws SQLException {
+            String sql = b.size == batchRows ? fullSql : insertSql(spec, b.size);
+            int channels = spec.channels();
+            try (Connection conn = dataSource.getConnection()) {
+                conn.setAutoCommit(false);
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    int p = 1;
+                    for (int r = 0; r < b.size; r++) {
+                        Sensor sensor = sensors.get(b.sensors[r]);
+                        ps.setObject(p++, LocalDateTime.ofEpochSecond(b.epochSeconds[r], 0, ZoneOffset.UTC));
+                        ps.setString(p++, spec.sensorType);
+                        ps.setString(p++, sensor.sensorId);
+                        ps.setString(p++, sensor.zoneId);
+                        ps.setString(p++, spec.unit);
+                        for (int c = 0; c < channels; c++) {
+                            ps.setDouble(p++, b.values[c][r] / divisor);
+                        }
+                    }
+                    ps.executeUpdate();
+                    conn.commit();
+                } catch (SQLException e) {
+                    try {
+                        conn.rollback();
+                    } catch (SQLException rollbackFailure) {
+                        e.addSuppressed(rollbackFailure);
+                    }
+                    throw e;
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (batch.size > 0) submit();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) return;
+            closed = true;
+            openWriters.remove(this);
+            flush();
+        }
+    }
+}
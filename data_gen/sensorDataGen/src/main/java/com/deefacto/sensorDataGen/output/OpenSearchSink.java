@@ -0,0 +1,527 @@
+package com.deefacto.sensorDataGen.output;
+
+import com.deefacto.sensorDataGen.Sensor;
+import com.deefacto.sensorDataGen.SensorSpec;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// OpenSearch _bulk API로 기록하는 출력 (인덱스는 SensorSpec.index: sensor_temp_stream 등)
+// - 문서는 NDJSON(action 줄 + source 줄)으로 zone별 byte 버퍼에 직접 인코딩 (CSV나 JSON 객체를 거치지 않음)
+// - 버퍼의 문서 수가 현재 배치 크기에 도달하면 bulk 요청을 비동기로 보내고, 최대 maxInFlight개 요청을 동시에 진행
+//   (모두 진행 중이면 생성기 스레드가 응답을 기다린다 -> backpressure)
+// - 배치 크기는 응답 지연과 거부(429)에 따라 BulkBatchSizer가 조절
+// - 거부된 요청/문서는 지수 backoff 후 재시도, 그 외 항목 오류(매핑 오류 등)는 건수만 집계한다
+// - 문서 필드는 data_generator와 같다: sensor_id, zone_id, sensor_type, unit, timestamp, val (미세먼지는 val_0_1um 등)
+public class OpenSearchSink implements SensorSink {
+    public static final int DEFAULT_BATCH_DOCS = 1000;
+    public static final int DEFAULT_MAX_IN_FLIGHT = 4;
+    private static final int MIN_BATCH_DOCS = 50;
+    private static final int MAX_BATCH_DOCS = 20_000;
+    private static final long TARGET_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(500); // bulk 응답 목표 지연
+    private static final int MAX_ATTEMPTS = 6;
+    private static final long BACKOFF_MILLIS = 100; // 첫 재시도 대기, 이후 2배씩
+    private static final int INITIAL_BODY_SIZE = 64 * 1024;
+    private static final ObjectMapper JSON = new ObjectMapper(); // bulk 응답은 트리로 만들지 않고 parser로 훑는다
+
+    private final URI bulkUri;
+    private final String authorization; // Basic 인증 헤더 (없으면 null)
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final BulkBatchSizer sizer;
+    private final ExecutorService httpExecutor;
+    private final HttpClient client;
+    private final ScheduledExecutorService retryScheduler;
+    private final Set<BulkZoneWriter> openWriters = ConcurrentHashMap.newKeySet();
+    private final ConcurrentLinkedQueue<byte[]> freeBodies = new ConcurrentLinkedQueue<>(); // 응답이 끝난 요청 본문 재사용
+    private final AtomicReference<IOException> bulkFailure = new AtomicReference<>();
+    private final LongAdder indexedDocs = new LongAdder();
+    private final LongAdder failedDocs = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+
+    public OpenSearchSink(URI endpoint) {
+        this(endpoint, null, null, DEFAULT_BATCH_DOCS, DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    // endpoint: OpenSearch 주소 (예: http://localhost:9200), user가 null이면 인증 없이 요청
+    public OpenSearchSink(URI endpoint, String user, String password, int initialBatchDocs, int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be >= 1: " + maxInFlight);
+        }
+        this.bulkUri = endpoint.resolve("/_bulk");
+        this.authorization = user == null ? null : "Basic " + Base64.getEncoder()
+                .encodeToString((user + ":" + (password == null ? "" : password)).getBytes(StandardCharsets.UTF_8));
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.sizer = new BulkBatchSizer(initialBatchDocs, Math.min(MIN_BATCH_DOCS, initialBatchDocs),
+                Math.max(MAX_BATCH_DOCS, initialBatchDocs), TARGET_LATENCY_NANOS);
+        AtomicInteger seq = new AtomicInteger();
+        this.httpExecutor = Executors.newFixedThreadPool(2, r -> {
+            Thread t = new Thread(r, "opensearch-http-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.client = HttpClient.newBuilder()
+                .executor(httpExecutor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "opensearch-retry");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // 색인 성공 문서 수
+    public long getIndexedDocs() {
+        return indexedDocs.sum();
+    }
+
+    // 전송한 bulk 요청 본문 byte (재시도 포함)
+    @Override
+    public long bytesWritten() {
+        return bytesSent.sum();
+    }
+
+    // 재시도하지 않는 항목 오류 또는 재시도 횟수를 넘긴 문서 수
+    public long getFailedDocs() {
+        return failedDocs.sum();
+    }
+
+    // 거부(429) 응답을 받은 횟수 (요청 전체 또는 일부 항목)
+    public long getRejections() {
+        return rejections.sum();
+    }
+
+    // 현재 bulk 요청당 문서 수
+    public int getBatchDocs() {
+        return sizer.size();
+    }
+
+    @Override
+    public ZoneWriter openZone(SensorSpec spec, List<Sensor> sensors) throws IOException {
+        checkFailure();
+        BulkZoneWriter writer = new BulkZoneWriter(spec, sensors);
+        openWriters.add(writer);
+        return writer;
+    }
+
+    // 버퍼에 남은 문서를 모두 bulk 요청으로 보낸다 (응답은 기다리지 않음)
+    @Override
+    public void flush() throws IOException {
+        for (BulkZoneWriter writer : openWriters) {
+            writer.flush();
+        }
+    }
+
+    // 남은 문서를 보내고 진행 중인 요청(재시도 포함)이 모두 끝날 때까지 대기
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (BulkZoneWriter writer : openWriters) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        try {
+            if (!inFlight.tryAcquire(maxInFlight, 10, TimeUnit.MINUTES)) {
+                recordFailure(new IOException("timed out waiting for in-flight bulk requests"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        retryScheduler.shutdownNow();
+        httpExecutor.shutdownNow();
+        try {
+            checkFailure();
+        } catch (IOException e) {
+            if (failure == null) failure = e;
+            else failure.addSuppressed(e);
+        }
+        if (failure != null) throw failure;
+    }
+
+    private void checkFailure() throws IOException {
+        IOException e = bulkFailure.get();
+        if (e != null) throw new IOException("bulk indexing failed", e);
+    }
+
+    private void recordFailure(IOException e) {
+        if (!bulkFailure.compareAndSet(null, e)) bulkFailure.get().addSuppressed(e);
+    }
+
+    private byte[] newBody() {
+        byte[] body = freeBodies.poll();
+        return body != null ? body : new byte[INITIAL_BODY_SIZE];
+    }
+
+    // bulk 요청 하나 (재시도 시 같은 본문을 다시 보낸다)
+    private static final class Bulk {
+        final byte[] body;
+        final int length;
+        final int docs;
+        final int[] offsets; // 문서(action 줄) 시작 위치, 일부 문서만 재시도할 때 사용
+        int attempt;
+        long sentAt;
+
+        Bulk(byte[] body, int length, int docs, int[] offsets) {
+            this.body = body;
+            this.length = length;
+            this.docs = docs;
+            this.offsets = offsets;
+        }
+
+        int docEnd(int i) {
+            return i + 1 < docs ? offsets[i + 1] : length;
+        }
+    }
+
+    private void send(Bulk bulk) {
+        bulk.sentAt = System.nanoTime();
+        HttpRequest.Builder request = HttpRequest.newBuilder(bulkUri)
+                .header("Content-Type", "application/x-ndjson")
+                .timeout(Duration.ofMinutes(1))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(bulk.body, 0, bulk.length));
+        if (authorization != null) request.header("Authorization", authorization);
+        bytesSent.add(bulk.length);
+        client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> onResponse(bulk, response, error));
+    }
+
+    private void onResponse(Bulk bulk, HttpResponse<String> response, Throwable error) {
+        try {
+            long latency = System.nanoTime() - bulk.sentAt;
+            if (error != null) {
+                retryOrFail(bulk, new IOException("bulk request failed", error));
+                return;
+            }
+            int status = response.statusCode();
+            if (status == 429) {
+                rejections.increment();
+                sizer.onRejected();
+                retryOrFail(bulk, new IOException("bulk request rejected: HTTP 429"));
+                return;
+            }
+            if (status >= 500) {
+                retryOrFail(bulk, new IOException("bulk request failed: HTTP " + status));
+                return;
+            }
+            if (status >= 300) {
+                failedDocs.add(bulk.docs);
+                recordFailure(new IOException("bulk request failed: HTTP " + status + " " + abbreviate(response.body())));
+                complete(bulk);
+                return;
+            }
+            String body = response.body();
+            int[] statuses;
+            try {
+                statuses = itemErrors(body, bulk.docs);
+            } catch (IOException e) {
+                failedDocs.add(bulk.docs);
+                recordFailure(new IOException("unexpected bulk response: " + abbreviate(body), e));
+                complete(bulk);
+                return;
+            }
+            if (statuses == null) {
+                sizer.onSuccess(latency);
+                indexedDocs.add(bulk.docs);
+                complete(bulk);
+                return;
+            }
+            onItemErrors(bulk, statuses, latency);
+        } catch (RuntimeException e) {
+            recordFailure(new IOException("bulk response handling failed", e));
+            complete(bulk);
+        }
+    }
+
+    // 일부 항목 실패: 429 항목만 모아 재시도, 나머지 실패 항목은 집계만
+    private void onItemErrors(Bulk bulk, int[] statuses, long latency) {
+        int rejected = 0;
+        int retryLength = 0;
+        for (int i = 0; i < bulk.docs; i++) {
+            int status = statuses[i];
+            if (status == 429) {
+                rejected++;
+                retryLength += bulk.docEnd(i) - bulk.offsets[i];
+            } else if (status >= 300) {
+                failedDocs.increment();
+            } else {
+                indexedDocs.increment();
+            }
+        }
+        if (rejected == 0) {
+            sizer.onSuccess(latency);
+            complete(bulk);
+            return;
+        }
+        rejections.increment();
+        sizer.onRejected();
+        byte[] retryBody = new byte[retryLength];
+        int[] retryOffsets = new int[rejected];
+        int pos = 0;
+        int n = 0;
+        for (int i = 0; i < bulk.docs; i++) {
+            if (statuses[i] != 429) continue;
+            int start = bulk.offsets[i];
+            int len = bulk.docEnd(i) - start;
+            retryOffsets[n++] = pos;
+            System.arraycopy(bulk.body, start, retryBody, pos, len);
+            pos += len;
+        }
+        freeBodies.offer(bulk.body);
+        Bulk retry = new Bulk(retryBody, retryLength, rejected, retryOffsets);
+        retry.attempt = bulk.attempt;
+        retryOrFail(retry, new IOException(rejected + " bulk items rejected: HTTP 429"));
+    }
+
+    private void retryOrFail(Bulk bulk, IOException cause) {
+        if (++bulk.attempt >= MAX_ATTEMPTS) {
+            failedDocs.add(bulk.docs);
+            recordFailure(cause);
+            complete(bulk);
+            return;
+        }
+        long delay = BACKOFF_MILLIS << (bulk.attempt - 1);
+        try {
+            retryScheduler.schedule(() -> send(bulk), delay, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            // 종료 중 (close 대기 시간 초과 등)
+            failedDocs.add(bulk.docs);
+            recordFailure(cause);
+            complete(bulk);
+        }
+    }
+
+    private void complete(Bulk bulk) {
+        freeBodies.offer(bulk.body);
+        inFlight.release();
+    }
+
+    // bulk 응답에서 실패 항목이 없으면(errors: false) null, 있으면 items[*].<action>.status (요청 문서 순서대로)
+    // 필드 순서나 공백에 상관없이 읽고, 항목의 다른 필드(error.reason 등)는 건너뛴다
+    // 형식이 다르거나 항목 수가 docs와 다르면 IOException
+    static int[] itemErrors(String body, int docs) throws IOException {
+        try (JsonParser parser = JSON.createParser(body)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            Boolean errors = null;
+            int[] statuses = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("errors".equals(field)) {
+                    if (value != JsonToken.VALUE_TRUE && value != JsonToken.VALUE_FALSE) {
+                        throw new IOException("bulk response errors is not a boolean: " + value);
+                    }
+                    errors = value == JsonToken.VALUE_TRUE;
+                    if (!errors) return null;
+                    if (statuses != null) return statuses;
+                } else if ("items".equals(field)) {
+                    statuses = itemStatuses(parser, value, docs);
+                    if (errors != null) return statuses;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            throw new IOException(errors == null ? "bulk response has no errors field" : "bulk response has no items");
+        }
+    }
+
+    // items 배열: [{"<action>": {..., "status": 201, ...}}, ...]
+    private static int[] itemStatuses(JsonParser parser, JsonToken token, int docs) throws IOException {
+        expect(parser, token, JsonToken.START_ARRAY);
+        int[] statuses = new int[docs];
+        int n = 0;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expect(parser, token, JsonToken.START_OBJECT);
+            expect(parser, parser.nextToken(), JsonToken.FIELD_NAME);
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            int status = -1;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("status".equals(field) && value == JsonToken.VALUE_NUMBER_INT) {
+                    status = parser.getIntValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            expect(parser, parser.nextToken(), JsonToken.END_OBJECT);
+            if (status < 0) throw new IOException("bulk item " + n + " has no status");
+            if (n == docs) throw new IOException("bulk response has more than " + docs + " items");
+            statuses[n++] = status;
+        }
+        if (n != docs) throw new IOException("bulk response has " + n + " items for " + docs + " documents");
+        return statuses;
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("expected " + expected + " but was " + actual + " at " + parser.currentLocation());
+        }
+    }
+
+    private static String abbreviate(String s) {
+        return s.length() <= 200 ? s : s.substring(0, 200) + "...";
+    }
+
+    // JSON 문자열 리터럴 (따옴표 포함)
+    static String json(String s) {
+        StringBuilder sb = new StringBuilder(s.length() + 2).append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    private class BulkZoneWriter implements ZoneWriter {
+        private final byte[][] heads; // 센서별 action 줄 + source 줄의 "timestamp":" 까지
+        private final byte[][] keys; // 값 필드 키 (첫 키는 timestamp 닫는 따옴표 포함: ","val":)
+        private final int scale;
+        private final int maxDocLength;
+        private final byte[] timestamp = new byte[CsvRowEncoder.TIMESTAMP_LENGTH];
+        private long cachedSecond = Long.MIN_VALUE;
+        private byte[] body = newBody();
+        private int length;
+        private int docs;
+        private int[] offsets = new int[256];
+        private boolean closed;
+
+        BulkZoneWriter(SensorSpec spec, List<Sensor> sensors) {
+            String action = "{\"index\":{\"_index\":" + json(spec.index) + "}}\n";
+            this.heads = new byte[sensors.size()][];
+            int maxHead = 0;
+            for (int i = 0; i < sensors.size(); i++) {
+                Sensor sensor = sensors.get(i);
+                heads[i] = (action + "{\"sensor_id\":" + json(sensor.sensorId) + ",\"zone_id\":" + json(sensor.zoneId)
+                        + ",\"sensor_type\":" + json(spec.sensorType) + ",\"unit\":" + json(spec.unit)
+                        + ",\"timestamp\":\"").getBytes(StandardCharsets.UTF_8);
+                maxHead = Math.max(maxHead, heads[i].length);
+            }
+            String[] columns = spec.dbColumns();
+            this.keys = new byte[columns.length][];
+            int keyLength = 0;
+            for (int c = 0; c < columns.length; c++) {
+                keys[c] = ((c == 0 ? "\"," : ",") + json(columns[c]) + ":").getBytes(StandardCharsets.UTF_8);
+                keyLength += keys[c].length + 21; // 값 최대 21byte
+            }
+            this.scale = spec.scale;
+            this.maxDocLength = maxHead + CsvRowEncoder.TIMESTAMP_LENGTH + keyLength + 2;
+        }
+
+        @Override
+        public void write(int sensor, long epochSecond, long value) throws IOException {
+            int pos = begin(sensor, epochSecond);
+            pos = putKey(pos, 0);
+            pos = CsvRowEncoder.putFixed(body, pos, value, scale);
+            end(pos);
+        }
+
+        @Override
+        public void write(int sensor, long epochSecond, long v0, long v1, long v2) throws IOException {
+            int pos = begin(sensor, epochSecond);
+            pos = putKey(pos, 0);
+            pos = CsvRowEncoder.putFixed(body, pos, v0, scale);
+            pos = putKey(pos, 1);
+            pos = CsvRowEncoder.putFixed(body, pos, v1, scale);
+            pos = putKey(pos, 2);
+            pos = CsvRowEncoder.putFixed(body, pos, v2, scale);
+            end(pos);
+        }
+
+        private int begin(int sensor, long epochSecond) {
+            if (body.length - length < maxDocLength) {
+                body = Arrays.copyOf(body, Math.max(body.length * 2, length + maxDocLength));
+            }
+            if (docs == offsets.length) {
+                offsets = Arrays.copyOf(offsets, docs * 2);
+            }
+            if (epochSecond != cachedSecond) {
+                CsvRowEncoder.putTimestamp(timestamp, 0, epochSecond);
+                cachedSecond = epochSecond;
+            }
+            offsets[docs] = length;
+            byte[] head = heads[sensor];
+            System.arraycopy(head, 0, body, length, head.length);
+            int pos = length + head.length;
+            System.arraycopy(timestamp, 0, body, pos, timestamp.length);
+            return pos + timestamp.length;
+        }
+
+        private int putKey(int pos, int channel) {
+            byte[] key = keys[channel];
+            System.arraycopy(key, 0, body, pos, key.length);
+            return pos + key.length;
+        }
+
+        private void end(int pos) throws IOException {
+            body[pos++] = '}';
+            body[pos++] = '\n';
+            length = pos;
+            if (++docs >= sizer.size()) submit();
+        }
+
+        private void submit() throws IOException {
+            checkFailure();
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("interrupted while waiting for in-flight bulk requests");
+            }
+            Bulk bulk = new Bulk(body, length, docs, offsets);
+            body = newBody();
+            offsets = new int[Math.max(256, docs)];
+            length = 0;
+            docs = 0;
+            send(bulk);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (docs > 0) submit();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) return;
+            closed = true;
+            openWriters.remove(this);
+            flush();
+        }
+    }
+}
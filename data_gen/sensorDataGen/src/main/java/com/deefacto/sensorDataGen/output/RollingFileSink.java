@@ -0,0 +1,355 @@
+package com.deefacto.sensorDataGen.output;
+
+import com.deefacto.sensorDataGen.Sensor;
+import com.deefacto.sensorDataGen.SensorSpec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// 시간 구간(기본 1시간) 또는 파일 크기 기준으로 파일을 바꿔 쓰는 CSV 출력 (모든 센서 타입 공용)
+// - 파일 경로: <dataDir>/<yyyy-MM-dd>/<sensorId>_HH:mm~HH:mm[_순번].csv (PER_ZONE이면 sensorId 대신 zoneId)
+// - 현재 구간에 들어서면 다음 구간 파일을 백그라운드 I/O 스레드에서 미리 열어 두고, 구간 경계에서는 교체만 한다
+// - 끝난 구간 파일의 남은 버퍼 기록, fsync, close는 백그라운드 I/O 스레드에서 처리한다
+// - 크기 기준 롤링은 센서 파일 하나가 maxFileBytes를 넘으면 다음 초부터 zone 파일 전체를 다음 순번으로 바꾼다
+// - 파일은 항상 새로 만든다: 같은 이름의 파일이 이미 있으면 (이전 실행의 출력 등) 덮어쓰지 않고 다음 순번으로 연다
+public class RollingFileSink implements SensorSink {
+    public static final int DEFAULT_WINDOW_SECONDS = 3600; // 1시간 단위 파일
+    private static final int IO_THREADS = 2;
+    private static final int IO_QUEUE_CAPACITY = 256; // 대기 중인 파일 열기/닫기 작업 수 상한
+
+    private final Path baseDir;
+    private final int windowSeconds;
+    private final long maxFileBytes; // 0이면 크기 기준 롤링 안 함
+    private final int flushThreshold;
+    private final FileChannelSink.Layout layout;
+    private final CsvFileSet.BufferPool pool;
+    private final ExecutorService io;
+    private final Set<RollingZoneWriter> openWriters = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<IOException> ioFailure = new AtomicReference<>();
+    private final LongAdder bytesWritten = new LongAdder();
+
+    public RollingFileSink(Path baseDir) {
+        this(baseDir, DEFAULT_WINDOW_SECONDS, 0, FileChannelSink.DEFAULT_BUFFER_SIZE,
+                FileChannelSink.DEFAULT_BUFFER_SIZE, FileChannelSink.Layout.PER_SENSOR);
+    }
+
+    // windowSeconds: 60의 배수이면서 하루(86400초)를 나누어 떨어지게 하는 값 (파일 구간이 자정 기준으로 정렬됨)
+    public RollingFileSink(Path baseDir, int windowSeconds, long maxFileBytes, int bufferSize, int flushThreshold,
+                           FileChannelSink.Layout layout) {
+        checkWindow(windowSeconds);
+        if (maxFileBytes < 0) {
+            throw new IllegalArgumentException("maxFileBytes must be >= 0: " + maxFileBytes);
+        }
+        FileChannelSink.checkBuffer(bufferSize, flushThreshold);
+        this.baseDir = baseDir;
+        this.windowSeconds = windowSeconds;
+        this.maxFileBytes = maxFileBytes;
+        this.flushThreshold = flushThreshold;
+        this.layout = layout;
+        this.pool = new CsvFileSet.BufferPool(bufferSize);
+        AtomicInteger seq = new AtomicInteger();
+        // 대기열이 가득 차면 생성기 스레드가 직접 실행 -> 디스크가 느리면 생성 속도가 따라서 느려진다 (backpressure)
+        this.io = new ThreadPoolExecutor(IO_THREADS, IO_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(IO_QUEUE_CAPACITY), r -> {
+            Thread t = new Thread(r, "rolling-io-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    public ZoneWriter openZone(SensorSpec spec, List<Sensor> sensors) throws IOException {
+        checkFailure();
+        RollingZoneWriter writer = new RollingZoneWriter(spec, sensors);
+        openWriters.add(writer);
+        return writer;
+    }
+
+    // 첫 구간 파일을 I/O 스레드에서 병렬로 미리 열고 완료될 때까지 대기
+    @Override
+    public void prepare(long epochSecond) throws IOException {
+        checkFailure();
+        List<CompletableFuture<CsvFileSet>> pending = new ArrayList<>();
+        for (RollingZoneWriter writer : openWriters) {
+            CompletableFuture<CsvFileSet> f = writer.prepareFirst(epochSecond);
+            if (f != null) pending.add(f);
+        }
+        for (CompletableFuture<CsvFileSet> f : pending) {
+            try {
+                f.join();
+            } catch (CompletionException e) {
+                recordFailure(e);
+            }
+        }
+        checkFailure();
+    }
+
+    // 열린 모든 zone 출력의 버퍼를 내보내기 (생성기가 tick 중이 아닐 때만 호출)
+    @Override
+    public void flush() throws IOException {
+        for (RollingZoneWriter writer : openWriters) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public long bytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (RollingZoneWriter writer : openWriters) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        io.shutdown();
+        try {
+            if (!io.awaitTermination(1, TimeUnit.MINUTES)) {
+                io.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            checkFailure();
+        } catch (IOException e) {
+            if (failure == null) failure = e;
+            else failure.addSuppressed(e);
+        }
+        if (failure != null) throw failure;
+    }
+
+    private void checkFailure() throws IOException {
+        IOException e = ioFailure.get();
+        if (e != null) throw new IOException("background file I/O failed", e);
+    }
+
+    private void recordFailure(Throwable t) {
+        Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+        if (cause instanceof UncheckedIOException) cause = cause.getCause();
+        IOException e = cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        if (!ioFailure.compareAndSet(null, e)) ioFailure.get().addSuppressed(e);
+    }
+
+    // 구간 시작 시각(epoch 초)과 순번에 해당하는 파일 경로
+    private List<Path> files(SensorSpec spec, List<Sensor> sensors, long windowStart, int seq) {
+        String name = windowName(windowStart, windowSeconds) + (seq > 0 ? "_" + seq : "");
+        return FileChannelSink.files(layout, dayDir(baseDir.resolve(spec.dataDir), windowStart), sensors, name);
+    }
+
+    // 구간 파일명 접미사 (_HH:mm~HH:mm, 자정으로 끝나는 구간은 ~24:00)
+    static String windowName(long windowStart, int windowSeconds) {
+        int startMinute = (int) (Math.floorMod(windowStart, 86400L) / 60);
+        int endMinute = startMinute + windowSeconds / 60;
+        return String.format("_%02d:%02d~%02d:%02d", startMinute / 60, startMinute % 60, endMinute / 60, endMinute % 60);
+    }
+
+    // 구간이 속한 날짜 디렉토리 (<dir>/yyyy-MM-dd)
+    static Path dayDir(Path dir, long windowStart) {
+        return dir.resolve(LocalDate.ofEpochDay(Math.floorDiv(windowStart, 86400L)).toString());
+    }
+
+    static void checkWindow(int windowSeconds) {
+        if (windowSeconds < 60 || windowSeconds % 60 != 0 || 86400 % windowSeconds != 0) {
+            throw new IllegalArgumentException("windowSeconds must be a multiple of 60 dividing 86400: " + windowSeconds);
+        }
+    }
+
+    private class RollingZoneWriter implements ZoneWriter {
+        private final CsvRowEncoder encoder = new CsvRowEncoder(); // zone 센서들이 공유 (timestamp 캐시)
+        private final SensorSpec spec;
+        private final List<Sensor> sensors;
+        private final byte[] header;
+        private final byte[][] fields; // 센서별 고정 CSV 필드
+        private CsvFileSet current; // 현재 구간 파일
+        private long windowStart = Long.MIN_VALUE;
+        private long windowEnd = Long.MIN_VALUE; // 첫 write에서 구간을 연다
+        private int seq; // 같은 구간 내 크기 기준 롤링 순번 (이미 있는 이름은 open에서 건너뛰므로 실제 순번은 이보다 클 수 있다)
+        private CompletableFuture<CsvFileSet> next; // 미리 열어 둔 다음 구간 파일
+        private long nextWindowStart;
+        private long lastSecond = Long.MIN_VALUE;
+        private boolean sizeExceeded;
+        private boolean closed;
+
+        RollingZoneWriter(SensorSpec spec, List<Sensor> sensors) {
+            this.spec = spec;
+            this.sensors = sensors;
+            this.header = CsvRowEncoder.header(spec.header());
+            this.fields = new byte[sensors.size()][];
+            for (int i = 0; i < sensors.size(); i++) {
+                fields[i] = CsvRowEncoder.fields(spec.sensorType, sensors.get(i).sensorId, spec.unit);
+            }
+        }
+
+        @Override
+        public void write(int sensor, long epochSecond, long value) throws IOException {
+            if (epochSecond >= windowEnd || epochSecond < windowStart || (sizeExceeded && epochSecond != lastSecond)) {
+                roll(epochSecond);
+            }
+            lastSecond = epochSecond;
+            int len = encoder.encode(epochSecond, fields[sensor], value, spec.scale);
+            put(sensor, len);
+        }
+
+        @Override
+        public void write(int sensor, long epochSecond, long v0, long v1, long v2) throws IOException {
+            if (epochSecond >= windowEnd || epochSecond < windowStart || (sizeExceeded && epochSecond != lastSecond)) {
+                roll(epochSecond);
+            }
+            lastSecond = epochSecond;
+            int len = encoder.encode(epochSecond, fields[sensor], v0, v1, v2);
+            put(sensor, len);
+        }
+
+        private void put(int sensor, int len) throws IOException {
+            current.put(sensor, encoder.buffer(), len, flushThreshold);
+            if (maxFileBytes > 0 && current.written(sensor) >= maxFileBytes) {
+                sizeExceeded = true;
+            }
+        }
+
+        private void roll(long epochSecond) throws IOException {
+            checkFailure();
+            long start = epochSecond - Math.floorMod(epochSecond, (long) windowSeconds);
+            CsvFileSet old = current;
+            if (start == windowStart) {
+                // 크기 기준 롤링: 같은 구간의 다음 순번 파일
+                current = open(start, ++seq);
+            } else {
+                seq = 0;
+                current = takePrepared(start);
+                windowStart = start;
+                windowEnd = start + windowSeconds;
+                prepare(windowEnd);
+            }
+            sizeExceeded = false;
+            if (old != null) closeInBackground(old);
+        }
+
+        // from 순번부터 아직 없는 이름으로 연다 (I/O 스레드에서도 호출되므로 writer 상태는 바꾸지 않는다)
+        private CsvFileSet open(long start, int from) throws IOException {
+            for (int s = from; ; s++) {
+                try {
+                    return new CsvFileSet(files(spec, sensors, start, s), sensors.size(), header, pool, bytesWritten,
+                            true);
+                } catch (FileAlreadyExistsException e) {
+                    // 이미 있는 파일: 다음 순번
+                }
+            }
+        }
+
+        // 미리 열어 둔 파일이 요청 구간과 같으면 사용, 아니면 (시간이 건너뛴 경우) 버리고 바로 연다
+        private CsvFileSet takePrepared(long start) throws IOException {
+            CompletableFuture<CsvFileSet> prepared = next;
+            next = null;
+            if (prepared != null) {
+                if (nextWindowStart == start) {
+                    try {
+                        return prepared.join();
+                    } catch (CompletionException e) {
+                        recordFailure(e);
+                        checkFailure();
+                    }
+                }
+                discardInBackground(prepared);
+            }
+            return open(start, 0);
+        }
+
+        CompletableFuture<CsvFileSet> prepareFirst(long epochSecond) {
+            if (current != null || next != null) return null;
+            prepare(epochSecond - Math.floorMod(epochSecond, (long) windowSeconds));
+            return next;
+        }
+
+        private void prepare(long start) {
+            nextWindowStart = start;
+            next = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return open(start, 0);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, io);
+        }
+
+        private void closeInBackground(CsvFileSet files) {
+            io.execute(() -> {
+                try {
+                    files.close(true, pool);
+                } catch (IOException e) {
+                    recordFailure(e);
+                }
+            });
+        }
+
+        private void discardInBackground(CompletableFuture<CsvFileSet> prepared) {
+            prepared.thenAcceptAsync(files -> {
+                try {
+                    files.discard(pool);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, io).exceptionally(t -> {
+                recordFailure(t);
+                return null;
+            });
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (current != null) current.flush();
+        }
+
+        // 마지막 구간 파일은 바로 닫고, 쓰이지 않은 다음 구간 파일은 삭제
+        @Override
+        public void close() throws IOException {
+            if (closed) return;
+            closed = true;
+            openWriters.remove(this);
+            IOException failure = null;
+            if (current != null) {
+                try {
+                    current.close(true, pool);
+                } catch (IOException e) {
+                    failure = e;
+                }
+                current = null;
+            }
+            if (next != null) {
+                try {
+                    next.join().discard(pool);
+                } catch (CompletionException e) {
+                    recordFailure(e);
+                } catch (IOException e) {
+                    if (failure == null) failure = e;
+                    else failure.addSuppressed(e);
+                }
+                next = null;
+            }
+            if (failure != null) throw failure;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.deefacto.sensorDataGen.output;
+
+import com.deefacto.sensorDataGen.Sensor;
+import com.deefacto.sensorDataGen.SensorSpec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+// 생성된 센서 값을 받는 출력 대상 (CSV 파일, DB 등)
+// - 생성기는 zone마다 openZone으로 ZoneWriter를 하나씩 열고, 값은 고정소수점 정수로 전달한다
+// - 서로 다른 zone의 ZoneWriter는 동시에 사용될 수 있으므로 구현체는 zone 간 상태를 공유하지 않아야 한다
+public interface SensorSink extends Closeable {
+
+    // zone 하나의 센서 출력 열기
+    ZoneWriter openZone(SensorSpec spec, List<Sensor> sensors) throws IOException;
+
+    // 열린 ZoneWriter들이 epochSecond부터 기록할 예정임을 미리 알림 (출력 파일을 미리 열어 첫 기록 지연을 줄인다)
+    // 생성기 open 이후, 첫 tick 전에 호출
+    default void prepare(long epochSecond) throws IOException {
+    }
+
+    // 열린 모든 ZoneWriter의 버퍼를 내보내기 (실시간 모드에서 tick마다 호출)
+    // 생성기가 tick 중이 아닐 때만 호출해야 한다
+    default void flush() throws IOException {
+    }
+
+    // 지금까지 출력 대상(파일, 네트워크)에 기록한 byte 수, 세지 않는 출력이면 -1 (지표용, 아무 스레드에서나 호출)
+    default long bytesWritten() {
+        return -1;
+    }
+}
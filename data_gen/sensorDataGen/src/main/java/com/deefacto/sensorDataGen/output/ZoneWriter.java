@@ -0,0 +1,18 @@
+package com.deefacto.sensorDataGen.output;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// zone 하나에 속한 센서들의 출력 (한 번에 한 스레드에서만 사용)
+// sensor: openZone에 전달한 센서 목록의 인덱스, 값은 SensorSpec.scale 자리 고정소수점 정수
+public interface ZoneWriter extends Closeable {
+
+    // 값 1개 센서 (온도, 습도, 정전기, 풍향)
+    void write(int sensor, long epochSecond, long value) throws IOException;
+
+    // 값 3개 센서 (미세먼지 0.1/0.3/0.5µm)
+    void write(int sensor, long epochSecond, long v0, long v1, long v2) throws IOException;
+
+    // 버퍼에 남은 데이터를 출력 대상으로 내보내기
+    void flush() throws IOException;
+}
@@ -0,0 +1,199 @@
+package com.deefacto.sensorDataGen;
+
+import com.deefacto.sensorDataGen.esd.EsdCsvGenerator;
+import com.deefacto.sensorDataGen.temperature.TempCsvGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+class AnomalySensorGeneratorTests {
+
+	private static final LocalDateTime START = LocalDateTime.of(2025, 7, 15, 9, 32, 0);
+
+	// 첫 채널 값을 기록 순서대로 모으는 sink
+	static class RecordingSink extends NullSink {
+		final List<Long> values = new ArrayList<>();
+
+		@Override
+		protected void record(long value) {
+			values.add(value);
+		}
+	}
+
+	private static RecordingSink run(SensorGenerator generator, int seconds) throws IOException {
+		RecordingSink sink = new RecordingSink();
+		generator.open(START, sink);
+		long start = START.toEpochSecond(ZoneOffset.UTC);
+		for (int i = 0; i < seconds; i++) {
+			generator.tick(start + i);
+		}
+		generator.close();
+		return sink;
+	}
+
+	@Test
+	void sameSeedGivesSameSeries() throws Exception {
+		List<Sensor> sensors = Sensor.grid("temperature", "TEMP", 20, 3);
+		List<Long> a = run(new TempCsvGenerator(sensors, 7), 3600).values;
+		List<Long> b = run(new TempCsvGenerator(sensors, 7), 3600).values;
+		assertThat(a).hasSize(20 * 3 * 3600).isEqualTo(b);
+		// 0.25도 단위 고정소수점
+		assertThat(a).allMatch(v -> v % 25 == 0);
+	}
+
+	@Test
+	void zoneSeriesDoNotDependOnOtherZones() throws Exception {
+		// 같은 seed, zone 3개 vs 5개: 앞 3개 zone의 값은 같아야 한다
+		TempCsvGenerator small = new TempCsvGenerator(Sensor.grid("temperature", "TEMP", 3, 2), RandomSource.of(9));
+		TempCsvGenerator large = new TempCsvGenerator(Sensor.grid("temperature", "TEMP", 5, 2), RandomSource.of(9));
+		RecordingSink a = new RecordingSink();
+		RecordingSink b = new RecordingSink();
+		small.open(START, a);
+		large.open(START, b);
+		long start = START.toEpochSecond(ZoneOffset.UTC);
+		for (int i = 0; i < 600; i++) {
+			for (int z = 0; z < 3; z++) {
+				small.tickZone(z, start + i);
+				large.tickZone(z, start + i);
+			}
+		}
+		assertThat(a.values).hasSize(3 * 2 * 600).isEqualTo(b.values);
+	}
+
+	@Test
+	void esdSpikesStayAboveThresholdOnlyWhileAnomalous() throws Exception {
+		List<Long> values = run(new EsdCsvGenerator(Sensor.grid("esd", "ESD", 50, 2), 3), 3600).values;
+		// 50 zone * 3600초 * 0.1% -> 스파이크가 여러 번 발생
+		assertThat(values).anyMatch(v -> v >= 100);
+		assertThat(values).allMatch(v -> v >= 0 && v < 200);
+		long high = values.stream().filter(v -> v >= 100).count();
+		assertThat(high).isLessThan(values.size() / 100);
+	}
+
+	@Test
+	void newSensorTypeNeedsOnlySpecAndProfile() throws Exception {
+		SensorSpec co2 = new SensorSpec("co2", "ppm", 0, "co2", "co2_data", "sensor_co2_stream", "val");
+		AnomalyProfile profile = AnomalyProfile.builder()
+				.integer()
+				.walk(0.5)
+				.spike(0.01, 5, 10, SpikeCurve.EXPONENTIAL)
+				.recover(0.9)
+				.clampReadings()
+				.channel(AnomalyProfile.channel(450, 400, 800)
+						.initial(20)
+						.walkStep(-10, 10)
+						.spikeHigh(1200, 1500)
+						.recoverStep(20, 50, 0, 10)
+						.noise(-5, 5))
+				.build();
+		AnomalySensorGenerator generator = new AnomalySensorGenerator(co2, profile, Sensor.grid("co2", "CO2", 4, 2), 11);
+		List<Long> values = run(generator, 3600).values;
+		assertThat(generator.sensorType()).isEqualTo("co2");
+		assertThat(values).hasSize(4 * 2 * 3600);
+		assertThat(values).allMatch(v -> v >= 400 && v < 1600);
+		assertThat(values).anyMatch(v -> v > 1100);
+	}
+
+	@Test
+	void skipAheadKeepsSpikeRate() throws Exception {
+		AnomalyProfile profile = AnomalyProfile.builder()
+				.integer()
+				.spike(0.01, 5, 0, SpikeCurve.LINEAR)
+				.channel(AnomalyProfile.channel(0, -10, 10)
+						.spikeHigh(20, 30)
+						.recoverStep(30, 30, 0, 0))
+				.build();
+		SensorSpec spec = new SensorSpec("level", "m", 0, "level", "level_data", "sensor_level_stream", "val");
+		List<Sensor> sensors = Sensor.grid("level", "LV", 100, 1);
+		int perTick = countSpikes(new AnomalySensorGenerator(spec, profile, sensors, 5), 20000);
+		int skipAhead = countSpikes(new AnomalySensorGenerator(spec, profile, sensors, 5).skipAhead(true), 20000);
+		// 100 zone * 20000초 * NORMAL 비율(약 1 - 6/106) * 1% -> 약 18900회
+		assertThat(perTick).isBetween(18000, 19800);
+		assertThat(skipAhead).isCloseTo(perTick, withinPercentage(3));
+	}
+
+	// NORMAL -> SPIKING 전환 횟수
+	private static int countSpikes(AnomalySensorGenerator generator, int seconds) throws IOException {
+		generator.open(START, new RecordingSink());
+		long start = START.toEpochSecond(ZoneOffset.UTC);
+		int spikes = 0;
+		for (int i = 0; i < seconds; i++) {
+			for (int z = 0; z < generator.zoneCount(); z++) {
+				ZoneMode before = generator.zoneMode(z);
+				generator.tickZone(z, start + i);
+				if (before == ZoneMode.NORMAL && generator.zoneMode(z) == ZoneMode.SPIKING) spikes++;
+			}
+		}
+		generator.close();
+		return spikes;
+	}
+
+	@Test
+	void triggeredSpikeStartsOnNextNormalStep() throws Exception {
+		// 스파이크 확률 0: 요청한 zone만 스파이크
+		AnomalyProfile profile = AnomalyProfile.builder()
+				.integer()
+				.spike(0, 3, 2, SpikeCurve.LINEAR)
+				.channel(AnomalyProfile.channel(0, -10, 10)
+						.spikeHigh(30, 30)
+						.recoverStep(20, 20, 0, 0))
+				.build();
+		SensorSpec spec = new SensorSpec("level", "m", 0, "level", "level_data", "sensor_level_stream", "val");
+		AnomalySensorGenerator generator = new AnomalySensorGenerator(spec, profile, Sensor.grid("level", "LV", 3, 1), 5);
+		generator.open(START, new RecordingSink());
+		long start = START.toEpochSecond(ZoneOffset.UTC);
+		int zone = generator.zoneIndex("Z002");
+		assertThat(zone).isEqualTo(1);
+		assertThat(generator.zoneIndex("Z999")).isEqualTo(-1);
+
+		generator.triggerSpike(zone);
+		generator.triggerSpike(zone);
+		generator.tick(start);
+		assertThat(generator.zoneMode(0)).isEqualTo(ZoneMode.NORMAL);
+		assertThat(generator.zoneMode(zone)).isEqualTo(ZoneMode.SPIKING);
+		for (int i = 1; i < 100; i++) generator.tick(start + i);
+		// 요청이 두 번 쌓여도 스파이크는 한 번
+		assertThat(generator.transitions(zone, ZoneMode.SPIKING)).isEqualTo(1);
+		assertThat(generator.zoneMode(zone)).isEqualTo(ZoneMode.NORMAL);
+		assertThat(generator.rowsEmitted()).isEqualTo(3 * 100);
+		generator.close();
+	}
+
+	@Test
+	void rejectsProfileWithWrongChannelCount() {
+		AnomalyProfile oneChannel = AnomalyProfile.builder()
+				.integer()
+				.channel(AnomalyProfile.channel(0, -1, 1))
+				.build();
+		SensorSpec threeColumns = new SensorSpec("particle", "PPM", 0, "lpm", "lpm_data", "sensor_particle_stream",
+				"a", "b", "c");
+		assertThatThrownBy(() -> new AnomalySensorGenerator(threeColumns, oneChannel, List.of(), 1))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void rejectsProbabilitiesOutsideUnitRange() {
+		for (double p : new double[]{-0.1, 1.5, Double.NaN}) {
+			assertThatThrownBy(() -> profileBuilder().walk(p).build()).as("walk " + p)
+					.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("walkTowardProb");
+			assertThatThrownBy(() -> profileBuilder().spike(p, 10, 0, SpikeCurve.STEP).build()).as("spike " + p)
+					.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("outProb");
+			assertThatThrownBy(() -> profileBuilder().recover(p).build()).as("recover " + p)
+					.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("recoverTowardProb");
+		}
+		assertThat(profileBuilder().walk(0).spike(1, 10, 0, SpikeCurve.STEP).recover(1).build().channels()).isEqualTo(1);
+	}
+
+	private static AnomalyProfile.Builder profileBuilder() {
+		return AnomalyProfile.builder().integer().channel(AnomalyProfile.channel(0, -1, 1));
+	}
+
+}
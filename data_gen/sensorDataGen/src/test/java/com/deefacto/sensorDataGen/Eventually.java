@@ -0,0 +1,26 @@
+package com.deefacto.sensorDataGen;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.fail;
+
+// 다른 스레드에서 진행되는 실행을 기다리는 테스트 도우미: 조건이 참이 될 때까지 짧게 폴링하고, 제한 시간이 지나면 실패
+final class Eventually {
+
+	private static final long TIMEOUT_SECONDS = 20;
+
+	private Eventually() {
+	}
+
+	static void await(String description, BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+		while (!condition.getAsBoolean()) {
+			if (System.nanoTime() - deadline > 0) {
+				fail("timed out after " + TIMEOUT_SECONDS + "s waiting for " + description);
+			}
+			Thread.sleep(5);
+		}
+	}
+
+}
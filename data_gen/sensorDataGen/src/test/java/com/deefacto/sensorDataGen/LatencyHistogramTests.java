@@ -0,0 +1,36 @@
+package com.deefacto.sensorDataGen;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTests {
+
+	@Test
+	void percentilesStayWithinBucketPrecision() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		// 1µs ~ 10000µs 균등 분포
+		for (long us = 1; us <= 10_000; us++) {
+			histogram.recordNanos(us * 1000);
+		}
+		assertThat(histogram.getCount()).isEqualTo(10_000);
+		assertThat(histogram.getMaxMicros()).isEqualTo(10_000);
+		assertThat((double) histogram.percentileMicros(50)).isCloseTo(5000, within(5000 / 32.0));
+		assertThat((double) histogram.percentileMicros(99)).isCloseTo(9900, within(9900 / 32.0));
+		assertThat(histogram.percentileMicros(100)).isEqualTo(10_000);
+	}
+
+	@Test
+	void bucketsCoverEveryValueInOrder() {
+		int previous = -1;
+		for (long v = 0; v < 1 << 20; v++) {
+			int bucket = LatencyHistogram.bucket(v);
+			assertThat(bucket).isGreaterThanOrEqualTo(previous);
+			assertThat(LatencyHistogram.upperBound(bucket)).isGreaterThanOrEqualTo(v);
+			previous = bucket;
+		}
+		assertThat(LatencyHistogram.bucket(Long.MAX_VALUE)).isLessThan((64 - 5) * 32);
+	}
+
+}
@@ -0,0 +1,72 @@
+package com.deefacto.sensorDataGen;
+
+import com.deefacto.sensorDataGen.output.SensorSink;
+import com.deefacto.sensorDataGen.output.ZoneWriter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 값을 버리는 출력 (테스트와 벤치마크 공용): 닫힌 zone 출력이 기록한 행 수만 센다
+// - 값은 zone별 checksum에 섞어 JIT가 생성 계산을 제거하지 못하게 한다 (벤치마크)
+// - 기록한 값이 필요한 테스트는 record를 재정의한다
+public class NullSink implements SensorSink {
+	private final AtomicLong rows = new AtomicLong();
+	private final AtomicInteger openWriters = new AtomicInteger();
+
+	// 닫힌 ZoneWriter들이 기록한 행 수 (zone마다 따로 세다가 close에서 합친다)
+	public long rows() {
+		return rows.get();
+	}
+
+	// 열려 있는(아직 닫히지 않은) ZoneWriter 수
+	public int openWriters() {
+		return openWriters.get();
+	}
+
+	// 기록된 행의 첫 채널 값 (기록 순서대로, zone 출력 스레드에서 호출)
+	protected void record(long value) {
+	}
+
+	@Override
+	public ZoneWriter openZone(SensorSpec spec, List<Sensor> sensors) throws IOException {
+		openWriters.incrementAndGet();
+		return new ZoneWriter() {
+			private long count;
+			private boolean closed;
+			private long checksum;
+
+			@Override
+			public void write(int sensor, long epochSecond, long value) {
+				count++;
+				checksum = checksum * 31 + value;
+				record(value);
+			}
+
+			@Override
+			public void write(int sensor, long epochSecond, long v0, long v1, long v2) {
+				count++;
+				checksum = ((checksum * 31 + v0) * 31 + v1) * 31 + v2;
+				record(v0);
+			}
+
+			@Override
+			public void flush() {
+			}
+
+			@Override
+			public void close() {
+				rows.addAndGet(count);
+				count = 0;
+				if (!closed) openWriters.decrementAndGet();
+				closed = true;
+			}
+		};
+	}
+
+	@Override
+	public void close() {
+	}
+
+}
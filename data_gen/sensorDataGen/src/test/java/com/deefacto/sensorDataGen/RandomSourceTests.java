@@ -0,0 +1,51 @@
+package com.deefacto.sensorDataGen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.random.RandomGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RandomSourceTests {
+
+	@Test
+	void namedStreamsAreReproducible() {
+		RandomSource a = RandomSource.of(42).derive("esd");
+		RandomSource b = RandomSource.of(42).derive("esd");
+		assertThat(first(a.zone("A"))).isEqualTo(first(b.zone("A")));
+		assertThat(first(a.sensor("ESD-001"))).isEqualTo(first(b.sensor("ESD-001")));
+	}
+
+	@Test
+	void differentNamesAndSeedsGiveDifferentStreams() {
+		RandomSource source = RandomSource.of(42);
+		assertThat(first(source.zone("A"))).isNotEqualTo(first(source.zone("B")));
+		assertThat(first(source.zone("A"))).isNotEqualTo(first(source.sensor("A")));
+		assertThat(first(source.derive("esd").zone("A"))).isNotEqualTo(first(source.derive("temperature").zone("A")));
+		assertThat(first(RandomSource.of(43).zone("A"))).isNotEqualTo(first(source.zone("A")));
+	}
+
+	@Test
+	void usesSelectedAlgorithm() {
+		RandomSource source = RandomSource.of(1, "L64X128MixRandom");
+		assertThat(source.zone("A").getClass().getSimpleName()).isEqualTo("L64X128MixRandom");
+		assertThat(RandomSource.of(1).zone("A").getClass().getSimpleName()).isEqualTo("SplittableRandom");
+		assertThatThrownBy(() -> RandomSource.of(1, "NoSuchRandom")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void readsSeedFromSystemProperty() {
+		System.setProperty(RandomSource.SEED_PROPERTY, "1234");
+		try {
+			assertThat(RandomSource.fromSystemProperties().seed()).isEqualTo(1234);
+		} finally {
+			System.clearProperty(RandomSource.SEED_PROPERTY);
+		}
+	}
+
+	private static long[] first(RandomGenerator random) {
+		return random.longs(8).toArray();
+	}
+
+}
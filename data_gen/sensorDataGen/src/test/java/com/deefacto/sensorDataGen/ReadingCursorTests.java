@@ -0,0 +1,86 @@
+package com.deefacto.sensorDataGen;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ReadingCursorTests {
+
+	private static final LocalDateTime START = LocalDateTime.of(2025, 7, 15, 9, 32, 0);
+
+	@Test
+	void matchesGeneratorOutput() throws Exception {
+		SensorFleet fleet = SensorFleet.synthetic(3, 2);
+		// 같은 seed로 파일 출력 경로(생성기 + sink)가 기록하는 temperature 값
+		AnomalySensorGeneratorTests.RecordingSink sink = new AnomalySensorGeneratorTests.RecordingSink();
+		SensorGenerator temperature = SensorSimulationEngine.generators(fleet, RandomSource.of(42)).get(0);
+		temperature.open(START, sink);
+		long start = START.toEpochSecond(ZoneOffset.UTC);
+		for (int i = 0; i < 600; i++) temperature.tick(start + i);
+		temperature.close();
+
+		List<Long> values = new ArrayList<>();
+		try (ReadingCursor cursor = ReadingCursor.builder(fleet, RandomSource.of(42))
+				.range(START, 600).sensorTypes("temperature").open()) {
+			while (cursor.next()) {
+				assertThat(cursor.sensor().sensorType).isEqualTo("temperature");
+				values.add(cursor.fixedValue(0));
+			}
+		}
+		assertThat(values).hasSize(6 * 600).isEqualTo(sink.values);
+	}
+
+	@Test
+	void filterAndRangeKeepSeries() {
+		SensorFleet fleet = SensorFleet.defaultFleet();
+		List<String> full;
+		try (Stream<SensorReading> readings = ReadingCursor.builder(fleet, RandomSource.of(7))
+				.range(START, 300).stream()) {
+			full = readings.filter(r -> r.sensor.sensorId.equals(fleet.sensor(5).sensorId) && r.epochSecond >= START
+					.plusSeconds(100).toEpochSecond(ZoneOffset.UTC)).map(SensorReading::toString).collect(Collectors.toList());
+		}
+		// 한 센서, 100초 이후만: 앞 구간은 생성만 하고 버리므로 값이 같다
+		ReadingCursor.Builder builder = ReadingCursor.builder(fleet, RandomSource.of(7))
+				.simulationStart(START).range(START.plusSeconds(100), 200).sensorIds(fleet.sensor(5).sensorId);
+		try (ReadingCursor cursor = builder.open()) {
+			assertThat(cursor.size()).isEqualTo(200);
+		}
+		List<String> filtered;
+		try (Stream<SensorReading> readings = builder.stream()) {
+			filtered = readings.map(SensorReading::toString).collect(Collectors.toList());
+		}
+		assertThat(filtered).hasSize(200).isEqualTo(full);
+	}
+
+	@Test
+	void cursorDoesNotAllocatePerReading() {
+		ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		try (ReadingCursor cursor = ReadingCursor.builder(SensorFleet.synthetic(20, 10), RandomSource.of(3))
+				.range(START, 2000).open()) {
+			double sum = 0;
+			for (int i = 0; i < 100_000 && cursor.next(); i++) sum += cursor.value(0);
+			long before = threads.getCurrentThreadAllocatedBytes();
+			long rows = 0;
+			while (cursor.next()) {
+				sum += cursor.value(cursor.channels() - 1) + cursor.epochSecond() + cursor.sensorIndex();
+				rows++;
+			}
+			long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+			assertThat(rows).isEqualTo(1000L * 2000 - 100_000);
+			assertThat(sum).isNotCloseTo(0, within(1e-9));
+			// 행 190만 개에 1바이트 미만/행
+			assertThat(allocated).isLessThan(rows);
+		}
+	}
+
+}
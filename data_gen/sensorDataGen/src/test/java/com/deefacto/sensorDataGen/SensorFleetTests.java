@@ -0,0 +1,91 @@
+package com.deefacto.sensorDataGen;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SensorFleetTests {
+
+	@Test
+	void expandsRangesAndLists() {
+		assertThat(SensorFleet.expand("TEMP-008..TEMP-011")).containsExactly("TEMP-008", "TEMP-009", "TEMP-010", "TEMP-011");
+		assertThat(SensorFleet.expand("A, B,Z1..Z3")).containsExactly("A", "B", "Z1", "Z2", "Z3");
+		assertThat(SensorFleet.expand("TEMP-001..TEMP-5000")).hasSize(5000).endsWith("TEMP-5000");
+		assertThatThrownBy(() -> SensorFleet.expand("TEMP-001..HUM-003")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> SensorFleet.expand("TEMP-010..TEMP-001")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void spreadsGroupEvenlyOverZones() {
+		SensorFleet fleet = SensorFleet.builder().add("temperature", "T-01..T-10", "A,B,C").build();
+		Map<String, Long> perZone = fleet.sensors("temperature").stream()
+				.collect(Collectors.groupingBy(s -> s.zoneId, Collectors.counting()));
+		assertThat(perZone).containsEntry("A", 4L).containsEntry("B", 3L).containsEntry("C", 3L);
+		assertThat(fleet.sensor(4).sensorId).isEqualTo("T-05");
+		assertThat(fleet.sensor(4).zoneId).isEqualTo("B");
+	}
+
+	@Test
+	void defaultFleetKeepsZoneLayout() {
+		SensorFleet fleet = SensorFleet.defaultFleet();
+		assertThat(fleet.sensorTypes()).containsExactly("temperature", "humidity", "esd", "windDir", "particle");
+		assertThat(fleet.sensors("temperature")).hasSize(12);
+		assertThat(fleet.sensors("humidity")).filteredOn(s -> s.zoneId.equals("B")).hasSize(6);
+		assertThat(fleet.sensors("particle")).hasSize(9).last().extracting(s -> s.zoneId).isEqualTo("C");
+		assertThat(fleet.zoneIds()).containsExactly("A", "B", "C");
+		assertThat(fleet.size()).isEqualTo(53);
+	}
+
+	@Test
+	void assignsCompactIds() {
+		SensorFleet fleet = SensorFleet.synthetic(200, 10);
+		assertThat(fleet.size()).isEqualTo(5 * 200 * 10);
+		assertThat(fleet.zoneCount()).isEqualTo(200);
+		int id = fleet.sensorIndex("HUM-011");
+		assertThat(fleet.sensor(id).sensorId).isEqualTo("HUM-011");
+		assertThat(fleet.zoneId(fleet.zoneOf(id))).isEqualTo("Z002");
+		assertThat(fleet.zoneIndex("Z200")).isEqualTo(199);
+		assertThat(fleet.sensorIndex("nope")).isEqualTo(-1);
+	}
+
+	@Test
+	void parsesFleetFile() throws Exception {
+		SensorFleet fleet = SensorFleet.parse(new StringReader("""
+				# type,sensors,zones
+				esd,ESD-001..ESD-004,Z01;Z02   # 2개씩
+				esd,ESD-005,Z03
+				"""));
+		assertThat(fleet.sensors("esd")).extracting(s -> s.zoneId).containsExactly("Z01", "Z01", "Z02", "Z02", "Z03");
+		assertThatThrownBy(() -> SensorFleet.parse(new StringReader("esd,ESD-001")))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> SensorFleet.parse(new StringReader("esd,ESD-001,A\nhumidity,ESD-001,A")))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void bindsConfigurationProperties() throws Exception {
+		Map<String, String> properties = Map.of(
+				"sensor.fleet.groups[0].type", "temperature",
+				"sensor.fleet.groups[0].sensors", "TEMP-001..TEMP-5000",
+				"sensor.fleet.groups[0].zones", "Z001..Z200",
+				"sensor.fleet.synthetic.sensors-per-zone", "3");
+		FleetProperties bound = new Binder(new MapConfigurationPropertySource(properties))
+				.bind("sensor.fleet", FleetProperties.class).get();
+		assertThat(bound.getSynthetic().getSensorsPerZone()).isEqualTo(3);
+		SensorFleet fleet = bound.toFleet();
+		assertThat(fleet.size()).isEqualTo(5000);
+		assertThat(fleet.zoneCount()).isEqualTo(200);
+		List<SensorGenerator> generators = SensorSimulationEngine.generators(fleet, RandomSource.of(1));
+		assertThat(generators).hasSize(1);
+		assertThat(generators.get(0).sensorType()).isEqualTo("temperature");
+	}
+
+}
@@ -0,0 +1,122 @@
+package com.deefacto.sensorDataGen;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.InterruptedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SensorSimulationEngineTests {
+
+	private static final LocalDateTime START = LocalDateTime.of(2025, 7, 15, 9, 32, 0);
+
+	@Test
+	void replayPacesSimulatedTimeBySpeed() throws Exception {
+		NullSink sink = new NullSink();
+		TickStats stats = new TickStats();
+		SimulationClock clock = new SimulationClock(START, 40);
+		long begin = System.nanoTime();
+		// 20배속으로 40초 -> 약 2초
+		try (SensorSimulationEngine engine = new SensorSimulationEngine(SensorSimulationEngine.defaultGenerators(42), 2)) {
+			engine.replay(clock, sink, 20, stats);
+		}
+		double wallSeconds = (System.nanoTime() - begin) / 1e9;
+		assertThat(wallSeconds).isGreaterThan(1.8);
+		assertThat(clock.isFinished()).isTrue();
+		assertThat(stats.getSimulatedSeconds()).isEqualTo(40);
+		assertThat(stats.getTicks()).isEqualTo(40);
+		assertThat(stats.getRows()).isEqualTo(sink.rows()).isEqualTo(40 * 53);
+	}
+
+	@Test
+	void unlimitedSpeedRunsAsBatch() throws Exception {
+		NullSink sink = new NullSink();
+		TickStats stats = new TickStats();
+		try (SensorSimulationEngine engine = new SensorSimulationEngine(SensorSimulationEngine.defaultGenerators(42), 2)) {
+			engine.replay(new SimulationClock(START, 7200), sink, SensorSimulationEngine.AS_FAST_AS_POSSIBLE, stats);
+		}
+		assertThat(stats.getTicks()).isZero();
+		assertThat(stats.getRows()).isEqualTo(sink.rows()).isEqualTo(7200 * 53);
+	}
+
+	@Test
+	void activeZonesLimitGeneratedSensors() throws Exception {
+		NullSink sink = new NullSink();
+		TickStats stats = new TickStats();
+		List<SensorGenerator> generators = SensorSimulationEngine.gridGenerators(4, 2, 42);
+		try (SensorSimulationEngine engine = new SensorSimulationEngine(generators, 2)) {
+			engine.setActiveZones(1);
+			assertThat(engine.activeSensorCount()).isEqualTo(5 * 2);
+			engine.run(new SimulationClock(START, 7200), sink, stats);
+		}
+		// 타입 5개 * 첫 zone 센서 2개
+		assertThat(stats.getRows()).isEqualTo(sink.rows()).isEqualTo(7200 * 5 * 2);
+		assertThat(generators.stream().mapToLong(SensorGenerator::rowsEmitted).sum()).isEqualTo(7200 * 5 * 2);
+	}
+
+	@Test
+	void pauseAndSpeedChangeApplyDuringReplay() throws Exception {
+		TickStats stats = new TickStats();
+		SimulationClock clock = new SimulationClock(START, 3600);
+		try (SensorSimulationEngine engine = new SensorSimulationEngine(SensorSimulationEngine.defaultGenerators(42), 2)) {
+			// 세 번째 tick 안에서 일시 정지 (10배속은 tick 하나에 1초, 진행 중인 tick은 끝까지 실행된다)
+			NullSink sink = new NullSink() {
+				private int flushes;
+
+				@Override
+				public void flush() {
+					if (++flushes == 3) engine.pause();
+				}
+			};
+			// 10배속이면 6분 걸리는 구간
+			CompletableFuture<Void> replay = CompletableFuture.runAsync(() -> {
+				try {
+					engine.replay(clock, sink, 10, stats);
+				} catch (Exception e) {
+					throw new CompletionException(e);
+				}
+			});
+			Eventually.await("third tick", () -> clock.getElapsed() == 3);
+			assertThat(engine.isPaused()).isTrue();
+			// 멈추지 않았다면 10배속으로 tick이 몇 번 더 돌았을 시간 (멈춘 동안 시계가 그대로인지만 확인하므로 느려도 실패하지 않는다)
+			Thread.sleep(300);
+			assertThat(clock.getElapsed()).isEqualTo(3);
+			assertThat(stats.getTicks()).isEqualTo(3);
+
+			engine.setSpeed(360_000);
+			engine.resume();
+			replay.get(20, TimeUnit.SECONDS);
+			assertThat(stats.getRows()).isEqualTo(sink.rows()).isEqualTo(3600 * 53);
+		}
+		assertThat(clock.isFinished()).isTrue();
+	}
+
+	@Test
+	void requestStopEndsReplayAfterInFlightTick() throws Exception {
+		NullSink sink = new NullSink();
+		TickStats stats = new TickStats();
+		SimulationClock clock = new SimulationClock(START, 3600);
+		try (SensorSimulationEngine engine = new SensorSimulationEngine(SensorSimulationEngine.defaultGenerators(42), 2)) {
+			CompletableFuture<Void> replay = CompletableFuture.runAsync(() -> {
+				try {
+					engine.replay(clock, sink, 10, stats);
+				} catch (Exception e) {
+					throw new CompletionException(e);
+				}
+			});
+			Eventually.await("first tick", () -> stats.getRows() > 0);
+			engine.requestStop();
+			assertThatThrownBy(() -> replay.get(20, TimeUnit.SECONDS))
+					.hasRootCauseInstanceOf(InterruptedIOException.class);
+		}
+		assertThat(clock.isFinished()).isFalse();
+		assertThat(stats.getRows()).isEqualTo(sink.rows()).isEqualTo(clock.getElapsed() * 53);
+	}
+
+}
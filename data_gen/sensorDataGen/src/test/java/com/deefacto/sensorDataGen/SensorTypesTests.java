@@ -0,0 +1,50 @@
+package com.deefacto.sensorDataGen;
+
+import com.deefacto.sensorDataGen.particle.ParticleCsvGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SensorTypesTests {
+
+	@Test
+	void buildsEveryDefaultTypeFromRegistry() {
+		assertThat(SensorTypes.names()).contains("temperature", "humidity", "esd", "windDir", "particle");
+		assertThat(SensorTypes.get("particle").spec).isSameAs(ParticleCsvGenerator.SPEC);
+		List<SensorGenerator> generators = SensorSimulationEngine.generators(SensorFleet.defaultFleet(), RandomSource.of(42));
+		assertThat(generators).extracting(SensorGenerator::sensorType)
+				.containsExactly("temperature", "humidity", "esd", "windDir", "particle");
+		assertThat(generators).allMatch(g -> g.getClass() == AnomalySensorGenerator.class);
+	}
+
+	@Test
+	void registeredTypeIsUsableFromFleet() {
+		SensorSpec spec = new SensorSpec("voc-test", "ppb", 0, "voc", "voc_data", "sensor_voc_stream", "val");
+		AnomalyProfile profile = AnomalyProfile.builder()
+				.integer()
+				.spike(0.01, 5, 0, SpikeCurve.STEP)
+				.channel(AnomalyProfile.channel(100, 0, 200).walkStep(-5, 5))
+				.build();
+		SensorTypes.register(spec, profile);
+		SensorFleet fleet = SensorFleet.builder().add("voc-test", "V-1..V-4", "A,B").build();
+		AnomalySensorGenerator generator =
+				(AnomalySensorGenerator) SensorSimulationEngine.generators(fleet, RandomSource.of(1)).get(0);
+		assertThat(generator.sensorType()).isEqualTo("voc-test");
+		assertThat(generator.zoneCount()).isEqualTo(2);
+	}
+
+	@Test
+	void rejectsUnknownTypeAndMismatchedChannels() {
+		SensorFleet fleet = SensorFleet.builder().add("no-such-type", "N-1", "A").build();
+		assertThatThrownBy(() -> SensorSimulationEngine.generators(fleet, RandomSource.of(1)))
+				.isInstanceOf(IllegalArgumentException.class).hasMessageContaining("no-such-type");
+		AnomalyProfile oneChannel = AnomalyProfile.builder().integer().channel(AnomalyProfile.channel(0, -1, 1)).build();
+		assertThatThrownBy(() -> SensorTypes.register(ParticleCsvGenerator.SPEC, oneChannel))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThat(SensorTypes.get("particle").profile).isSameAs(ParticleCsvGenerator.PROFILE);
+	}
+
+}
@@ -0,0 +1,95 @@
+package com.deefacto.sensorDataGen;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SimulationControllerTests {
+
+	@TempDir
+	static Path dataDir;
+
+	@DynamicPropertySource
+	static void properties(DynamicPropertyRegistry registry) {
+		registry.add("sensor.simulation.data-dir", dataDir::toString);
+		registry.add("sensor.simulation.output", () -> "columnar");
+		registry.add("sensor.simulation.workers", () -> "2");
+	}
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private SimulationService service;
+
+	@AfterEach
+	void stop() throws InterruptedException {
+		service.stop();
+	}
+
+	@Test
+	void controlsRunningScenario() throws Exception {
+		mvc.perform(get("/api/simulation/status"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.state").value("IDLE"));
+		mvc.perform(post("/api/simulation/pause"))
+				.andExpect(status().isConflict());
+
+		// 타입별 zone 20개 중 5개만 생성, 10배속
+		mvc.perform(post("/api/simulation/start").contentType(MediaType.APPLICATION_JSON)
+						.content("{\"speed\":10,\"seconds\":86400,\"start\":\"2025-07-15T09:32:00\",\"seed\":42,"
+								+ "\"zones\":20,\"sensorsPerZone\":2,\"activeZones\":5}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.state").value("RUNNING"))
+				.andExpect(jsonPath("$.seed").value(42))
+				.andExpect(jsonPath("$.sensors").value(5 * 20 * 2))
+				.andExpect(jsonPath("$.activeSensors").value(5 * 5 * 2));
+		mvc.perform(post("/api/simulation/start"))
+				.andExpect(status().isConflict());
+
+		mvc.perform(put("/api/simulation/zones").param("active", "20"))
+				.andExpect(jsonPath("$.activeZones").value(20))
+				.andExpect(jsonPath("$.activeSensors").value(5 * 20 * 2));
+		mvc.perform(put("/api/simulation/speed").param("value", "3600"))
+				.andExpect(jsonPath("$.speed").value(3600.0));
+		mvc.perform(put("/api/simulation/speed").param("value", "-1"))
+				.andExpect(status().isBadRequest());
+		mvc.perform(post("/api/simulation/anomalies/esd/Z003"))
+				.andExpect(status().isOk());
+		mvc.perform(post("/api/simulation/anomalies/esd/Z999"))
+				.andExpect(status().isBadRequest());
+
+		mvc.perform(post("/api/simulation/pause"))
+				.andExpect(jsonPath("$.state").value("PAUSED"));
+		mvc.perform(post("/api/simulation/resume"))
+				.andExpect(jsonPath("$.state").value("RUNNING"));
+		Eventually.await("rows after resume", () -> service.getStats().getRows() > 0);
+
+		mvc.perform(post("/api/simulation/stop"))
+				.andExpect(jsonPath("$.state").value("STOPPED"));
+		// 같은 JVM에서 다시 시작
+		mvc.perform(post("/api/simulation/start").contentType(MediaType.APPLICATION_JSON)
+						.content("{\"speed\":0,\"seconds\":600,\"start\":\"2025-07-16T00:00:00\",\"zones\":2}"))
+				.andExpect(status().isOk());
+		mvc.perform(put("/api/simulation/speed").param("value", "10"))
+				.andExpect(status().isConflict());
+	}
+
+}
@@ -0,0 +1,65 @@
+package com.deefacto.sensorDataGen;
+
+import com.deefacto.sensorDataGen.output.FileChannelSink;
+import com.deefacto.sensorDataGen.output.SensorSink;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimulationMetricsTests {
+
+	private static final LocalDateTime START = LocalDateTime.of(2025, 7, 15, 9, 32, 0);
+
+	@Test
+	void exposesRunMetrics(@TempDir Path dir) throws Exception {
+		MeterRegistry registry = new SimpleMeterRegistry();
+		SimulationMetrics metrics = new SimulationMetrics(registry);
+		List<SensorGenerator> generators = SensorSimulationEngine.gridGenerators(3, 2, 42);
+		TickStats stats = new TickStats();
+		SimulationMetrics.Binding binding;
+		// 36000배속 -> tick 하나에 360초, 10 tick
+		try (SensorSink sink = metrics.instrument(new FileChannelSink(dir));
+			 SensorSimulationEngine engine = new SensorSimulationEngine(generators, 2)) {
+			binding = metrics.bind(generators, sink, stats);
+			engine.replay(new SimulationClock(START, 3600), sink, 36000, stats);
+		}
+
+		assertThat(counter(registry, "sensor.sim.seconds")).isEqualTo(3600);
+		assertThat(counter(registry, "sensor.sim.ticks")).isEqualTo(10);
+		assertThat(registry.get("sensor.rows").tag("sensor.type", "esd").functionCounter().count()).isEqualTo(6 * 3600);
+		assertThat(registry.get("sensor.sink.bytes").tag("sink", "FileChannelSink").functionCounter().count())
+				.isGreaterThan(6 * 5 * 3600 * 20);
+		Timer flush = registry.get("sensor.sink.flush").timer();
+		assertThat(flush.count()).isEqualTo(10);
+		assertThat(registry.get("sensor.sim.tick.lag").timeGauge()).isNotNull();
+		assertThat(registry.get("sensor.sim.emit.latency").tag("quantile", "0.99").timeGauge().value()).isGreaterThan(0);
+
+		// zone별 상태 전환: 스파이크에 들어간 만큼 NORMAL로 돌아온다 (마지막 이상치는 진행 중일 수 있음)
+		List<FunctionCounter> spikes = registry.get("sensor.zone.transitions")
+				.tag("sensor.type", "temperature").tag("state", "SPIKING").functionCounters().stream().toList();
+		assertThat(spikes).hasSize(3);
+		double spiking = spikes.stream().mapToDouble(FunctionCounter::count).sum();
+		double recovered = registry.get("sensor.zone.transitions").tag("sensor.type", "temperature").tag("state", "NORMAL")
+				.functionCounters().stream().mapToDouble(FunctionCounter::count).sum();
+		assertThat(spiking).isGreaterThan(10);
+		assertThat(recovered).isBetween(spiking - 3, spiking);
+
+		binding.close();
+		assertThat(registry.find("sensor.rows").meters()).isEmpty();
+		assertThat(registry.find("sensor.zone.transitions").meters()).isEmpty();
+	}
+
+	private static double counter(MeterRegistry registry, String name) {
+		return registry.get(name).functionCounter().count();
+	}
+
+}
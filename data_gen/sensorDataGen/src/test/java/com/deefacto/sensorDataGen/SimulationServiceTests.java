@@ -0,0 +1,75 @@
+package com.deefacto.sensorDataGen;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SimulationServiceTests {
+
+	@Test
+	void stopFlushesCsvOutput(@TempDir Path dir) throws Exception {
+		SimulationProperties properties = new SimulationProperties();
+		properties.setDataDir(dir.toString());
+		properties.setWorkers(2);
+		assertThat(properties.getOutput()).isEqualTo("csv");
+		SimulationService service = new SimulationService(SensorFleet.synthetic(2, 2), properties,
+				new SimulationMetrics(new SimpleMeterRegistry()));
+
+		// 3600배속으로 하루 -> 멈추기 전에 끝나지 않는다
+		SimulationScenario scenario = new SimulationScenario();
+		scenario.setSpeed(3600.0);
+		scenario.setSeconds(86400L);
+		scenario.setStart(LocalDateTime.of(2025, 7, 15, 9, 32, 0));
+		scenario.setSeed(42L);
+		service.start(scenario);
+		Eventually.await("first tick", () -> service.getStats().getRows() > 0);
+		service.stop();
+
+		SimulationStatus status = service.status();
+		assertThat(status.state).isEqualTo(SimulationStatus.State.STOPPED);
+		assertThat(status.failure).isNull();
+		assertThat(status.simulatedSeconds).isLessThan(86400);
+		// 마지막 tick까지 생성한 행이 모두 파일에 기록되어 있다
+		assertThat(csvRows(dir)).isEqualTo(status.rows).isPositive();
+	}
+
+	@Test
+	void rejectsInvalidScenarioBeforeStarting(@TempDir Path dir) {
+		SimulationProperties properties = new SimulationProperties();
+		properties.setDataDir(dir.toString());
+		SimulationService service = new SimulationService(SensorFleet.synthetic(2, 2), properties,
+				new SimulationMetrics(new SimpleMeterRegistry()));
+		for (double speed : new double[]{Double.NaN, Double.POSITIVE_INFINITY, -1}) {
+			SimulationScenario scenario = new SimulationScenario();
+			scenario.setSpeed(speed);
+			assertThatThrownBy(() -> service.start(scenario)).isInstanceOf(IllegalArgumentException.class)
+					.hasMessageContaining("speed");
+		}
+		SimulationScenario scenario = new SimulationScenario();
+		scenario.setSeconds(-1L);
+		assertThatThrownBy(() -> service.start(scenario)).isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("seconds");
+		assertThat(service.status().state).isEqualTo(SimulationStatus.State.IDLE);
+	}
+
+	// 파일마다 헤더 한 줄을 뺀 행 수
+	private static long csvRows(Path dir) throws IOException {
+		long rows = 0;
+		try (Stream<Path> files = Files.walk(dir)) {
+			for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+				rows += Files.readAllLines(file).size() - 1;
+			}
+		}
+		return rows;
+	}
+
+}
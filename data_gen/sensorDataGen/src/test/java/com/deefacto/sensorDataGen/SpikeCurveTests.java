@@ -0,0 +1,40 @@
+package com.deefacto.sensorDataGen;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SpikeCurveTests {
+
+	@Test
+	void tablesMatchCurveAndRunFromZeroToOne() {
+		for (SpikeCurve curve : SpikeCurve.values()) {
+			for (int duration : new int[] {1, 10, 37}) {
+				double[] table = curve.table(duration);
+				assertThat(table).hasSize(duration + 1);
+				assertThat(table[0]).isEqualTo(0);
+				assertThat(table[duration]).isEqualTo(1);
+				for (int step = 1; step <= duration; step++) {
+					assertThat(table[step]).isEqualTo(curve.fraction(step, duration));
+					assertThat(table[step]).isGreaterThanOrEqualTo(table[step - 1]);
+				}
+			}
+		}
+	}
+
+	@Test
+	void curvesHaveTheirShape() {
+		assertThat(SpikeCurve.LINEAR.fraction(3, 10)).isCloseTo(0.3, within(1e-12));
+		assertThat(SpikeCurve.EXPONENTIAL.fraction(3, 10)).isGreaterThan(0.3);
+		assertThat(SpikeCurve.SIGMOID.fraction(3, 10)).isLessThan(0.3);
+		assertThat(SpikeCurve.SIGMOID.fraction(5, 10)).isCloseTo(0.5, within(1e-12));
+		assertThat(SpikeCurve.STEP.fraction(9, 10)).isEqualTo(0);
+	}
+
+	@Test
+	void sameDurationSharesOneTable() {
+		assertThat(SpikeCurve.SIGMOID.table(25)).isSameAs(SpikeCurve.SIGMOID.table(25));
+	}
+
+}
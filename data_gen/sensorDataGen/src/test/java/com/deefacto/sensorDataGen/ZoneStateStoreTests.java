@@ -0,0 +1,57 @@
+package com.deefacto.sensorDataGen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ZoneStateStoreTests {
+
+	@Test
+	void startsSpikeFromCurrentValues() {
+		ZoneStateStore store = new ZoneStateStore(20_000, 3);
+		store.init(7, 0, 850);
+		store.init(7, 1, 82);
+		store.init(7, 2, 20);
+		store.value[7 * 3] = 900;
+		store.spikeTarget[7 * 3] = 1030;
+		store.spikeStep[7] = 4;
+		store.startSpike(7, 12, 30);
+
+		assertThat(store.mode(7)).isEqualTo(ZoneMode.SPIKING);
+		assertThat(store.spikeStart[7 * 3]).isEqualTo(900);
+		assertThat(store.spikeStart[7 * 3 + 1]).isEqualTo(82);
+		assertThat(store.spikeTarget[7 * 3]).isEqualTo(1030);
+		assertThat(store.spikeStep[7]).isZero();
+		assertThat(store.spikeDuration[7]).isEqualTo(12);
+		assertThat(store.holdDuration[7]).isEqualTo(30);
+		// 이웃 zone은 그대로
+		assertThat(store.mode(6)).isEqualTo(ZoneMode.NORMAL);
+		assertThat(store.mode(8)).isEqualTo(ZoneMode.NORMAL);
+		assertThat(store.spikeDuration[8]).isEqualTo(10);
+	}
+
+	@Test
+	void stateCodesMatchModeOrdinals() {
+		assertThat(ZoneMode.of(ZoneStateStore.NORMAL)).isEqualTo(ZoneMode.NORMAL);
+		assertThat(ZoneMode.of(ZoneStateStore.SPIKING)).isEqualTo(ZoneMode.SPIKING);
+		assertThat(ZoneMode.of(ZoneStateStore.HOLDING)).isEqualTo(ZoneMode.HOLDING);
+		assertThat(ZoneMode.of(ZoneStateStore.OUT_OF_RANGE)).isEqualTo(ZoneMode.OUT_OF_RANGE);
+	}
+
+	@Test
+	void groupsSensorsByZoneId() {
+		List<Sensor> sensors = Arrays.asList(
+				new Sensor("esd", "ESD-003", "B"),
+				new Sensor("esd", "ESD-001", "A"),
+				new Sensor("esd", "ESD-004", "B"),
+				new Sensor("esd", "ESD-002", "A"));
+		List<List<Sensor>> zones = ZoneStateStore.groupByZone(sensors);
+		assertThat(zones).hasSize(2);
+		assertThat(zones.get(0)).extracting(s -> s.sensorId).containsExactly("ESD-001", "ESD-002");
+		assertThat(zones.get(1)).extracting(s -> s.sensorId).containsExactly("ESD-003", "ESD-004");
+	}
+
+}
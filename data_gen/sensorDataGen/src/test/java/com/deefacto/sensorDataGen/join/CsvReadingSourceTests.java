@@ -0,0 +1,97 @@
+package com.deefacto.sensorDataGen.join;
+
+import com.deefacto.sensorDataGen.Sensor;
+import com.deefacto.sensorDataGen.SensorSpec;
+import com.deefacto.sensorDataGen.output.FileChannelSink;
+import com.deefacto.sensorDataGen.output.ZoneWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReadingSourceTests {
+
+	private static final long T0 = 1752571920L; // 2025-07-15T09:32:00Z
+
+	@Test
+	void mergesSensorFilesInTimeOrder(@TempDir Path dir) throws Exception {
+		SensorSpec esd = new SensorSpec("esd", "V", 0, "esd", "esd_data", "sensor_esd_stream", "val");
+		SensorSpec particle = new SensorSpec("particle", "PPM", 0, "lpm", "lpm_data", "sensor_particle_stream",
+				"val_0.1", "val_0.3", "val_0.5");
+		try (FileChannelSink sink = new FileChannelSink(dir)) {
+			ZoneWriter a = sink.openZone(esd, List.of(new Sensor("esd", "ESD-001", "A"), new Sensor("esd", "ESD-002", "A")));
+			ZoneWriter b = sink.openZone(particle, List.of(new Sensor("particle", "LPM-001", "A")));
+			for (int i = 0; i < 10; i++) {
+				a.write(0, T0 + i, i);
+				if (i % 2 == 0) a.write(1, T0 + i, -i);
+				b.write(0, T0 + i, i, i * 10, i * 100);
+			}
+		}
+		List<String> rows = new ArrayList<>();
+		long last = Long.MIN_VALUE;
+		try (CsvReadingSource source = CsvReadingSource.open(dir)) {
+			while (source.next()) {
+				assertThat(source.epochSecond()).isGreaterThanOrEqualTo(last);
+				last = source.epochSecond();
+				StringBuilder row = new StringBuilder().append(source.epochSecond() - T0).append(' ').append(source.sensorId());
+				for (int c = 0; c < source.channels(); c++) row.append(' ').append(source.column(c)).append('=').append(source.value(c));
+				rows.add(row.toString());
+			}
+		}
+		assertThat(rows).hasSize(25);
+		// 같은 초는 시계열(센서 ID) 순서
+		assertThat(rows.subList(0, 3)).containsExactly("0 ESD-001 val=0.0", "0 ESD-002 val=0.0",
+				"0 LPM-001 val_0.1=0.0 val_0.3=0.0 val_0.5=0.0");
+		assertThat(rows.get(24)).isEqualTo("9 LPM-001 val_0.1=9.0 val_0.3=90.0 val_0.5=900.0");
+	}
+
+	@Test
+	void readsRollingFilesOfOneSensorInPathOrder(@TempDir Path dir) throws Exception {
+		String header = "timestamp,sensor_type,sensor_id,unit,val\n";
+		Files.createDirectories(dir.resolve("2025-07-15"));
+		Files.createDirectories(dir.resolve("2025-07-16"));
+		Files.writeString(dir.resolve("2025-07-15/TEMP-001_23:00~00:00.csv"), header
+				+ "2025-07-15T23:59:59Z,temperature,TEMP-001,C,1\n");
+		Files.writeString(dir.resolve("2025-07-16/TEMP-001_00:00~01:00.csv"), header
+				+ "2025-07-16T00:00:00Z,temperature,TEMP-001,C,2\n");
+		Files.writeString(dir.resolve("2025-07-16/TEMP-002_00:00~01:00.csv"), header);
+		List<Double> values = new ArrayList<>();
+		try (CsvReadingSource source = CsvReadingSource.open(dir)) {
+			while (source.next()) values.add(source.value(0));
+		}
+		assertThat(values).containsExactly(1.0, 2.0);
+		assertThat(CsvReadingSource.seriesKey(Path.of("TEMP-001_23:00~00:00_1.csv"))).isEqualTo("TEMP-001");
+	}
+
+	@Test
+	void rejectsRowsOutOfTimeOrder(@TempDir Path dir) throws Exception {
+		Files.writeString(dir.resolve("A.csv"), "timestamp,sensor_type,sensor_id,unit,val\n"
+				+ "2025-07-15T09:32:01Z,esd,ESD-001,V,1\n"
+				+ "2025-07-15T09:32:00Z,esd,ESD-002,V,1\n");
+		assertThatThrownBy(() -> {
+			try (CsvReadingSource source = CsvReadingSource.open(dir)) {
+				while (source.next()) {
+					source.value(0);
+				}
+			}
+		}).isInstanceOf(IOException.class);
+	}
+
+	@Test
+	void parsesSensorAndMesTimestamps() {
+		assertThat(CsvTime.epochSecond("2025-07-15T09:32:00Z")).isEqualTo(T0);
+		assertThat(CsvTime.epochMicros("2025-07-15 09:32:00.000123")).isEqualTo(T0 * 1_000_000L + 123);
+		assertThat(CsvTime.epochMicros("2025-07-15 09:32:00.5")).isEqualTo(T0 * 1_000_000L + 500_000);
+		assertThat(CsvTime.epochSecond("1969-12-31T23:59:59Z")).isEqualTo(-1);
+		assertThat(CsvTime.epochSecond("2024-02-29T00:00:00Z")).isEqualTo(1709164800L);
+		assertThatThrownBy(() -> CsvTime.epochMicros("2025/07/15 09:32:00")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
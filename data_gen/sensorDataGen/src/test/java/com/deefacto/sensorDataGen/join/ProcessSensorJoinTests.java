@@ -0,0 +1,157 @@
+package com.deefacto.sensorDataGen.join;
+
+import com.deefacto.sensorDataGen.RandomSource;
+import com.deefacto.sensorDataGen.ReadingCursor;
+import com.deefacto.sensorDataGen.SensorFleet;
+import com.deefacto.sensorDataGen.mes.MesCsvWriter;
+import com.deefacto.sensorDataGen.mes.MesSimulator;
+import com.deefacto.sensorDataGen.mes.ProcessStage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ProcessSensorJoinTests {
+
+	private static final LocalDateTime START = LocalDateTime.of(2025, 7, 15, 9, 32, 0);
+	private static final int SECONDS = 1800;
+
+	// 센서 값 한 행 (비교용)
+	private static final class Row {
+		final int sensor;
+		final long micros;
+		final double[] values;
+
+		Row(int sensor, long micros, double[] values) {
+			this.sensor = sensor;
+			this.micros = micros;
+			this.values = values;
+		}
+	}
+
+	@Test
+	void matchesBruteForceJoin(@TempDir Path dir) throws Exception {
+		SensorFleet fleet = SensorFleet.synthetic(2, 2);
+		// 공정 A -> zone Z001, 공정 Z002 -> 같은 이름 zone, 공정 X -> 센서 없음
+		List<ProcessStage> stages = List.of(
+				new ProcessStage("A", "test", SensorFleet.expand("M-01..M-03"), 30_000_000L, 300_000_000L, 0.9, 0.1, 0),
+				new ProcessStage("Z002", "test", SensorFleet.expand("N-01..N-02"), 10_000_000L, 120_000_000L, 0.9, 0.1, 0),
+				new ProcessStage("X", "test", List.of("X-01"), 10_000_000L, 20_000_000L, 1, 0, 0));
+		MesSimulator simulator = new MesSimulator(stages, RandomSource.of(5), 20);
+		try (MesCsvWriter writer = new MesCsvWriter(dir, stages, START, 60)) {
+			simulator.run(60, 1, writer::write);
+		}
+
+		Map<String, double[]> joined = new HashMap<>();
+		ProcessSensorJoin.Summary summary;
+		try (MesRunReader runs = MesRunReader.open(dir);
+			 ReadingSource readings = new CursorReadingSource(
+					 ReadingCursor.builder(fleet, RandomSource.of(9)).range(START, SECONDS).open())) {
+			summary = new ProcessSensorJoin(fleet, Map.of("A", "Z001")).run(runs, readings,
+					(run, sensor, column, count, min, max, mean) -> {
+						double[] previous = joined.put(run.productId + run.stage + run.startText + sensor.sensorId + column,
+								new double[]{count, min, max, mean});
+						assertThat(previous).isNull();
+					});
+		}
+
+		// 같은 입력을 모두 메모리에 올려 작업마다 구간을 직접 훑는다
+		List<Row> rows = new ArrayList<>();
+		List<String[]> columns = new ArrayList<>();
+		for (int s = 0; s < fleet.size(); s++) columns.add(null);
+		try (ReadingSource readings = new CursorReadingSource(
+				ReadingCursor.builder(fleet, RandomSource.of(9)).range(START, SECONDS).open())) {
+			while (readings.next()) {
+				int sensor = fleet.sensorIndex(readings.sensorId());
+				double[] values = new double[readings.channels()];
+				String[] names = new String[readings.channels()];
+				for (int c = 0; c < values.length; c++) {
+					values[c] = readings.value(c);
+					names[c] = readings.column(c);
+				}
+				columns.set(sensor, names);
+				rows.add(new Row(sensor, readings.epochSecond() * 1_000_000L, values));
+			}
+		}
+		int runCount = 0;
+		int expectedRows = 0;
+		try (MesRunReader runs = MesRunReader.open(dir)) {
+			for (ProcessRun run = runs.next(); run != null; run = runs.next()) {
+				runCount++;
+				int zone = fleet.zoneIndex(run.stage.equals("A") ? "Z001" : run.stage);
+				for (int s = 0; s < fleet.size(); s++) {
+					if (zone < 0 || fleet.zoneOf(s) != zone) continue;
+					for (int c = 0; c < columns.get(s).length; c++) {
+						long count = 0;
+						double min = Double.POSITIVE_INFINITY;
+						double max = Double.NEGATIVE_INFINITY;
+						double sum = 0;
+						for (Row row : rows) {
+							if (row.sensor != s || row.micros < run.startMicros || row.micros > run.endMicros) continue;
+							count++;
+							min = Math.min(min, row.values[c]);
+							max = Math.max(max, row.values[c]);
+							sum += row.values[c];
+						}
+						double[] actual = joined.get(run.productId + run.stage + run.startText
+								+ fleet.sensor(s).sensorId + columns.get(s)[c]);
+						if (count == 0) {
+							assertThat(actual).isNull();
+							continue;
+						}
+						expectedRows++;
+						assertThat(actual).isNotNull();
+						assertThat(actual[0]).isEqualTo(count);
+						assertThat(actual[1]).isEqualTo(min);
+						assertThat(actual[2]).isEqualTo(max);
+						assertThat(actual[3]).isCloseTo(sum / count, within(1e-6));
+					}
+				}
+			}
+		}
+		assertThat(summary.runs).isEqualTo(runCount);
+		assertThat(summary.readings).isEqualTo(rows.size());
+		assertThat(summary.unknownReadings).isZero();
+		// 일부 작업은 센서 데이터 구간 밖에서 끝나 조인되지 않는다
+		assertThat(summary.joinedRuns).isPositive().isLessThan(runCount);
+		assertThat(summary.rows).isEqualTo(expectedRows).isEqualTo(joined.size());
+	}
+
+	@Test
+	void writesJoinedRowsInRunEndOrder(@TempDir Path dir) throws Exception {
+		Files.writeString(dir.resolve("product_process_A.csv"), MesCsvWriter.HEADER
+				+ "Prod-00001,A,M-01,2025-07-15 09:32:00.000000,2025-07-15 09:32:05.000000,G\n"
+				+ "Prod-00002,A,M-02,2025-07-15 09:32:02.500000,2025-07-15 09:32:03.000000,B\n");
+		Path data = Files.createDirectories(dir.resolve("data/temperature"));
+		StringBuilder csv = new StringBuilder("timestamp,sensor_type,sensor_id,unit,val\n");
+		for (int i = 0; i < 8; i++) csv.append("2025-07-15T09:32:0").append(i).append("Z,temperature,T-1,C,").append(i).append('\n');
+		Files.writeString(data.resolve("T-1.csv"), csv);
+		Files.writeString(data.resolve("T-9.csv"), "timestamp,sensor_type,sensor_id,unit,val\n"
+				+ "2025-07-15T09:32:01Z,temperature,T-9,C,1\n");
+		SensorFleet fleet = SensorFleet.builder().add("temperature", "T-1", "A").build();
+
+		Path out = dir.resolve("joined.csv");
+		ProcessSensorJoin.Summary summary;
+		try (MesRunReader runs = MesRunReader.open(dir);
+			 ReadingSource readings = CsvReadingSource.open(dir.resolve("data"));
+			 JoinCsvWriter writer = new JoinCsvWriter(out)) {
+			summary = new ProcessSensorJoin(fleet).run(runs, readings, writer);
+		}
+		// 구간 양 끝 포함: 09:32:00~05 -> 0..5, 09:32:02.5~03 -> 3
+		assertThat(Files.readAllLines(out)).containsExactly(JoinCsvWriter.HEADER.trim(),
+				"Prod-00002,A,M-02,2025-07-15 09:32:02.500000,2025-07-15 09:32:03.000000,B,T-1,temperature,val,1,3.0,3.0,3.0",
+				"Prod-00001,A,M-01,2025-07-15 09:32:00.000000,2025-07-15 09:32:05.000000,G,T-1,temperature,val,6,0.0,5.0,2.5");
+		assertThat(summary.unknownReadings).isEqualTo(1);
+		assertThat(summary.joinedRuns).isEqualTo(2);
+	}
+
+}
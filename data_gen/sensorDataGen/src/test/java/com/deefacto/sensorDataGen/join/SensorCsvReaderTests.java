@@ -0,0 +1,153 @@
+package com.deefacto.sensorDataGen.join;
+
+import com.deefacto.sensorDataGen.Sensor;
+import com.deefacto.sensorDataGen.output.FileChannelSink;
+import com.deefacto.sensorDataGen.output.ZoneWriter;
+import com.deefacto.sensorDataGen.particle.ParticleCsvGenerator;
+import com.deefacto.sensorDataGen.temperature.TempCsvGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SensorCsvReaderTests {
+
+	private static final long T0 = 1752571920L; // 2025-07-15T09:32:00Z
+	private static final int ROWS = 5000; // 자정을 넘기도록 (날짜 캐시 갱신)
+
+	private static void writeSensorFiles(Path dir) throws IOException {
+		try (FileChannelSink sink = new FileChannelSink(dir)) {
+			ZoneWriter temp = sink.openZone(TempCsvGenerator.SPEC, List.of(
+					new Sensor("temperature", "TEMP-001", "A"), new Sensor("temperature", "TEMP-002", "A")));
+			ZoneWriter lpm = sink.openZone(ParticleCsvGenerator.SPEC, List.of(new Sensor("particle", "LPM-001", "A")));
+			for (int i = 0; i < ROWS; i++) {
+				long second = T0 + i * 13L;
+				temp.write(0, second, i * 25L - 10_000);
+				temp.write(1, second, -i);
+				lpm.write(0, second, i, i * 2L, i * 3L);
+			}
+		}
+	}
+
+	@Test
+	void readsTemperatureAndParticleFiles(@TempDir Path dir) throws Exception {
+		writeSensorFiles(dir);
+		SensorCsvReader.Series temp = SensorCsvReader.read(dir.resolve("temperature/TEMP-001.csv"));
+		assertThat(temp.sensorType).isEqualTo("temperature");
+		assertThat(temp.sensorId).isEqualTo("TEMP-001");
+		assertThat(temp.unit).isEqualTo("°C");
+		assertThat(temp.columns).containsExactly("val");
+		assertThat(temp.size).isEqualTo(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			assertThat(temp.epochSeconds[i]).isEqualTo(T0 + i * 13L);
+			assertThat(temp.value(i, 0)).isEqualTo((i * 25L - 10_000) / 100.0);
+		}
+		SensorCsvReader.Series lpm = SensorCsvReader.read(dir.resolve("particle/LPM-001.csv"));
+		assertThat(lpm.channels()).isEqualTo(3);
+		assertThat(lpm.value(ROWS - 1, 0)).isEqualTo(ROWS - 1);
+		assertThat(lpm.value(ROWS - 1, 2)).isEqualTo((ROWS - 1) * 3);
+
+		// 같은 파일을 CsvReadingSource로 읽은 값과 같다
+		int row = 0;
+		try (CsvReadingSource source = CsvReadingSource.open(dir.resolve("particle"))) {
+			while (source.next()) {
+				assertThat(source.epochSecond()).isEqualTo(lpm.epochSeconds[row]);
+				for (int c = 0; c < 3; c++) assertThat(source.value(c)).isEqualTo(lpm.value(row, c));
+				row++;
+			}
+		}
+		assertThat(row).isEqualTo(ROWS);
+	}
+
+	@Test
+	void smallChunksCarryLinesAcrossBoundaries(@TempDir Path dir) throws Exception {
+		writeSensorFiles(dir);
+		Path file = dir.resolve("temperature/TEMP-002.csv");
+		SensorCsvReader.Series whole = SensorCsvReader.read(file);
+		SensorCsvReader.Series chunked = SensorCsvReader.read(file, 100);
+		assertThat(chunked.size).isEqualTo(ROWS);
+		assertThat(chunked.epochSeconds).isEqualTo(whole.epochSeconds);
+		assertThat(chunked.values).isEqualTo(whole.values);
+		// 창보다 긴 줄은 창을 늘려 읽는다
+		SensorCsvReader.Series tiny = SensorCsvReader.read(file, 16);
+		assertThat(tiny.epochSeconds).isEqualTo(whole.epochSeconds);
+		assertThat(tiny.values).isEqualTo(whole.values);
+	}
+
+	@Test
+	void handlerReceivesRowsWithoutTrailingNewlineAndUnusualNumbers(@TempDir Path dir) throws Exception {
+		Path file = dir.resolve("X-1.csv");
+		Files.writeString(file, "timestamp,sensor_type,sensor_id,unit,val\r\n"
+				+ "2025-07-15T09:32:00Z,esd,X-1,V,-0.125\r\n"
+				+ "\r\n"
+				+ "2025-07-15T09:32:01.999Z,esd,X-1,V,1e3\r\n"
+				+ "2024-02-29T23:59:59Z,esd,X-1,V,+7");
+		List<String> rows = new ArrayList<>();
+		SensorCsvReader.Series info = SensorCsvReader.read(file, (second, values) -> rows.add(second + "=" + values[0]));
+		assertThat(rows).containsExactly(T0 + "=-0.125", (T0 + 1) + "=1000.0", "1709251199=7.0");
+		assertThat(info.size).isEqualTo(3);
+		assertThat(info.sensorId).isEqualTo("X-1");
+
+		Files.writeString(file, "timestamp,sensor_type,sensor_id,unit,val\n2025-07-15T09:32:00Z,esd,X-1,V,abc\n");
+		assertThatThrownBy(() -> SensorCsvReader.read(file)).isInstanceOf(IOException.class).hasMessageContaining(":2:");
+		Files.writeString(file, "timestamp,sensor_type,sensor_id,unit,val\n2025-07-15T09:32:00Z,esd,X-1\n");
+		assertThatThrownBy(() -> SensorCsvReader.read(file)).isInstanceOf(IOException.class);
+	}
+
+	@Test
+	void rejectsRowsOfAnotherSensor(@TempDir Path dir) throws Exception {
+		// zone 단위 파일(PER_ZONE)처럼 센서가 여러 개면 첫 행의 센서로 묶지 않고 오류 (id 길이가 같거나 달라도)
+		Path file = dir.resolve("zone-A.csv");
+		String header = "timestamp,sensor_type,sensor_id,unit,val\n";
+		String first = "2025-07-15T09:32:00Z,esd,X-1,V,1.0\n";
+		for (String other : List.of("2025-07-15T09:32:00Z,esd,X-2,V,2.0\n", "2025-07-15T09:32:00Z,esd,X-10,V,2.0\n",
+				"2025-07-15T09:32:00Z,esd,X,V,2.0\n", "2025-07-15T09:32:00Z,esd,X-1,kV,2.0\n")) {
+			Files.writeString(file, header + first + first + other);
+			assertThatThrownBy(() -> SensorCsvReader.read(file)).as(other).isInstanceOf(IOException.class)
+					.hasMessageContaining(":4:");
+		}
+	}
+
+	@Test
+	void parsesLongMantissasExactlyLikeParseDouble(@TempDir Path dir) throws Exception {
+		// 1~20자리 mantissa, 소수점 위치와 부호는 무작위 (15자리를 넘으면 double로 정확히 표현되지 않는 mantissa가 생긴다)
+		SplittableRandom random = new SplittableRandom(25);
+		List<String> texts = new ArrayList<>();
+		StringBuilder csv = new StringBuilder("timestamp,sensor_type,sensor_id,unit,val\n");
+		for (int i = 0; i < 20_000; i++) {
+			StringBuilder digits = new StringBuilder();
+			int count = random.nextInt(1, 21);
+			for (int d = 0; d < count; d++) digits.append((char) ('0' + random.nextInt(10)));
+			int point = random.nextInt(count + 1);
+			String text = (random.nextBoolean() ? "-" : "") + digits.substring(0, point)
+					+ (point < count ? "." + digits.substring(point) : "");
+			texts.add(text);
+			csv.append("2025-07-15T09:32:00Z,esd,X-1,V,").append(text).append('\n');
+		}
+		Path file = dir.resolve("X-1.csv");
+		Files.writeString(file, csv);
+		List<Double> values = new ArrayList<>();
+		SensorCsvReader.read(file, (second, v) -> values.add(v[0]));
+		assertThat(values).hasSize(texts.size());
+		for (int i = 0; i < texts.size(); i++) {
+			assertThat(values.get(i)).as(texts.get(i)).isEqualTo(Double.parseDouble(texts.get(i)));
+		}
+	}
+
+	@Test
+	void readsDirectoryInParallelInPathOrder(@TempDir Path dir) throws Exception {
+		writeSensorFiles(dir);
+		List<SensorCsvReader.Series> series = SensorCsvReader.readAll(dir, 3);
+		assertThat(series).extracting(s -> s.sensorId).containsExactly("LPM-001", "TEMP-001", "TEMP-002");
+		assertThat(series).allMatch(s -> s.size == ROWS);
+	}
+
+}
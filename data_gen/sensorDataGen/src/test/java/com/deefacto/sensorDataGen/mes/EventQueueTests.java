@@ -0,0 +1,36 @@
+package com.deefacto.sensorDataGen.mes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventQueueTests {
+
+	@Test
+	void popsByTimeThenInsertionOrder() {
+		EventQueue events = new EventQueue();
+		SplittableRandom rand = new SplittableRandom(1);
+		for (int i = 0; i < 10_000; i++) {
+			events.add(rand.nextInt(100), i);
+		}
+		List<long[]> popped = new ArrayList<>();
+		while (!events.isEmpty()) {
+			popped.add(new long[]{events.peekTime(), events.peekPayload()});
+			events.remove();
+		}
+		assertThat(popped).hasSize(10_000);
+		for (int i = 1; i < popped.size(); i++) {
+			long[] a = popped.get(i - 1);
+			long[] b = popped.get(i);
+			// 같은 시각이면 먼저 등록한 사건(작은 payload)이 먼저
+			assertThat(a[0] < b[0] || (a[0] == b[0] && a[1] < b[1])).isTrue();
+		}
+		assertThatThrownBy(events::remove).isInstanceOf(IllegalStateException.class);
+	}
+
+}
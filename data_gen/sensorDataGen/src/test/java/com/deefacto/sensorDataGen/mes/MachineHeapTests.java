@@ -0,0 +1,47 @@
+package com.deefacto.sensorDataGen.mes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MachineHeapTests {
+
+	@Test
+	void pollsLongestIdleMachineLikeLinearScan() {
+		int machines = 500;
+		long[] freeAt = new long[machines];
+		boolean[] idle = new boolean[machines];
+		MachineHeap heap = new MachineHeap(freeAt, machines);
+		SplittableRandom rand = new SplittableRandom(5);
+		for (int m = 0; m < machines; m++) {
+			heap.add(m);
+			idle[m] = true;
+		}
+		long now = 0;
+		for (int step = 0; step < 100_000; step++) {
+			now += rand.nextInt(3);
+			if (!heap.isEmpty() && rand.nextBoolean()) {
+				// 선형 탐색 기준: 쉬기 시작한 시각이 가장 이른 빈 장비, 같으면 앞 번호
+				int expected = -1;
+				for (int m = 0; m < machines; m++) {
+					if (idle[m] && (expected < 0 || freeAt[m] < freeAt[expected])) expected = m;
+				}
+				int m = heap.poll();
+				assertThat(m).isEqualTo(expected);
+				idle[m] = false;
+			} else {
+				int m = rand.nextInt(machines);
+				if (idle[m]) continue;
+				freeAt[m] = now;
+				idle[m] = true;
+				heap.add(m);
+			}
+		}
+		while (heap.poll() >= 0) {
+		}
+		assertThat(heap.size()).isZero();
+	}
+
+}
@@ -0,0 +1,133 @@
+package com.deefacto.sensorDataGen.mes;
+
+import com.deefacto.sensorDataGen.RandomSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MesSimulatorTests {
+
+	@Test
+	void machinesWorkInParallelWithoutOverlap() {
+		MesSimulator simulator = new MesSimulator(ProcessStage.defaults(), RandomSource.of(42));
+		MesBatch batch = simulator.simulate(0, 0, 2000);
+		for (int s = 0; s < 3; s++) {
+			ProcessLog log = batch.logs[s];
+			ProcessStage stage = simulator.stages().get(s);
+			long[] lastEnd = new long[stage.machineCount()];
+			boolean[] used = new boolean[stage.machineCount()];
+			for (int i = 0; i < log.size(); i++) {
+				int m = log.machine(i);
+				// 기록은 시작 시각 순서, 한 장비의 작업은 겹치지 않는다
+				if (i > 0) assertThat(log.start(i)).isGreaterThanOrEqualTo(log.start(i - 1));
+				assertThat(log.start(i)).isGreaterThanOrEqualTo(lastEnd[m]);
+				long duration = log.end(i) - log.start(i);
+				assertThat(duration).isBetween(stage.minMicros, stage.maxMicros);
+				lastEnd[m] = log.end(i);
+				used[m] = true;
+			}
+			assertThat(used).containsOnly(true);
+		}
+		// 시작 시각에 A 공정 장비 18대가 모두 작업을 시작
+		ProcessLog a = batch.logs[0];
+		int atStart = 0;
+		while (a.start(atStart) == 0) atStart++;
+		assertThat(atStart).isEqualTo(18);
+	}
+
+	@Test
+	void productsFollowRouting() {
+		MesSimulator simulator = new MesSimulator(ProcessStage.defaults(), RandomSource.of(7));
+		MesBatch batch = simulator.simulate(0, 0, 5000);
+		Map<Integer, List<String>> history = new HashMap<>();
+		Map<Integer, Long> lastEnd = new HashMap<>();
+		// 제품별로 공정 시작 순서대로 모으기 (A 전체 -> B 전체 -> C 전체 순으로 읽어도 제품 안에서는 시간 순)
+		for (int s = 0; s < 3; s++) {
+			ProcessLog log = batch.logs[s];
+			for (int i = 0; i < log.size(); i++) {
+				int p = log.product(i);
+				Long previous = lastEnd.get(p);
+				if (previous != null) assertThat(log.start(i)).isGreaterThanOrEqualTo(previous);
+				lastEnd.put(p, log.end(i));
+				history.computeIfAbsent(p, k -> new ArrayList<>()).add("ABC".charAt(s) + "" + log.quality(i).code);
+			}
+		}
+		assertThat(history).hasSize(5000);
+		int scrappedAtA = 0;
+		for (List<String> steps : history.values()) {
+			String path = String.join(" ", steps);
+			// A, B에서 B(불량)면 끝, C는 R이면 다시, G/B로 끝
+			assertThat(path).matches("AB|AG BB|AG BG (CR )*C[GB]");
+			if (path.equals("AB")) scrappedAtA++;
+		}
+		assertThat(scrappedAtA).isBetween(250, 450); // 7% of 5000
+		assertThat(batch.records()).isEqualTo(batch.logs[0].size() + batch.logs[1].size() + batch.logs[2].size());
+	}
+
+	@Test
+	void outputDoesNotDependOnWorkerCount(@TempDir Path dir) throws Exception {
+		List<ProcessStage> stages = ProcessStage.defaults();
+		Path one = write(dir.resolve("one"), stages, 1);
+		Path three = write(dir.resolve("three"), stages, 3);
+		for (ProcessStage stage : stages) {
+			byte[] a = Files.readAllBytes(one.resolve(MesCsvWriter.fileName(stage)));
+			byte[] b = Files.readAllBytes(three.resolve(MesCsvWriter.fileName(stage)));
+			assertThat(a).isEqualTo(b);
+		}
+		List<String> lines = Files.readAllLines(one.resolve("product_process_A.csv"));
+		assertThat(lines.get(0)).isEqualTo(MesCsvWriter.HEADER.trim());
+		assertThat(lines).hasSize(2501);
+		assertThat(lines.get(1)).matches("Prod-\\d{5},A,AST-1\\d\\d,2025-01-01 08:00:00\\.000000,"
+				+ "2025-01-01 \\d\\d:\\d\\d:\\d\\d\\.\\d{6},[GB]");
+		// 배치는 앞 배치가 끝난 뒤 시작하므로 파일 전체가 시작 시각 순서
+		for (int i = 2; i < lines.size(); i++) {
+			assertThat(lines.get(i).split(",")[3]).isGreaterThanOrEqualTo(lines.get(i - 1).split(",")[3]);
+		}
+	}
+
+	private static Path write(Path dir, List<ProcessStage> stages, int workers) throws Exception {
+		MesSimulator simulator = new MesSimulator(stages, RandomSource.of(3), 400);
+		try (MesCsvWriter writer = new MesCsvWriter(dir, stages, MesSimulator.DEFAULT_START, 2500)) {
+			simulator.run(2500, workers, writer::write);
+		}
+		return dir;
+	}
+
+	@Test
+	void writesLongStageAndMachineNames(@TempDir Path dir) throws Exception {
+		// 공정 파일은 사용자가 고치므로 이름 길이에 제한이 없다
+		String name = "S".repeat(200); // 파일 이름에도 들어가므로 파일 시스템 한도(255) 안에서
+		String machine = "M".repeat(400);
+		List<ProcessStage> stages = List.of(new ProcessStage(name, "long", List.of(machine + "-1", machine + "-2"),
+				60_000_000L, 120_000_000L, 0.9, 0.1, 0));
+		MesSimulator simulator = new MesSimulator(stages, RandomSource.of(5));
+		try (MesCsvWriter writer = new MesCsvWriter(dir, stages, MesSimulator.DEFAULT_START, 10, true)) {
+			simulator.run(10, 1, writer::write);
+		}
+		List<String> lines = Files.readAllLines(dir.resolve(MesCsvWriter.fileName(stages.get(0))));
+		assertThat(lines).hasSize(11);
+		assertThat(lines.get(1)).startsWith("Prod-").contains("," + name + "," + machine + "-");
+	}
+
+	@Test
+	void parsesStageFile() throws Exception {
+		List<ProcessStage> stages = ProcessStage.parse(new StringReader(
+				"# 공정,이름,장비,최소,최대,G,B,R\nX,test,M-01..M-03;M-10,0.5,1,0.8,0.1,0.1\n"));
+		assertThat(stages).hasSize(1);
+		assertThat(stages.get(0).machines).containsExactly("M-01", "M-02", "M-03", "M-10");
+		assertThat(stages.get(0).minMicros).isEqualTo(30_000_000L);
+		assertThatThrownBy(() -> ProcessStage.parse(new StringReader("X,test,M-01,1,2,0.5,0.1,0.1\n")))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
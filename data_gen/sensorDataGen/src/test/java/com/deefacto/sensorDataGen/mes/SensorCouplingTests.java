@@ -0,0 +1,169 @@
+package com.deefacto.sensorDataGen.mes;
+
+import com.deefacto.sensorDataGen.NullSink;
+import com.deefacto.sensorDataGen.RandomSource;
+import com.deefacto.sensorDataGen.Sensor;
+import com.deefacto.sensorDataGen.SensorFleet;
+import com.deefacto.sensorDataGen.SensorSimulationEngine;
+import com.deefacto.sensorDataGen.SensorSpec;
+import com.deefacto.sensorDataGen.output.ZoneWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SensorCouplingTests {
+
+	private static final LocalDateTime START = LocalDateTime.of(2025, 7, 15, 9, 32, 0);
+
+	// 시작 후 [from, to)초 동안 모든 공정이 이상인 가짜 센서 상태
+	static class WindowCoupling implements ProcessCoupling {
+		final long from;
+		final long to;
+		long seconds;
+		long lastAdvance = Long.MIN_VALUE;
+
+		WindowCoupling(long from, long to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		public void advanceTo(long micros) {
+			assertThat(micros).isGreaterThanOrEqualTo(lastAdvance); // 시계는 되돌아가지 않는다
+			lastAdvance = micros;
+			while (seconds * 1_000_000L <= micros) seconds++;
+		}
+
+		@Override
+		public long exposure(int stage) {
+			// (0 .. seconds-1) 중 [from, to)에 든 초
+			return Math.max(0, Math.min(seconds, to) - from);
+		}
+	}
+
+	@Test
+	void withoutExposureMatchesUncoupledRun() throws Exception {
+		List<ProcessStage> stages = ProcessStage.defaults();
+		MesSimulator simulator = new MesSimulator(stages, RandomSource.of(11), 300);
+		List<MesBatch> coupled = new ArrayList<>();
+		simulator.runCoupled(900, new WindowCoupling(0, 0), DefectModel.DEFAULT, (batch, offset) -> coupled.add(batch));
+		assertThat(coupled).hasSize(3);
+		for (MesBatch batch : coupled) {
+			MesBatch plain = simulator.simulate(batch.index, batch.firstProduct, batch.products);
+			for (int s = 0; s < stages.size(); s++) {
+				assertThat(batch.logs[s].size()).isEqualTo(plain.logs[s].size());
+				for (int i = 0; i < plain.logs[s].size(); i++) {
+					assertThat(batch.logs[s].end(i)).isEqualTo(plain.logs[s].end(i));
+					assertThat(batch.logs[s].quality(i)).isEqualTo(plain.logs[s].quality(i));
+					assertThat(batch.logs[s].exposure(i)).isZero();
+				}
+			}
+		}
+	}
+
+	@Test
+	void exposureCountsAnomalousSecondsInsideRunWindow() throws Exception {
+		List<ProcessStage> stages = ProcessStage.defaults();
+		MesSimulator simulator = new MesSimulator(stages, RandomSource.of(3), 200);
+		long from = 20_000;
+		long to = 30_000;
+		WindowCoupling window = new WindowCoupling(from, to);
+		long[] exposed = new long[1];
+		long[] end = new long[1];
+		simulator.runCoupled(600, window, DefectModel.NONE, (batch, offset) -> {
+			for (ProcessLog log : batch.logs) {
+				for (int i = 0; i < log.size(); i++) {
+					long start = offset + log.start(i);
+					long stop = offset + log.end(i);
+					// 시각이 (start, stop]인 초 k 중 [from, to)에 든 초
+					long first = Math.max(Math.floorDiv(start, 1_000_000L) + 1, from);
+					long last = Math.min(Math.floorDiv(stop, 1_000_000L), to - 1);
+					assertThat(log.exposure(i)).isEqualTo(Math.max(0, last - first + 1));
+					if (log.exposure(i) > 0) exposed[0]++;
+				}
+			}
+			end[0] = offset + batch.makespan;
+		});
+		assertThat(exposed[0]).isPositive();
+		// 마지막 작업 종료 시각까지 진행
+		assertThat(window.lastAdvance).isEqualTo(end[0]);
+	}
+
+	@Test
+	void sensorAnomaliesRaiseDefectRate(@TempDir Path dir) throws Exception {
+		// zone 하나짜리 센서 배치, 짧은 공정 A/B 모두 zone Z001에서 작업 (이상 구간과 겹치지 않는 작업도 생기도록)
+		SensorFleet fleet = SensorFleet.synthetic(1, 1);
+		List<ProcessStage> stages = ProcessStage.parse(new StringReader(
+				"A,test,M-01..M-03,0.1,0.5,0.93,0.07,0\nB,test,N-01..N-02,0.1,0.3,0.93,0.07,0\n"));
+		RandomSource random = RandomSource.of(5);
+		MesSimulator simulator = new MesSimulator(stages, random, 500);
+		long[] good = new long[2]; // [노출 없음, 노출 있음]
+		long[] total = new long[2];
+		try (MesCsvWriter writer = new MesCsvWriter(dir, stages, START, 1000, true);
+			 SensorCoupling coupling = new SensorCoupling(SensorSimulationEngine.generators(fleet, random), stages,
+					 Map.of("A", "Z001", "B", "Z001"), START, new NullSink())) {
+			simulator.runCoupled(1000, coupling, new DefectModel(0.1, 0), (batch, offset) -> {
+				writer.write(batch, offset);
+				for (ProcessLog log : batch.logs) {
+					for (int i = 0; i < log.size(); i++) {
+						int k = log.exposure(i) > 0 ? 1 : 0;
+						total[k]++;
+						if (log.quality(i) == Quality.GOOD) good[k]++;
+					}
+				}
+			});
+			assertThat(coupling.seconds()).isPositive();
+		}
+		assertThat(total[0]).isPositive();
+		assertThat(total[1]).isPositive();
+		// 노출 없는 작업은 기본 G 비율(93%), 노출된 작업은 그보다 뚜렷하게 낮다
+		assertThat((double) good[0] / total[0]).isBetween(0.9, 0.96);
+		assertThat((double) good[1] / total[1]).isLessThan((double) good[0] / total[0] - 0.1);
+		List<String> lines = Files.readAllLines(dir.resolve("product_process_A.csv"));
+		assertThat(lines.get(0)).isEqualTo(MesCsvWriter.EXPOSURE_HEADER.trim());
+		assertThat(lines.get(1)).matches("Prod-\\d{5},A,M-0\\d,2025-07-15 09:32:00\\.000000,.*,[GB],\\d+");
+	}
+
+	@Test
+	void closesOpenedGeneratorsWhenOpeningFails() {
+		// 네 번째 zone 출력부터 열기 실패
+		NullSink sink = new NullSink() {
+			private int opened;
+
+			@Override
+			public ZoneWriter openZone(SensorSpec spec, List<Sensor> sensors) throws IOException {
+				if (++opened > 3) throw new IOException("disk full");
+				return super.openZone(spec, sensors);
+			}
+		};
+		assertThatThrownBy(() -> new SensorCoupling(SensorSimulationEngine.generators(SensorFleet.defaultFleet(),
+				RandomSource.of(1)), ProcessStage.defaults(), START, sink))
+				.isInstanceOf(IOException.class).hasMessage("disk full");
+		assertThat(sink.openWriters()).isZero();
+	}
+
+	@Test
+	void defectModelKeepsBaseProbabilitiesWithoutExposure() {
+		ProcessStage stage = ProcessStage.defaults().get(2); // G/B/R = .88/.07/.05
+		DefectModel model = new DefectModel(0.01, 0.01);
+		assertThat(model.quality(stage, 0, 0.069)).isEqualTo(Quality.BAD);
+		assertThat(model.quality(stage, 0, 0.071)).isEqualTo(Quality.REWORK);
+		assertThat(model.quality(stage, 0, 0.121)).isEqualTo(Quality.GOOD);
+		// 100초 노출: 불량 위험 1 - e^-1 = 0.632 -> P(B) = .07 + .88 * .632 = 0.626
+		assertThat(model.quality(stage, 100, 0.62)).isEqualTo(Quality.BAD);
+		assertThat(model.quality(stage, 100, 0.63)).isEqualTo(Quality.REWORK);
+		assertThat(model.quality(stage, 100, 0.99)).isEqualTo(Quality.GOOD);
+	}
+
+}
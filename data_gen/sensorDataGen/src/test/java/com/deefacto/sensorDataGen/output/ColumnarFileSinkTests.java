@@ -0,0 +1,127 @@
+package com.deefacto.sensorDataGen.output;
+
+import com.deefacto.sensorDataGen.Sensor;
+import com.deefacto.sensorDataGen.SensorSpec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnarFileSinkTests {
+
+	private static final SensorSpec ESD = new SensorSpec("esd", "V", 0, "esd", "esd_data", "sensor_esd_stream", "val");
+	private static final SensorSpec PARTICLE = new SensorSpec("particle", "PPM", 0, "lpm", "lpm_data",
+			"sensor_particle_stream", "val_0.1µm", "val_0.3µm", "val_0.5µm");
+	private static final List<Sensor> SENSORS = Arrays.asList(
+			new Sensor("esd", "ESD-001", "A"),
+			new Sensor("esd", "ESD-002", "A"));
+	private static final List<Sensor> PARTICLES = List.of(new Sensor("particle", "LPM-001", "B"));
+	private static final long T0 = 1752571920L; // 2025-07-15T09:32:00Z
+
+	@Test
+	void roundTripsHourlyFiles(@TempDir Path dir) throws Exception {
+		// 09:32 ~ 11:31:59, 랜덤 워크 값 (음수 포함)
+		long[][] esd = walk(2, 7200, 1);
+		long[][] lpm = walk(3, 7200, 2);
+		try (ColumnarFileSink sink = new ColumnarFileSink(dir)) {
+			ZoneWriter esdWriter = sink.openZone(ESD, SENSORS);
+			ZoneWriter lpmWriter = sink.openZone(PARTICLE, PARTICLES);
+			for (int i = 0; i < 7200; i++) {
+				esdWriter.write(0, T0 + i, esd[0][i]);
+				esdWriter.write(1, T0 + i, esd[1][i]);
+				lpmWriter.write(0, T0 + i, lpm[0][i], lpm[1][i], lpm[2][i]);
+			}
+		}
+		Path day = dir.resolve("esd/2025-07-15");
+		try (Stream<Path> files = Files.list(day)) {
+			assertThat(files).hasSize(6);
+		}
+		ColumnarSeries first = ColumnarFormat.read(day.resolve("ESD-001_09:00~10:00.scol"));
+		assertThat(first.sensorType).isEqualTo("esd");
+		assertThat(first.sensorId).isEqualTo("ESD-001");
+		assertThat(first.zoneId).isEqualTo("A");
+		assertThat(first.unit).isEqualTo("V");
+		assertThat(first.columns).containsExactly("val");
+		assertThat(first.size()).isEqualTo(28 * 60);
+		assertThat(first.epochSeconds[0]).isEqualTo(T0);
+		assertThat(first.epochSeconds[first.size() - 1]).isEqualTo(T0 + 28 * 60 - 1);
+		assertThat(first.values[0]).isEqualTo(Arrays.copyOfRange(esd[0], 0, 28 * 60));
+
+		ColumnarSeries second = ColumnarFormat.read(day.resolve("ESD-002_10:00~11:00.scol"));
+		assertThat(second.size()).isEqualTo(3600);
+		assertThat(second.epochSeconds[0]).isEqualTo(T0 + 28 * 60);
+		assertThat(second.values[0]).isEqualTo(Arrays.copyOfRange(esd[1], 28 * 60, 28 * 60 + 3600));
+
+		ColumnarSeries particle = ColumnarFormat.read(dir.resolve("lpm/2025-07-15/LPM-001_11:00~12:00.scol"));
+		assertThat(particle.columns).containsExactly("val_0_1um", "val_0_3um", "val_0_5um");
+		assertThat(particle.size()).isEqualTo(32 * 60);
+		for (int c = 0; c < 3; c++) {
+			assertThat(particle.values[c]).isEqualTo(Arrays.copyOfRange(lpm[c], 7200 - 32 * 60, 7200));
+		}
+	}
+
+	@Test
+	void keepsIrregularTimestamps() throws Exception {
+		ColumnarFormat.SeriesEncoder encoder = new ColumnarFormat.SeriesEncoder("temperature", "TEMP-001", "A", "°C", 2,
+				new String[] {"val"});
+		long[] seconds = {T0, T0 + 1, T0 + 2, T0 + 5, T0 + 6, T0 + 6, T0 + 4};
+		for (long t : seconds) encoder.add(t, 2125);
+		ColumnarSeries series = ColumnarFormat.decode(encoder.finish());
+		assertThat(series.epochSeconds).isEqualTo(seconds);
+		assertThat(series.unit).isEqualTo("°C");
+		assertThat(series.value(0, 3)).isEqualTo(21.25);
+	}
+
+	@Test
+	void rejectsCorruptFiles() {
+		assertThatThrownBy(() -> ColumnarFormat.decode("timestamp,val".getBytes()))
+				.isInstanceOf(IOException.class);
+	}
+
+	@Test
+	void isAnOrderOfMagnitudeSmallerThanCsv(@TempDir Path dir) throws Exception {
+		long[][] esd = walk(2, 3600, 3);
+		try (ColumnarFileSink columnar = new ColumnarFileSink(dir.resolve("scol"));
+			 RollingFileSink csv = new RollingFileSink(dir.resolve("csv"))) {
+			ZoneWriter a = columnar.openZone(ESD, SENSORS);
+			ZoneWriter b = csv.openZone(ESD, SENSORS);
+			for (int i = 0; i < 3600; i++) {
+				for (int s = 0; s < 2; s++) {
+					a.write(s, T0 + i, esd[s][i]);
+					b.write(s, T0 + i, esd[s][i]);
+				}
+			}
+		}
+		assertThat(size(dir.resolve("scol")) * 10).isLessThan(size(dir.resolve("csv")));
+	}
+
+	// 초마다 -3 ~ +3씩 움직이는 값
+	private static long[][] walk(int channels, int rows, long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+		long[][] values = new long[channels][rows];
+		for (long[] column : values) {
+			long v = random.nextInt(-500, 500);
+			for (int i = 0; i < rows; i++) {
+				v += random.nextInt(-3, 4);
+				column[i] = v;
+			}
+		}
+		return values;
+	}
+
+	private static long size(Path dir) throws IOException {
+		try (Stream<Path> files = Files.walk(dir)) {
+			return files.filter(Files::isRegularFile).mapToLong(f -> f.toFile().length()).sum();
+		}
+	}
+
+}
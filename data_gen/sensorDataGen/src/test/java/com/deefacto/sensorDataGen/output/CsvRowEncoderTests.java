@@ -0,0 +1,41 @@
+package com.deefacto.sensorDataGen.output;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvRowEncoderTests {
+
+	private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+
+	@Test
+	void matchesStringFormatOutput() {
+		CsvRowEncoder encoder = new CsvRowEncoder();
+		byte[] fields = CsvRowEncoder.fields("temperature", "TEMP-001", "°C");
+		LocalDateTime time = LocalDateTime.of(2024, 2, 28, 23, 59, 58);
+		for (int i = 0; i < 4; i++) {
+			LocalDateTime t = time.plusSeconds(i);
+			for (long hundredths : new long[]{2125, 2100, 5, 0, -75}) {
+				int len = encoder.encode(t.toEpochSecond(ZoneOffset.UTC), fields, hundredths, 2);
+				String expected = String.format("%s,temperature,TEMP-001,°C,%.2f\n", t.format(FORMATTER), hundredths / 100.0);
+				assertThat(new String(encoder.buffer(), 0, len, StandardCharsets.UTF_8)).isEqualTo(expected);
+			}
+		}
+	}
+
+	@Test
+	void encodesThreeIntegerColumns() {
+		CsvRowEncoder encoder = new CsvRowEncoder();
+		byte[] fields = CsvRowEncoder.fields("particle", "LPM-001", "PPM");
+		long epochSecond = LocalDateTime.of(2025, 7, 15, 9, 32, 0).toEpochSecond(ZoneOffset.UTC);
+		int len = encoder.encode(epochSecond, fields, 922, 89, -1);
+		assertThat(new String(encoder.buffer(), 0, len, StandardCharsets.UTF_8))
+				.isEqualTo("2025-07-15T09:32:00Z,particle,LPM-001,PPM,922,89,-1\n");
+	}
+
+}
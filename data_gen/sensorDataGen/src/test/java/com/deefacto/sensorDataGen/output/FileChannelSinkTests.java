@@ -0,0 +1,58 @@
+package com.deefacto.sensorDataGen.output;
+
+import com.deefacto.sensorDataGen.Sensor;
+import com.deefacto.sensorDataGen.SensorSpec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileChannelSinkTests {
+
+	private static final SensorSpec SPEC = new SensorSpec("esd", "V", 0, "esd", "esd_data", "sensor_esd_stream", "val");
+	private static final List<Sensor> SENSORS = Arrays.asList(
+			new Sensor("esd", "ESD-001", "A"),
+			new Sensor("esd", "ESD-002", "A"));
+	private static final long T0 = 1752571920L; // 2025-07-15T09:32:00Z
+
+	@Test
+	void perSensorLayoutWritesOneFilePerSensorAcrossFlushes(@TempDir Path dir) throws Exception {
+		// 작은 flush 기준으로 여러 번 flush 되도록 한다
+		try (FileChannelSink sink = new FileChannelSink(dir, 256, 100, FileChannelSink.Layout.PER_SENSOR)) {
+			ZoneWriter writer = sink.openZone(SPEC, SENSORS);
+			for (int i = 0; i < 100; i++) {
+				writer.write(0, T0 + i, i);
+				writer.write(1, T0 + i, -i);
+			}
+		}
+		List<String> lines = Files.readAllLines(dir.resolve("esd/ESD-001.csv"), StandardCharsets.UTF_8);
+		assertThat(lines).hasSize(101);
+		assertThat(lines.get(0)).isEqualTo("timestamp,sensor_type,sensor_id,unit,val");
+		assertThat(lines.get(1)).isEqualTo("2025-07-15T09:32:00Z,esd,ESD-001,V,0");
+		assertThat(lines.get(100)).isEqualTo("2025-07-15T09:33:39Z,esd,ESD-001,V,99");
+		assertThat(Files.readAllLines(dir.resolve("esd/ESD-002.csv"))).hasSize(101).last().asString().endsWith(",-99");
+	}
+
+	@Test
+	void perZoneLayoutGathersAllSensorsIntoOneFile(@TempDir Path dir) throws Exception {
+		try (FileChannelSink sink = new FileChannelSink(dir, 256, 128, FileChannelSink.Layout.PER_ZONE)) {
+			ZoneWriter writer = sink.openZone(SPEC, SENSORS);
+			for (int i = 0; i < 50; i++) {
+				writer.write(0, T0 + i, 1);
+				writer.write(1, T0 + i, 2);
+			}
+		}
+		List<String> lines = Files.readAllLines(dir.resolve("esd/A.csv"), StandardCharsets.UTF_8);
+		assertThat(lines).hasSize(101);
+		assertThat(lines.get(0)).startsWith("timestamp,");
+		assertThat(lines.stream().filter(l -> l.contains(",ESD-001,V,1"))).hasSize(50);
+		assertThat(lines.stream().filter(l -> l.contains(",ESD-002,V,2"))).hasSize(50);
+	}
+
+}
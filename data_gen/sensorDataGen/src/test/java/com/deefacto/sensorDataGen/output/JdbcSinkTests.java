@@ -0,0 +1,106 @@
+package com.deefacto.sensorDataGen.output;
+
+import com.deefacto.sensorDataGen.Sensor;
+import com.deefacto.sensorDataGen.SensorSimulationEngine;
+import com.deefacto.sensorDataGen.SimulationClock;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.deefacto.sensorDataGen.temperature.TempCsvGenerator;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JdbcSinkTests {
+
+	private static HikariDataSource h2(String name) {
+		HikariConfig config = new HikariConfig();
+		config.setJdbcUrl("jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+		config.setMaximumPoolSize(3);
+		return new HikariDataSource(config);
+	}
+
+	private static long query(Connection conn, String sql) throws Exception {
+		try (Statement st = conn.createStatement(); ResultSet rs = st.executeQuery(sql)) {
+			rs.next();
+			return rs.getLong(1);
+		}
+	}
+
+	@Test
+	void backfillsAllSensorTablesInBatches() throws Exception {
+		try (HikariDataSource dataSource = h2("backfill")) {
+			// 배치 크기(97)로 나누어 떨어지지 않는 행 수 -> 마지막 부분 배치도 기록되어야 한다
+			try (JdbcSink sink = new JdbcSink(dataSource, 97, 3);
+				 SensorSimulationEngine engine = new SensorSimulationEngine(SensorSimulationEngine.defaultGenerators(42), 2)) {
+				engine.run(new SimulationClock(LocalDateTime.of(2025, 7, 15, 9, 32, 0), 600), sink);
+			}
+			try (Connection conn = dataSource.getConnection()) {
+				assertThat(query(conn, "SELECT COUNT(*) FROM temp_data")).isEqualTo(600 * 12);
+				assertThat(query(conn, "SELECT COUNT(*) FROM hum_data")).isEqualTo(600 * 12);
+				assertThat(query(conn, "SELECT COUNT(*) FROM esd_data")).isEqualTo(600 * 10);
+				assertThat(query(conn, "SELECT COUNT(*) FROM wind_data")).isEqualTo(600 * 10);
+				assertThat(query(conn, "SELECT COUNT(*) FROM lpm_data")).isEqualTo(600 * 9);
+				assertThat(query(conn, "SELECT COUNT(DISTINCT timestamp) FROM lpm_data")).isEqualTo(600);
+				assertThat(query(conn, "SELECT COUNT(*) FROM lpm_data WHERE val_0_1um <= 0 OR zone_id IS NULL")).isZero();
+				try (Statement st = conn.createStatement();
+					 ResultSet rs = st.executeQuery("SELECT MIN(timestamp), MAX(timestamp), MIN(val), MAX(val) FROM temp_data")) {
+					rs.next();
+					assertThat(rs.getObject(1, LocalDateTime.class)).isEqualTo(LocalDateTime.of(2025, 7, 15, 9, 32, 0));
+					assertThat(rs.getObject(2, LocalDateTime.class)).isEqualTo(LocalDateTime.of(2025, 7, 15, 9, 41, 59));
+					assertThat(rs.getDouble(3)).isBetween(15.0, 27.0);
+					assertThat(rs.getDouble(4)).isBetween(15.0, 27.0);
+				}
+			}
+		}
+	}
+
+	@Test
+	void rejectsBatchesOverPlaceholderLimit() throws Exception {
+		try (HikariDataSource dataSource = h2("limit")) {
+			// 3채널 센서(lpm)의 가장 큰 배치도 바인딩 변수 상한 안에 들어간다
+			assertThat(JdbcSink.MAX_BATCH_ROWS * (5 + 3)).isLessThanOrEqualTo(JdbcSink.MAX_PLACEHOLDERS);
+			assertThatThrownBy(() -> new JdbcSink(dataSource, JdbcSink.MAX_BATCH_ROWS + 1, 1))
+					.isInstanceOf(IllegalArgumentException.class)
+					.hasMessageContaining("batchRows");
+			new JdbcSink(dataSource, JdbcSink.MAX_BATCH_ROWS, 1).close();
+		}
+	}
+
+	@Test
+	void reportsRuntimeFailuresOfBackgroundInserts() throws Exception {
+		try (HikariDataSource h2 = h2("runtime")) {
+			// 테이블은 만들고, 그 뒤 INSERT 연결부터 RuntimeException
+			AtomicInteger connections = new AtomicInteger();
+			DataSource dataSource = (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+					new Class<?>[]{DataSource.class}, (proxy, method, args) -> {
+						if (method.getName().equals("getConnection") && connections.incrementAndGet() > 1) {
+							throw new IllegalStateException("pool is closed");
+						}
+						try {
+							return method.invoke(h2, args);
+						} catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					});
+			JdbcSink sink = new JdbcSink(dataSource, 10, 1);
+			ZoneWriter writer = sink.openZone(TempCsvGenerator.SPEC, List.of(new Sensor("temperature", "TEMP-001", "A")));
+			for (int i = 0; i < 25; i++) writer.write(0, 1752571920L + i, 2125);
+			assertThatThrownBy(sink::close)
+					.isInstanceOf(IOException.class)
+					.hasRootCauseInstanceOf(IllegalStateException.class);
+		}
+	}
+
+}
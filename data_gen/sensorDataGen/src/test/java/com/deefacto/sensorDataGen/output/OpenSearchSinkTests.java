@@ -0,0 +1,130 @@
+package com.deefacto.sensorDataGen.output;
+
+import com.deefacto.sensorDataGen.SensorSimulationEngine;
+import com.deefacto.sensorDataGen.SimulationClock;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpenSearchSinkTests {
+
+	private HttpServer server;
+	private final AtomicInteger requests = new AtomicInteger();
+	private final Map<String, AtomicInteger> indexed = new ConcurrentHashMap<>(); // 인덱스별 색인 문서 수
+	private final Set<String> documents = ConcurrentHashMap.newKeySet(); // 중복 색인 확인용
+	private final AtomicInteger duplicates = new AtomicInteger();
+	private volatile String sample;
+
+	// OpenSearch 대신 _bulk 요청을 받는 stub
+	// 1번째 요청은 통째로 429, 2번째 요청은 첫 항목만 429, 나머지는 모두 성공
+	@BeforeEach
+	void startStub() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/_bulk", this::handleBulk);
+		server.start();
+	}
+
+	@AfterEach
+	void stopStub() {
+		server.stop(0);
+	}
+
+	private void handleBulk(HttpExchange exchange) throws IOException {
+		int n = requests.incrementAndGet();
+		String[] lines = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8).split("\n");
+		assertThat(exchange.getRequestHeaders().getFirst("Content-Type")).isEqualTo("application/x-ndjson");
+		if (n == 1) {
+			respond(exchange, 429, "{\"error\":\"es_rejected_execution_exception\"}");
+			return;
+		}
+		StringBuilder items = new StringBuilder();
+		boolean errors = false;
+		for (int i = 0; i + 1 < lines.length; i += 2) {
+			String index = lines[i].substring(lines[i].indexOf("\"_index\":\"") + 10, lines[i].lastIndexOf('"'));
+			int status = 201;
+			if (n == 2 && i == 0) {
+				status = 429;
+				errors = true;
+			} else {
+				indexed.computeIfAbsent(index, k -> new AtomicInteger()).incrementAndGet();
+				if (!documents.add(lines[i + 1])) duplicates.incrementAndGet();
+				if (lines[i + 1].contains("\"TEMP-001\"")) sample = lines[i + 1];
+			}
+			if (items.length() > 0) items.append(',');
+			items.append("{\"index\":{\"_index\":\"").append(index).append("\",\"_shards\":{\"total\":2,\"failed\":0},\"status\":")
+					.append(status).append("}}");
+		}
+		respond(exchange, 200, "{\"took\":3,\"errors\":" + errors + ",\"items\":[" + items + "]}");
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	@Test
+	void indexesEveryReadingDespiteRejections() throws Exception {
+		URI endpoint = URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+		OpenSearchSink sink = new OpenSearchSink(endpoint, null, null, 400, 3);
+		try (sink; SensorSimulationEngine engine = new SensorSimulationEngine(SensorSimulationEngine.defaultGenerators(42), 2)) {
+			engine.run(new SimulationClock(LocalDateTime.of(2025, 7, 15, 9, 32, 0), 300), sink);
+		}
+		assertThat(sink.getIndexedDocs()).isEqualTo(300 * 53);
+		assertThat(sink.getFailedDocs()).isZero();
+		assertThat(sink.getRejections()).isEqualTo(2);
+		assertThat(duplicates.get()).isZero();
+		assertThat(indexed.get("sensor_temp_stream").get()).isEqualTo(300 * 12);
+		assertThat(indexed.get("sensor_esd_stream").get()).isEqualTo(300 * 10);
+		assertThat(indexed.get("sensor_particle_stream").get()).isEqualTo(300 * 9);
+		assertThat(sample).matches("\\{\"sensor_id\":\"TEMP-001\",\"zone_id\":\"A\",\"sensor_type\":\"temperature\","
+				+ "\"unit\":\"°C\",\"timestamp\":\"2025-07-15T09:3\\d:\\d\\dZ\",\"val\":\\d\\d\\.\\d\\d}");
+	}
+
+	@Test
+	void batchSizeShrinksOnRejectionAndGrowsOnFastResponses() {
+		BulkBatchSizer sizer = new BulkBatchSizer(1000, 50, 5000, 500_000_000L);
+		sizer.onRejected();
+		assertThat(sizer.size()).isEqualTo(500);
+		sizer.onSuccess(600_000_000L);
+		assertThat(sizer.size()).isEqualTo(375);
+		sizer.onSuccess(100_000_000L);
+		assertThat(sizer.size()).isEqualTo(375 + 46);
+		for (int i = 0; i < 100; i++) sizer.onRejected();
+		assertThat(sizer.size()).isEqualTo(50);
+	}
+
+	@Test
+	void readsItemStatusesRegardlessOfLayout() throws Exception {
+		assertThat(OpenSearchSink.itemErrors("{\"took\":3,\"errors\":false,\"items\":[{\"index\":{\"status\":201}}]}", 1)).isNull();
+		// 공백과 필드 순서가 달라도, error.reason 안에 "status": 가 있어도 항목별 status를 순서대로 읽는다
+		String body = "{\n  \"items\" : [\n"
+				+ "    { \"create\" : { \"error\" : { \"type\" : \"mapper_parsing_exception\", \"reason\" : \"bad \\\"status\\\": 999\" }, \"status\" : 400 } },\n"
+				+ "    { \"index\" : { \"status\" : 429, \"_index\" : \"sensor_temp_stream\" } },\n"
+				+ "    { \"index\" : { \"_shards\" : { \"total\" : 2 }, \"status\" : 201 } }\n"
+				+ "  ],\n  \"took\" : 5,\n  \"errors\" : true\n}";
+		assertThat(OpenSearchSink.itemErrors(body, 3)).containsExactly(400, 429, 201);
+		assertThatThrownBy(() -> OpenSearchSink.itemErrors(body, 2)).isInstanceOf(IOException.class);
+		assertThatThrownBy(() -> OpenSearchSink.itemErrors(body, 4)).isInstanceOf(IOException.class);
+		assertThatThrownBy(() -> OpenSearchSink.itemErrors("{\"errors\":true}", 1)).isInstanceOf(IOException.class);
+	}
+
+}
@@ -0,0 +1,104 @@
+package com.deefacto.sensorDataGen.output;
+
+import com.deefacto.sensorDataGen.Sensor;
+import com.deefacto.sensorDataGen.SensorSpec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RollingFileSinkTests {
+
+	private static final SensorSpec SPEC = new SensorSpec("esd", "V", 0, "esd", "esd_data", "sensor_esd_stream", "val");
+	private static final List<Sensor> SENSORS = Arrays.asList(
+			new Sensor("esd", "ESD-001", "A"),
+			new Sensor("esd", "ESD-002", "A"));
+	private static final long T0 = 1752571920L; // 2025-07-15T09:32:00Z
+
+	@Test
+	void rollsHourlyIntoDateDirectories(@TempDir Path dir) throws Exception {
+		// 09:32 ~ 11:31:59 -> 09, 10, 11시 파일
+		try (RollingFileSink sink = new RollingFileSink(dir)) {
+			ZoneWriter writer = sink.openZone(SPEC, SENSORS);
+			for (int i = 0; i < 7200; i++) {
+				writer.write(0, T0 + i, 1);
+				writer.write(1, T0 + i, 2);
+			}
+		}
+		Path day = dir.resolve("esd/2025-07-15");
+		List<String> first = Files.readAllLines(day.resolve("ESD-001_09:00~10:00.csv"), StandardCharsets.UTF_8);
+		assertThat(first).hasSize(1 + 28 * 60);
+		assertThat(first.get(0)).isEqualTo("timestamp,sensor_type,sensor_id,unit,val");
+		assertThat(first.get(1)).isEqualTo("2025-07-15T09:32:00Z,esd,ESD-001,V,1");
+		assertThat(first.get(first.size() - 1)).startsWith("2025-07-15T09:59:59Z");
+		List<String> second = Files.readAllLines(day.resolve("ESD-002_10:00~11:00.csv"), StandardCharsets.UTF_8);
+		assertThat(second).hasSize(1 + 3600);
+		assertThat(second.get(1)).isEqualTo("2025-07-15T10:00:00Z,esd,ESD-002,V,2");
+		assertThat(Files.readAllLines(day.resolve("ESD-001_11:00~12:00.csv"))).hasSize(1 + 32 * 60);
+		// 미리 열어 둔 12시 파일은 쓰이지 않았으므로 남지 않는다
+		try (Stream<Path> files = Files.list(day)) {
+			assertThat(files).hasSize(6);
+		}
+	}
+
+	@Test
+	void rollsBySizeWithinWindow(@TempDir Path dir) throws Exception {
+		// 행 하나가 37byte이므로 1000byte 기준이면 약 27행마다 다음 순번 파일
+		try (RollingFileSink sink = new RollingFileSink(dir, 3600, 1000, 256, 256, FileChannelSink.Layout.PER_SENSOR)) {
+			ZoneWriter writer = sink.openZone(SPEC, SENSORS);
+			for (int i = 0; i < 100; i++) {
+				writer.write(0, T0 + i, 7);
+				writer.write(1, T0 + i, 7);
+			}
+		}
+		Path day = dir.resolve("esd/2025-07-15");
+		assertThat(Files.exists(day.resolve("ESD-001_09:00~10:00.csv"))).isTrue();
+		assertThat(Files.exists(day.resolve("ESD-001_09:00~10:00_1.csv"))).isTrue();
+		long rows = 0;
+		try (Stream<Path> files = Files.list(day)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				List<String> lines = Files.readAllLines(file);
+				assertThat(lines.get(0)).startsWith("timestamp,");
+				assertThat(Files.size(file)).isLessThan(1000 + 64);
+				rows += lines.size() - 1;
+			}
+		}
+		assertThat(rows).isEqualTo(200);
+	}
+
+	@Test
+	void keepsFilesOfEarlierRuns(@TempDir Path dir) throws Exception {
+		// 같은 디렉토리에 이전 실행의 09시 파일과 (미리 열렸다 버려지는) 10시 파일이 있으면 덮어쓰거나 지우지 않는다
+		Path day = Files.createDirectories(dir.resolve("esd/2025-07-15"));
+		Path old = day.resolve("ESD-001_09:00~10:00.csv");
+		Path next = day.resolve("ESD-001_10:00~11:00.csv");
+		Files.writeString(old, "earlier run\n");
+		Files.writeString(next, "earlier run\n");
+		try (RollingFileSink sink = new RollingFileSink(dir)) {
+			ZoneWriter writer = sink.openZone(SPEC, SENSORS);
+			sink.prepare(T0);
+			for (int i = 0; i < 60; i++) {
+				writer.write(0, T0 + i, 1);
+				writer.write(1, T0 + i, 2);
+			}
+		}
+		assertThat(Files.readString(old)).isEqualTo("earlier run\n");
+		assertThat(Files.readString(next)).isEqualTo("earlier run\n");
+		// zone 파일 묶음 전체가 다음 순번으로
+		assertThat(Files.readAllLines(day.resolve("ESD-001_09:00~10:00_1.csv"))).hasSize(1 + 60);
+		assertThat(Files.readAllLines(day.resolve("ESD-002_09:00~10:00_1.csv"))).hasSize(1 + 60);
+		try (Stream<Path> files = Files.list(day)) {
+			assertThat(files.map(f -> f.getFileName().toString())).containsExactlyInAnyOrder(
+					"ESD-001_09:00~10:00.csv", "ESD-001_10:00~11:00.csv",
+					"ESD-001_09:00~10:00_1.csv", "ESD-002_09:00~10:00_1.csv");
+		}
+	}
+
+}